@@ -0,0 +1,50 @@
+package org.example.simulation;
+
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.config.SimulationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times placing the VMs on hosts with the built-in best fit and the indexed best fit, at growing
+ * host counts. Placement happens when the simulation starts, so each measurement is a whole run
+ * with a single cloudlet, which keeps everything after placement negligible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class AllocationBenchmark {
+    private static final int DATACENTERS = 1;
+    private static final int VMS_PER_HOST = 4;
+    private static final int CLOUDLETS = 1;
+
+    @Param({"100", "1000", "5000"})
+    public int hosts;
+
+    @Param({"BEST_FIT", "INDEXED_BEST_FIT"})
+    public AllocationPolicy policy;
+
+    private CloudSimPlusSimulator simulator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SimulationConfig config = new SimulationConfig.Builder(DATACENTERS, hosts, hosts * VMS_PER_HOST, CLOUDLETS)
+                .allocationPolicy(policy)
+                .build();
+        simulator = new CloudSimPlusSimulator(config);
+        simulator.createDatacenters();
+        simulator.createBroker();
+        simulator.createVms();
+        simulator.createCloudlets();
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator placeVms() {
+        simulator.startSimulation();
+        return simulator;
+    }
+}
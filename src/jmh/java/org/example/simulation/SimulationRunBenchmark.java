@@ -0,0 +1,72 @@
+package org.example.simulation;
+
+import org.example.simulation.config.SimulationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the event loop ({@code simulation.start()}) and result collection separately.
+ * Everything a phase depends on is built in the setup, outside the measurement.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SimulationRunBenchmark {
+    private static final int DATACENTERS = 2;
+
+    @State(Scope.Thread)
+    public static class Scale {
+        @Param({"10", "100", "1000"})
+        public int hostsPerDatacenter;
+
+        @Param({"100", "1000", "10000"})
+        public int cloudlets;
+
+        CloudSimPlusSimulator newSimulator() {
+            int vms = DATACENTERS * hostsPerDatacenter;
+            CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(
+                    new SimulationConfig(DATACENTERS, hostsPerDatacenter, vms, cloudlets));
+            simulator.createDatacenters();
+            simulator.createBroker();
+            simulator.createVms();
+            simulator.createCloudlets();
+            return simulator;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ReadyToStart {
+        CloudSimPlusSimulator simulator;
+
+        @Setup(Level.Iteration)
+        public void setUp(Scale scale) {
+            simulator = scale.newSimulator();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Finished {
+        CloudSimPlusSimulator simulator;
+
+        @Setup(Level.Iteration)
+        public void setUp(Scale scale) {
+            simulator = scale.newSimulator();
+            simulator.startSimulation();
+        }
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator start(ReadyToStart state) {
+        state.simulator.startSimulation();
+        return state.simulator;
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator collectResults(Finished state) {
+        state.simulator.collectResults();
+        return state.simulator;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.simulation;
+
+import org.example.simulation.config.SimulationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times building the datacenters (hosts and PEs) and the VMs, at growing host counts.
+ * Each measurement is one cold build on a fresh simulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TopologyBenchmark {
+    private static final int DATACENTERS = 1;
+    private static final int VMS_PER_HOST = 2;
+    private static final int CLOUDLETS = 1;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int hosts;
+
+    private CloudSimPlusSimulator simulator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulator = new CloudSimPlusSimulator(
+                new SimulationConfig(DATACENTERS, hosts, hosts * VMS_PER_HOST, CLOUDLETS));
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator createDatacenters() {
+        simulator.createDatacenters();
+        return simulator;
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator createVms() {
+        // VMs are only submitted here; the datacenters are a prerequisite, not part of the phase
+        simulator.createBroker();
+        simulator.createVms();
+        return simulator;
+    }
+}
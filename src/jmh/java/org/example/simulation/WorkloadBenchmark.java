@@ -0,0 +1,41 @@
+package org.example.simulation;
+
+import org.example.simulation.config.SimulationConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times creating and submitting the cloudlets, from 100 up to a million.
+ * Run with {@code -prof gc} to see the allocation rate per cloudlet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class WorkloadBenchmark {
+    private static final int DATACENTERS = 1;
+    private static final int HOSTS = 10;
+    private static final int VMS = 20;
+
+    @Param({"100", "10000", "100000", "1000000"})
+    public int cloudlets;
+
+    private CloudSimPlusSimulator simulator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulator = new CloudSimPlusSimulator(new SimulationConfig(DATACENTERS, HOSTS, VMS, cloudlets));
+        simulator.createDatacenters();
+        simulator.createBroker();
+        simulator.createVms();
+    }
+
+    @Benchmark
+    public CloudSimPlusSimulator createCloudlets() {
+        simulator.createCloudlets();
+        return simulator;
+    }
+}
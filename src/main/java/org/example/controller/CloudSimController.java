@@ -1,54 +1,370 @@
 package org.example.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.cache.CacheStats;
+import org.example.model.cache.ResultStoreStats;
+import org.example.model.chart.ChartAggregates;
+import org.example.model.chart.ChartSeries;
+import org.example.model.chart.Histogram;
+import org.example.model.job.SimulationJob;
+import org.example.model.job.SimulationRequest;
+import org.example.model.pricing.CostReport;
+import org.example.model.result.CloudletPage;
 import org.example.model.result.SimulationResult;
 import org.example.model.result.SimulationSummary;
+import org.example.model.result.UtilizationPage;
+import org.example.model.stats.CloudletQuery;
+import org.example.model.stats.CloudletSortKey;
 import org.example.model.stats.CloudletStats;
 import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.UtilizationSeries;
 import org.example.model.stats.VmStats;
+import org.example.service.AdmissionService;
+import org.example.service.ChartService;
 import org.example.service.CloudSimService;
+import org.example.service.CostService;
+import org.example.service.SimulationResultCache;
+import org.example.service.SimulationJobService;
+import org.example.service.SimulationResultStore;
+import org.example.service.UtilizationService;
+import org.example.simulation.config.SimulationConfig;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/cloudsim")
 @CrossOrigin(origins = "*")
 public class CloudSimController {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    // Rows written between explicit flushes of a streamed response
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private static final String RUN_ID_HEADER = "X-Run-Id";
+
     private final CloudSimService cloudSimService;
+    private final SimulationJobService jobService;
+    private final AdmissionService admissionService;
+    private final SimulationResultCache resultCache;
+    private final SimulationResultStore resultStore;
+    private final CostService costService;
+    private final ChartService chartService;
+    private final UtilizationService utilizationService;
+    private final ObjectMapper objectMapper;
+    // Streamed responses flush in batches, not after every row
+    private final ObjectWriter streamRowWriter;
 
-    public CloudSimController(CloudSimService cloudSimService) {
+    public CloudSimController(CloudSimService cloudSimService, SimulationJobService jobService,
+                              AdmissionService admissionService,
+                              SimulationResultCache resultCache, SimulationResultStore resultStore,
+                              CostService costService, ChartService chartService,
+                              UtilizationService utilizationService, ObjectMapper objectMapper) {
         this.cloudSimService = cloudSimService;
+        this.jobService = jobService;
+        this.admissionService = admissionService;
+        this.resultCache = resultCache;
+        this.resultStore = resultStore;
+        this.costService = costService;
+        this.chartService = chartService;
+        this.utilizationService = utilizationService;
+        this.objectMapper = objectMapper;
+        this.streamRowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
-    @GetMapping("/run")
-    public ResponseEntity<SimulationResult> runSimulation(
-            @RequestParam(defaultValue = "3") int datacenters,
-            @RequestParam(defaultValue = "5") int hostsPerDatacenter,
-            @RequestParam(defaultValue = "15") int vms,
-            @RequestParam(defaultValue = "30") int cloudlets) {
+    /**
+     * Runs through the job engine; the run ID is returned in the X-Run-Id header.
+     */
+    @GetMapping(value = "/run", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ColumnarResultConverter.COLUMNAR_JSON_VALUE, ColumnarResultConverter.COLUMNAR_BINARY_VALUE})
+    public CompletableFuture<ResponseEntity<SimulationResult>> runSimulation(SimulationRequest request) {
+        try {
+            SimulationJob job = jobService.submit(request.toConfig());
+            return job.getFuture().thenApply(result -> {
+                // A job retired before the future was read no longer holds its result
+                SimulationResult stored = result != null
+                        ? result
+                        : cloudSimService.findResult(job.getId()).orElse(null);
+                return stored != null
+                        ? ResponseEntity.ok().header(RUN_ID_HEADER, job.getId()).body(stored)
+                        : ResponseEntity.status(HttpStatus.GONE).build();
+            });
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+    }
 
-        SimulationResult result = cloudSimService.runSimulation(datacenters, hostsPerDatacenter, vms, cloudlets);
-        return ResponseEntity.ok(result);
+    @GetMapping("/run/summary")
+    public CompletableFuture<ResponseEntity<SimulationSummary>> runSimulationSummary(SimulationRequest request) {
+        return runSimulation(request)
+                .thenApply(response -> response.getBody() != null
+                        ? ResponseEntity.ok(response.getBody().getSummary())
+                        : ResponseEntity.status(response.getStatusCode()).build());
+    }
+
+    @GetMapping("/estimate")
+    public ResponseEntity<AdmissionDecision> estimate(SimulationRequest request) {
+        try {
+            SimulationConfig config = request.toConfig();
+            cloudSimService.validate(config);
+            return ResponseEntity.ok(admissionService.admit(config));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Below, runId defaults to the run that finished last; an unknown or expired run ID is a 404
+
+    /**
+     * Also served as columnar JSON (?format=columnar) or typed arrays (?format=binary).
+     */
+    @GetMapping(value = "/result", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ColumnarResultConverter.COLUMNAR_JSON_VALUE, ColumnarResultConverter.COLUMNAR_BINARY_VALUE})
+    public ResponseEntity<SimulationResult> getResult(@RequestParam(required = false) String runId) {
+        return fromRun(runId, Function.identity(),
+                () -> new SimulationResult(List.of(), List.of(), List.of(), new SimulationSummary()));
     }
 
     @GetMapping("/datacenter-stats")
-    public ResponseEntity<List<DatacenterStats>> getDatacenterStats() {
-        return ResponseEntity.ok(cloudSimService.getLastSimulationDatacenterStats());
+    public ResponseEntity<List<DatacenterStats>> getDatacenterStats(@RequestParam(required = false) String runId) {
+        return fromRun(runId, SimulationResult::getDatacenterStats, ArrayList::new);
     }
 
     @GetMapping("/cloudlet-stats")
-    public ResponseEntity<List<CloudletStats>> getCloudletStats() {
-        return ResponseEntity.ok(cloudSimService.getLastSimulationCloudletStats());
+    public ResponseEntity<List<CloudletStats>> getCloudletStats(@RequestParam(required = false) String runId) {
+        return fromRun(runId, SimulationResult::getCloudletStats, ArrayList::new);
+    }
+
+    /**
+     * @param sort Field name and optional direction, e.g. "finishTime,desc"
+     */
+    @GetMapping("/cloudlet-stats/query")
+    public ResponseEntity<CloudletPage> queryCloudletStats(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) Long vmId,
+            @RequestParam(required = false) Long datacenterId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Double startFrom,
+            @RequestParam(required = false) Double startTo,
+            @RequestParam(required = false) Double finishFrom,
+            @RequestParam(required = false) Double finishTo,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String runId) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String[] sortParts = sort.split(",");
+        CloudletQuery query = new CloudletQuery()
+                .setPage(page)
+                .setSize(size)
+                .setVmId(vmId)
+                .setDatacenterId(datacenterId)
+                .setStatus(status)
+                .setStartFrom(startFrom)
+                .setStartTo(startTo)
+                .setFinishFrom(finishFrom)
+                .setFinishTo(finishTo)
+                .setDescending(sortParts.length > 1 && sortParts[1].trim().equalsIgnoreCase("desc"));
+        try {
+            query.setSortKey(CloudletSortKey.fromProperty(sortParts[0].trim()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return fromRun(runId, result -> result.getCloudletIndex().query(query),
+                () -> new CloudletPage(new ArrayList<>(), query.getPage(), query.getSize(), 0));
+    }
+
+    @GetMapping(value = "/cloudlet-stats/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamCloudletStatsNdjson(@RequestParam(required = false) String runId) {
+        Optional<List<CloudletStats>> found = findCloudletStats(runId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<CloudletStats> rows = found.get();
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                int written = 0;
+                for (CloudletStats row : rows) {
+                    streamRowWriter.writeValue(generator, row);
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.writeRaw('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/cloudlet-stats/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCloudletStatsJson(@RequestParam(required = false) String runId) {
+        Optional<List<CloudletStats>> found = findCloudletStats(runId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<CloudletStats> rows = found.get();
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                int written = 0;
+                for (CloudletStats row : rows) {
+                    streamRowWriter.writeValue(generator, row);
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/vm-stats")
-    public ResponseEntity<List<VmStats>> getVmStats() {
-        return ResponseEntity.ok(cloudSimService.getLastSimulationVmStats());
+    public ResponseEntity<List<VmStats>> getVmStats(@RequestParam(required = false) String runId) {
+        return fromRun(runId, SimulationResult::getVmStats, ArrayList::new);
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<SimulationSummary> getSimulationSummary() {
-        return ResponseEntity.ok(cloudSimService.getLastSimulationSummary());
+    public ResponseEntity<SimulationSummary> getSimulationSummary(@RequestParam(required = false) String runId) {
+        return fromRun(runId, SimulationResult::getSummary, SimulationSummary::new);
+    }
+
+    @GetMapping("/cost")
+    public ResponseEntity<CostReport> getCost(@RequestParam(defaultValue = "20") int bins,
+                                              @RequestParam(required = false) String runId) {
+        if (bins < 1 || bins > CostService.MAX_BINS) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<CostReport> report = costService.getCost(runId, bins);
+        if (report.isEmpty() && runId != null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(report.orElseGet(CostReport::empty));
+    }
+
+    @GetMapping("/charts/series")
+    public ResponseEntity<ChartSeries> getChartSeries(@RequestParam(defaultValue = "id") String x,
+                                                     @RequestParam(defaultValue = "executionTime") String y,
+                                                     @RequestParam(defaultValue = "500") int points,
+                                                     @RequestParam(required = false) String runId) {
+        if (points < ChartService.MIN_POINTS || points > ChartService.MAX_POINTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        CloudletSortKey orderBy;
+        CloudletSortKey field;
+        try {
+            orderBy = CloudletSortKey.fromProperty(x);
+            field = CloudletSortKey.fromProperty(y);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ChartSeries> series = chartService.getSeries(runId, orderBy, field, points);
+        if (series.isEmpty() && runId != null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(series.orElseGet(() -> ChartSeries.empty(orderBy.getProperty(), field.getProperty())));
+    }
+
+    @GetMapping("/charts/aggregates")
+    public ResponseEntity<ChartAggregates> getChartAggregates(@RequestParam(required = false) String runId) {
+        Optional<ChartAggregates> aggregates = chartService.getAggregates(runId);
+        if (aggregates.isEmpty() && runId != null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(aggregates.orElseGet(ChartAggregates::empty));
+    }
+
+    @GetMapping("/charts/histogram")
+    public ResponseEntity<Histogram> getChartHistogram(@RequestParam(defaultValue = "executionTime") String field,
+                                                       @RequestParam(defaultValue = "30") int bins,
+                                                       @RequestParam(required = false) String runId) {
+        if (bins < 1 || bins > ChartService.MAX_BINS) {
+            return ResponseEntity.badRequest().build();
+        }
+        CloudletSortKey key;
+        try {
+            key = CloudletSortKey.fromProperty(field);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<Histogram> histogram = chartService.getHistogram(runId, key, bins);
+        if (histogram.isEmpty() && runId != null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(histogram.orElseGet(() -> Histogram.empty(key.getProperty())));
+    }
+
+    @GetMapping("/utilization")
+    public ResponseEntity<UtilizationPage> getUtilization(@RequestParam(defaultValue = "host") String entity,
+                                                          @RequestParam(required = false) List<Long> ids,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "100") int size,
+                                                          @RequestParam(required = false) String runId) {
+        if (page < 0 || size < 1 || size > UtilizationService.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        UtilizationSeries.Entity type;
+        try {
+            type = UtilizationSeries.Entity.fromName(entity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<UtilizationPage> utilization = utilizationService.getUtilization(runId, type, ids, page, size);
+        if (utilization.isEmpty() && runId != null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(utilization.orElseGet(
+                () -> UtilizationPage.empty(type.name().toLowerCase(Locale.ROOT), page, size)));
+    }
+
+    private <T> ResponseEntity<T> fromRun(String runId, Function<SimulationResult, T> part, Supplier<T> empty) {
+        Optional<SimulationResult> result = cloudSimService.findResult(runId);
+        if (result.isPresent()) {
+            return ResponseEntity.ok(part.apply(result.get()));
+        }
+        return runId == null ? ResponseEntity.ok(empty.get()) : ResponseEntity.notFound().build();
+    }
+
+    private Optional<List<CloudletStats>> findCloudletStats(String runId) {
+        Optional<List<CloudletStats>> rows = cloudSimService.findResult(runId).map(SimulationResult::getCloudletStats);
+        return runId == null && rows.isEmpty() ? Optional.of(List.of()) : rows;
+    }
+
+    @GetMapping("/results/stats")
+    public ResponseEntity<ResultStoreStats> getResultStoreStats() {
+        return ResponseEntity.ok(resultStore.getStats());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> getCacheStats() {
+        return ResponseEntity.ok(resultCache.getStats());
+    }
+
+    @DeleteMapping("/cache")
+    public ResponseEntity<Void> clearCache() {
+        resultCache.clear();
+        return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.result.SimulationResult;
+import org.example.storage.ColumnarResultEncoder;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes simulation results in the column-oriented formats of {@link ColumnarResultEncoder},
+ * for requests that ask for them in the Accept header (or with ?format=columnar / binary).
+ * Endpoints returning a result list {@code application/json} first in their {@code produces},
+ * so clients that accept anything still get the regular JSON.
+ */
+@Component
+public class ColumnarResultConverter extends AbstractHttpMessageConverter<SimulationResult> {
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.cloudsim.columnar+json";
+    public static final String COLUMNAR_BINARY_VALUE = "application/vnd.cloudsim.columnar";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+    public static final MediaType COLUMNAR_BINARY = MediaType.parseMediaType(COLUMNAR_BINARY_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarResultConverter(ObjectMapper objectMapper) {
+        super(COLUMNAR_JSON, COLUMNAR_BINARY);
+        this.objectMapper = ColumnarResultEncoder.withFastDoubles(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SimulationResult.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SimulationResult readInternal(Class<? extends SimulationResult> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar results are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SimulationResult result, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        if (COLUMNAR_BINARY.isCompatibleWith(contentType)) {
+            ColumnarResultEncoder.writeBinary(outputMessage.getBody(), objectMapper, result);
+        } else {
+            ColumnarResultEncoder.writeJson(outputMessage.getBody(), objectMapper, result);
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package org.example.controller;
 
+import org.example.model.pricing.PricingImportResult;
+import org.example.model.pricing.PricingImportRow;
 import org.example.model.pricing.PricingInfo;
-import org.example.repository.PricingInfoRepository;
+import org.example.model.pricing.PricingRate;
+import org.example.service.PricingImportService;
+import org.example.service.PricingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -12,15 +20,43 @@ import java.util.List;
 public class PricingController {
 
     @Autowired
-    private PricingInfoRepository pricingRepo;
+    private PricingService pricingService;
+
+    @Autowired
+    private PricingImportService pricingImportService;
 
     @GetMapping
-    public List<PricingInfo> getAllPricing() {
-        return pricingRepo.findAll();
+    public List<PricingRate> getAllPricing() {
+        return pricingService.getRateTable().getRates();
     }
 
     @PostMapping
     public PricingInfo createPricing(@RequestBody PricingInfo pricingInfo) {
-        return pricingRepo.save(pricingInfo);
+        return pricingService.createPricing(pricingInfo);
+    }
+
+    /**
+     * Imports a whole catalog in one transaction, given as a JSON array of rows.
+     */
+    @PostMapping(value = "/bulk", consumes = "application/json")
+    public ResponseEntity<PricingImportResult> importPricing(@RequestBody List<PricingImportRow> rows) {
+        try {
+            return ResponseEntity.ok(pricingImportService.importRows(rows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Imports a whole catalog streamed as CSV with a header line
+     * (provider,serviceType,unitPrice,unit).
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<PricingImportResult> importPricingCsv(InputStream body) {
+        try {
+            return ResponseEntity.ok(pricingImportService.importCsv(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
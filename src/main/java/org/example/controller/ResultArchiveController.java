@@ -0,0 +1,98 @@
+package org.example.controller;
+
+import org.example.model.archive.ArchiveInfo;
+import org.example.model.result.CloudletPage;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.VmStats;
+import org.example.service.CloudSimService;
+import org.example.service.ResultArchiveService;
+import org.example.service.SimulationResultStore.StoredRun;
+import org.example.storage.ResultArchive;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Archives runs to compact binary files and serves them back from memory-mapped storage.
+ */
+@RestController
+@RequestMapping("/api/cloudsim/archive")
+@CrossOrigin(origins = "*")
+public class ResultArchiveController {
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final CloudSimService cloudSimService;
+    private final ResultArchiveService archiveService;
+
+    public ResultArchiveController(CloudSimService cloudSimService, ResultArchiveService archiveService) {
+        this.cloudSimService = cloudSimService;
+        this.archiveService = archiveService;
+    }
+
+    /**
+     * Archives the result of a run, by default the run that finished last.
+     */
+    @PostMapping
+    public ResponseEntity<ArchiveInfo> archiveRun(@RequestParam(required = false) String runId) throws IOException {
+        Optional<StoredRun> run = cloudSimService.findRun(runId);
+        if (run.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ArchiveInfo info = archiveService.archive(run.get().config(), run.get().result());
+        return ResponseEntity.status(HttpStatus.CREATED).body(info);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchiveInfo>> listArchives() throws IOException {
+        return ResponseEntity.ok(archiveService.list());
+    }
+
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ColumnarResultConverter.COLUMNAR_JSON_VALUE, ColumnarResultConverter.COLUMNAR_BINARY_VALUE})
+    public ResponseEntity<SimulationResult> getResult(@PathVariable String id) throws IOException {
+        return ResponseEntity.of(archiveService.open(id).map(ResultArchive::getResult));
+    }
+
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<SimulationSummary> getSummary(@PathVariable String id) throws IOException {
+        return ResponseEntity.of(archiveService.open(id).map(archive -> archive.getResult().getSummary()));
+    }
+
+    @GetMapping("/{id}/vm-stats")
+    public ResponseEntity<List<VmStats>> getVmStats(@PathVariable String id) throws IOException {
+        return ResponseEntity.of(archiveService.open(id).map(archive -> archive.getResult().getVmStats()));
+    }
+
+    /**
+     * Pages through the cloudlet stats in stored order; only the requested rows are decoded.
+     */
+    @GetMapping("/{id}/cloudlet-stats")
+    public ResponseEntity<CloudletPage> getCloudletStats(@PathVariable String id,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "100") int size) throws IOException {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ResultArchive> archive = archiveService.open(id);
+        if (archive.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<CloudletStats> rows = archive.get().getResult().getCloudletStats();
+        long from = Math.min((long) page * size, rows.size());
+        int to = (int) Math.min(from + size, rows.size());
+        return ResponseEntity.ok(new CloudletPage(new ArrayList<>(rows.subList((int) from, to)), page, size, rows.size()));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteArchive(@PathVariable String id) throws IOException {
+        return archiveService.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.controller;
+
+import org.example.model.history.SimulationRun;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.VmStats;
+import org.example.service.SimulationHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Read access to persisted simulation runs (see cloudsim.history.enabled).
+ */
+@RestController
+@RequestMapping("/api/cloudsim/history")
+@CrossOrigin(origins = "*")
+public class SimulationHistoryController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final SimulationHistoryService historyService;
+
+    public SimulationHistoryController(SimulationHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    /**
+     * Lists runs newest first, without their VM and cloudlet rows.
+     */
+    @GetMapping
+    public ResponseEntity<List<SimulationRun>> listRuns(@RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(historyService.listRuns(page, size));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulationRun> getRun(@PathVariable String id) {
+        return ResponseEntity.of(historyService.getRun(id));
+    }
+
+    @GetMapping("/{id}/vm-stats")
+    public ResponseEntity<List<VmStats>> getVmStats(@PathVariable String id) {
+        return ResponseEntity.of(historyService.getVmStats(id));
+    }
+
+    @GetMapping("/{id}/cloudlet-stats")
+    public ResponseEntity<List<CloudletStats>> getCloudletStats(@PathVariable String id) {
+        return ResponseEntity.of(historyService.getCloudletStats(id));
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.controller;
+
+import org.example.model.job.JobStatus;
+import org.example.model.job.SimulationJob;
+import org.example.model.job.SimulationRequest;
+import org.example.model.result.SimulationResult;
+import org.example.service.CloudSimService;
+import org.example.service.SimulationJobService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/cloudsim/jobs")
+@CrossOrigin(origins = "*")
+public class SimulationJobController {
+    private final SimulationJobService jobService;
+    private final CloudSimService cloudSimService;
+
+    public SimulationJobController(SimulationJobService jobService, CloudSimService cloudSimService) {
+        this.jobService = jobService;
+        this.cloudSimService = cloudSimService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SimulationJob> submitJob(SimulationRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.submit(request.toConfig()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulationJob> getJob(@PathVariable String id) {
+        return ResponseEntity.of(jobService.getJob(id));
+    }
+
+    /**
+     * The result of a completed job, read from the result store; 410 once it was evicted or expired.
+     */
+    @GetMapping(value = "/{id}/result", produces = {MediaType.APPLICATION_JSON_VALUE,
+            ColumnarResultConverter.COLUMNAR_JSON_VALUE, ColumnarResultConverter.COLUMNAR_BINARY_VALUE})
+    public ResponseEntity<SimulationResult> getJobResult(@PathVariable String id) {
+        return jobService.getJob(id)
+                .map(job -> job.getStatus() == JobStatus.COMPLETED
+                        ? cloudSimService.findResult(id)
+                                .map(ResponseEntity::ok)
+                                .orElse(ResponseEntity.status(HttpStatus.GONE).build())
+                        : ResponseEntity.status(HttpStatus.CONFLICT).<SimulationResult>build())
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Server-Sent Events stream of the job's progress: simulated clock, finished/total
+     * cloudlets and running averages of execution and wait time.
+     */
+    @GetMapping(value = "/{id}/progress", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> streamJobProgress(@PathVariable String id) {
+        return ResponseEntity.of(jobService.subscribe(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<SimulationJob> cancelJob(@PathVariable String id) {
+        return ResponseEntity.of(jobService.cancel(id));
+    }
+}
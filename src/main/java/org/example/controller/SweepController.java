@@ -0,0 +1,33 @@
+package org.example.controller;
+
+import org.example.model.sweep.SweepRequest;
+import org.example.model.sweep.SweepResult;
+import org.example.service.SweepService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/cloudsim/sweep")
+@CrossOrigin(origins = "*")
+public class SweepController {
+    private final SweepService sweepService;
+
+    public SweepController(SweepService sweepService) {
+        this.sweepService = sweepService;
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<SweepResult>> runSweep(@RequestBody SweepRequest request) {
+        try {
+            return sweepService.runSweep(request).thenApply(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.model.admission;
+
+public enum AdmissionAction {
+    /** The config runs as requested. */
+    ADMITTED,
+    /** The config was over the limits and runs with fewer hosts, VMs and cloudlets. */
+    DOWNSCALED
+}
@@ -0,0 +1,35 @@
+package org.example.model.admission;
+
+import org.example.simulation.config.SimulationConfig;
+
+/**
+ * Outcome of admission control for one config: the config that will actually run, and the
+ * cost estimates it was admitted on.
+ */
+public class AdmissionDecision {
+    private final AdmissionAction action;
+    private final SimulationConfig requestedConfig;
+    private final SimulationConfig config;
+    private final CostEstimate requestedEstimate;
+    private final CostEstimate estimate;
+
+    public AdmissionDecision(AdmissionAction action, SimulationConfig requestedConfig, SimulationConfig config,
+                             CostEstimate requestedEstimate, CostEstimate estimate) {
+        this.action = action;
+        this.requestedConfig = requestedConfig;
+        this.config = config;
+        this.requestedEstimate = requestedEstimate;
+        this.estimate = estimate;
+    }
+
+    public static AdmissionDecision admitted(SimulationConfig config, CostEstimate estimate) {
+        return new AdmissionDecision(AdmissionAction.ADMITTED, config, config, estimate, estimate);
+    }
+
+    // Getters
+    public AdmissionAction getAction() { return action; }
+    public SimulationConfig getRequestedConfig() { return requestedConfig; }
+    public SimulationConfig getConfig() { return config; }
+    public CostEstimate getRequestedEstimate() { return requestedEstimate; }
+    public CostEstimate getEstimate() { return estimate; }
+}
@@ -0,0 +1,20 @@
+package org.example.model.admission;
+
+/**
+ * Predicted cost of running one simulation config on this server.
+ */
+public class CostEstimate {
+    private final long heapBytes;
+    private final double cpuSeconds;
+
+    public CostEstimate(long heapBytes, double cpuSeconds) {
+        this.heapBytes = heapBytes;
+        this.cpuSeconds = cpuSeconds;
+    }
+
+    // Getters
+    /** Peak heap the run is expected to take on top of what the server already uses. */
+    public long getHeapBytes() { return heapBytes; }
+    /** Expected wall-clock seconds of the run on one core. */
+    public double getCpuSeconds() { return cpuSeconds; }
+}
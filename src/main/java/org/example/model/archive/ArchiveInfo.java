@@ -0,0 +1,20 @@
+package org.example.model.archive;
+
+import java.time.Instant;
+
+public class ArchiveInfo {
+    private final String id;
+    private final long sizeBytes;
+    private final Instant createdAt;
+
+    public ArchiveInfo(String id, long sizeBytes, Instant createdAt) {
+        this.id = id;
+        this.sizeBytes = sizeBytes;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public long getSizeBytes() { return sizeBytes; }
+    public Instant getCreatedAt() { return createdAt; }
+}
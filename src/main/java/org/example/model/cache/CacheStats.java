@@ -0,0 +1,36 @@
+package org.example.model.cache;
+
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long coalesced;
+    private final long evictions;
+    private final int entries;
+    private final long sizeBytes;
+    private final long maxSizeBytes;
+
+    public CacheStats(long hits, long misses, long coalesced, long evictions,
+                      int entries, long sizeBytes, long maxSizeBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.coalesced = coalesced;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.sizeBytes = sizeBytes;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    // Getters
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getCoalesced() { return coalesced; }
+    public long getEvictions() { return evictions; }
+    public int getEntries() { return entries; }
+    public long getSizeBytes() { return sizeBytes; }
+    public long getMaxSizeBytes() { return maxSizeBytes; }
+
+    public double getHitRatio() {
+        long lookups = hits + misses + coalesced;
+        return lookups == 0 ? 0 : (double) (hits + coalesced) / lookups;
+    }
+}
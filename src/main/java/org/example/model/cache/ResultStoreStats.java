@@ -0,0 +1,31 @@
+package org.example.model.cache;
+
+public class ResultStoreStats {
+    private final int entries;
+    private final long sizeBytes;
+    private final long maxSizeBytes;
+    private final int spilledEntries;
+    private final long evictions;
+    private final long expirations;
+    private final long spills;
+
+    public ResultStoreStats(int entries, long sizeBytes, long maxSizeBytes, int spilledEntries,
+                            long evictions, long expirations, long spills) {
+        this.entries = entries;
+        this.sizeBytes = sizeBytes;
+        this.maxSizeBytes = maxSizeBytes;
+        this.spilledEntries = spilledEntries;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.spills = spills;
+    }
+
+    // Getters
+    public int getEntries() { return entries; }
+    public long getSizeBytes() { return sizeBytes; }
+    public long getMaxSizeBytes() { return maxSizeBytes; }
+    public int getSpilledEntries() { return spilledEntries; }
+    public long getEvictions() { return evictions; }
+    public long getExpirations() { return expirations; }
+    public long getSpills() { return spills; }
+}
@@ -0,0 +1,25 @@
+package org.example.model.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cloudlet totals per datacenter and per VM, in the order of the run's datacenter and VM stats.
+ */
+public class ChartAggregates {
+    private final List<GroupAggregate> datacenters;
+    private final List<GroupAggregate> vms;
+
+    public ChartAggregates(List<GroupAggregate> datacenters, List<GroupAggregate> vms) {
+        this.datacenters = datacenters;
+        this.vms = vms;
+    }
+
+    public static ChartAggregates empty() {
+        return new ChartAggregates(new ArrayList<>(), new ArrayList<>());
+    }
+
+    // Getters
+    public List<GroupAggregate> getDatacenters() { return datacenters; }
+    public List<GroupAggregate> getVms() { return vms; }
+}
@@ -0,0 +1,33 @@
+package org.example.model.chart;
+
+/**
+ * One cloudlet field plotted against another: x holds the values of the field the cloudlets are
+ * ordered by, y the values of the plotted field, downsampled to a bounded number of points.
+ */
+public class ChartSeries {
+    private final String orderBy;
+    private final String field;
+    private final int totalPoints;
+    private final double[] x;
+    private final double[] y;
+
+    public ChartSeries(String orderBy, String field, int totalPoints, double[] x, double[] y) {
+        this.orderBy = orderBy;
+        this.field = field;
+        this.totalPoints = totalPoints;
+        this.x = x;
+        this.y = y;
+    }
+
+    public static ChartSeries empty(String orderBy, String field) {
+        return new ChartSeries(orderBy, field, 0, new double[0], new double[0]);
+    }
+
+    // Getters
+    public String getOrderBy() { return orderBy; }
+    public String getField() { return field; }
+    /** @return Number of cloudlets before downsampling */
+    public int getTotalPoints() { return totalPoints; }
+    public double[] getX() { return x; }
+    public double[] getY() { return y; }
+}
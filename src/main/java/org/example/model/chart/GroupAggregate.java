@@ -0,0 +1,35 @@
+package org.example.model.chart;
+
+/**
+ * Cloudlet totals of one datacenter or VM.
+ */
+public class GroupAggregate {
+    private final long id;
+    private final int cloudlets;
+    private final int completed;
+    private final long totalLength;
+    private final double meanExecutionTime;
+    private final double maxExecutionTime;
+    private final double peSeconds;
+
+    public GroupAggregate(long id, int cloudlets, int completed, long totalLength,
+                          double meanExecutionTime, double maxExecutionTime, double peSeconds) {
+        this.id = id;
+        this.cloudlets = cloudlets;
+        this.completed = completed;
+        this.totalLength = totalLength;
+        this.meanExecutionTime = meanExecutionTime;
+        this.maxExecutionTime = maxExecutionTime;
+        this.peSeconds = peSeconds;
+    }
+
+    // Getters
+    public long getId() { return id; }
+    public int getCloudlets() { return cloudlets; }
+    public int getCompleted() { return completed; }
+    public long getTotalLength() { return totalLength; }
+    public double getMeanExecutionTime() { return meanExecutionTime; }
+    public double getMaxExecutionTime() { return maxExecutionTime; }
+    /** @return Execution time weighted by the PEs each cloudlet used */
+    public double getPeSeconds() { return peSeconds; }
+}
@@ -0,0 +1,35 @@
+package org.example.model.chart;
+
+/**
+ * Fixed-width histogram of a cloudlet field from its minimum to its maximum.
+ * Bin {@code i} covers {@code [min + i * binWidth, min + (i + 1) * binWidth)}; the last bin also holds the maximum.
+ */
+public class Histogram {
+    private final String field;
+    private final int count;
+    private final double min;
+    private final double max;
+    private final double binWidth;
+    private final long[] counts;
+
+    public Histogram(String field, int count, double min, double max, double binWidth, long[] counts) {
+        this.field = field;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.binWidth = binWidth;
+        this.counts = counts;
+    }
+
+    public static Histogram empty(String field) {
+        return new Histogram(field, 0, 0, 0, 0, new long[0]);
+    }
+
+    // Getters
+    public String getField() { return field; }
+    public int getCount() { return count; }
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+    public double getBinWidth() { return binWidth; }
+    public long[] getCounts() { return counts; }
+}
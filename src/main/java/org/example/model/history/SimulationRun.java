@@ -0,0 +1,241 @@
+package org.example.model.history;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import org.example.model.result.TerminationReason;
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.broker.BrokerPolicy;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadType;
+
+import java.time.Instant;
+
+/**
+ * A persisted simulation run: its config and summary. The summary is stored as the JSON the
+ * API returned for it, so it is served back unchanged however the summary model evolves.
+ * VM and cloudlet rows live in {@link SimulationRunVm} and {@link SimulationRunCloudlet}, under
+ * the source run's ID for a run whose result was reused from an earlier run.
+ */
+@Entity
+@Table(name = "simulation_run", indexes = @Index(name = "simulation_run_created_at_idx", columnList = "createdAt"))
+public class SimulationRun {
+
+    @Id
+    private String id;
+
+    private Instant createdAt;
+
+    private String sourceRunId;
+
+    private int datacenters;
+    private int hostsPerDatacenter;
+    private int vms;
+    private int cloudlets;
+    private long randomSeed;
+    @Enumerated(EnumType.STRING)
+    private WorkloadType workloadType;
+    private String traceFile;
+    @Enumerated(EnumType.STRING)
+    private ArrivalProcess arrivalProcess;
+    private double arrivalRate;
+    @Enumerated(EnumType.STRING)
+    private AllocationPolicy allocationPolicy;
+    @Enumerated(EnumType.STRING)
+    private BrokerPolicy brokerPolicy;
+    private double simulationTimeLimit;
+    private double utilizationInterval;
+
+    private int completedCloudlets;
+    @Enumerated(EnumType.STRING)
+    private TerminationReason terminationReason;
+    private double avgExecutionTime;
+    private double avgWaitTime;
+    private double makespan;
+
+    @Column(columnDefinition = "text")
+    private String summaryJson;
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getSourceRunId() {
+        return sourceRunId;
+    }
+
+    public void setSourceRunId(String sourceRunId) {
+        this.sourceRunId = sourceRunId;
+    }
+
+    public int getDatacenters() {
+        return datacenters;
+    }
+
+    public void setDatacenters(int datacenters) {
+        this.datacenters = datacenters;
+    }
+
+    public int getHostsPerDatacenter() {
+        return hostsPerDatacenter;
+    }
+
+    public void setHostsPerDatacenter(int hostsPerDatacenter) {
+        this.hostsPerDatacenter = hostsPerDatacenter;
+    }
+
+    public int getVms() {
+        return vms;
+    }
+
+    public void setVms(int vms) {
+        this.vms = vms;
+    }
+
+    public int getCloudlets() {
+        return cloudlets;
+    }
+
+    public void setCloudlets(int cloudlets) {
+        this.cloudlets = cloudlets;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public void setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+    }
+
+    public WorkloadType getWorkloadType() {
+        return workloadType;
+    }
+
+    public void setWorkloadType(WorkloadType workloadType) {
+        this.workloadType = workloadType;
+    }
+
+    public String getTraceFile() {
+        return traceFile;
+    }
+
+    public void setTraceFile(String traceFile) {
+        this.traceFile = traceFile;
+    }
+
+    public ArrivalProcess getArrivalProcess() {
+        return arrivalProcess;
+    }
+
+    public void setArrivalProcess(ArrivalProcess arrivalProcess) {
+        this.arrivalProcess = arrivalProcess;
+    }
+
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public void setArrivalRate(double arrivalRate) {
+        this.arrivalRate = arrivalRate;
+    }
+
+    public AllocationPolicy getAllocationPolicy() {
+        return allocationPolicy;
+    }
+
+    public void setAllocationPolicy(AllocationPolicy allocationPolicy) {
+        this.allocationPolicy = allocationPolicy;
+    }
+
+    public BrokerPolicy getBrokerPolicy() {
+        return brokerPolicy;
+    }
+
+    public void setBrokerPolicy(BrokerPolicy brokerPolicy) {
+        this.brokerPolicy = brokerPolicy;
+    }
+
+    public double getSimulationTimeLimit() {
+        return simulationTimeLimit;
+    }
+
+    public void setSimulationTimeLimit(double simulationTimeLimit) {
+        this.simulationTimeLimit = simulationTimeLimit;
+    }
+
+    public double getUtilizationInterval() {
+        return utilizationInterval;
+    }
+
+    public void setUtilizationInterval(double utilizationInterval) {
+        this.utilizationInterval = utilizationInterval;
+    }
+
+    public int getCompletedCloudlets() {
+        return completedCloudlets;
+    }
+
+    public void setCompletedCloudlets(int completedCloudlets) {
+        this.completedCloudlets = completedCloudlets;
+    }
+
+    public TerminationReason getTerminationReason() {
+        return terminationReason;
+    }
+
+    public void setTerminationReason(TerminationReason terminationReason) {
+        this.terminationReason = terminationReason;
+    }
+
+    public double getAvgExecutionTime() {
+        return avgExecutionTime;
+    }
+
+    public void setAvgExecutionTime(double avgExecutionTime) {
+        this.avgExecutionTime = avgExecutionTime;
+    }
+
+    public double getAvgWaitTime() {
+        return avgWaitTime;
+    }
+
+    public void setAvgWaitTime(double avgWaitTime) {
+        this.avgWaitTime = avgWaitTime;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    public void setMakespan(double makespan) {
+        this.makespan = makespan;
+    }
+
+    @JsonIgnore
+    public String getSummaryJson() {
+        return summaryJson;
+    }
+
+    public void setSummaryJson(String summaryJson) {
+        this.summaryJson = summaryJson;
+    }
+
+    @JsonRawValue
+    public String getSummary() {
+        return summaryJson;
+    }
+}
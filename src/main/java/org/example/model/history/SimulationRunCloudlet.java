@@ -0,0 +1,29 @@
+package org.example.model.history;
+
+import jakarta.persistence.*;
+
+/**
+ * Schema of the persisted cloudlet rows. Rows are written with COPY and read back into a
+ * column table with plain JDBC (see SimulationHistoryService), never loaded one entity at a time.
+ */
+@Entity
+@Table(name = "simulation_run_cloudlet")
+@IdClass(SimulationRunRowId.class)
+public class SimulationRunCloudlet {
+
+    @Id
+    private String runId;
+
+    @Id
+    private int rowIndex;
+
+    private long cloudletId;
+    private long vmId;
+    private long datacenterId;
+    private int pes;
+    private long length;
+    private double executionTime;
+    private double startTime;
+    private double finishTime;
+    private String status;
+}
@@ -0,0 +1,33 @@
+package org.example.model.history;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Key of a VM or cloudlet row of a persisted run: the run and the row's position in the result.
+ */
+public class SimulationRunRowId implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private String runId;
+    private int rowIndex;
+
+    public SimulationRunRowId() {
+    }
+
+    public SimulationRunRowId(String runId, int rowIndex) {
+        this.runId = runId;
+        this.rowIndex = rowIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SimulationRunRowId other)) return false;
+        return rowIndex == other.rowIndex && Objects.equals(runId, other.runId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(runId, rowIndex);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.model.history;
+
+import jakarta.persistence.*;
+
+/**
+ * Schema of the persisted VM rows. Rows are written and read in bulk with plain JDBC
+ * (see SimulationHistoryService), never loaded one entity at a time.
+ */
+@Entity
+@Table(name = "simulation_run_vm")
+@IdClass(SimulationRunRowId.class)
+public class SimulationRunVm {
+
+    @Id
+    private String runId;
+
+    @Id
+    private int rowIndex;
+
+    private long vmId;
+    private long hostId;
+    private long datacenterId;
+    private int pes;
+    private double mips;
+    private long ram;
+    private long storage;
+    private long bandwidth;
+}
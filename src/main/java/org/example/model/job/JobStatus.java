@@ -0,0 +1,16 @@
+package org.example.model.job;
+
+/**
+ * Lifecycle states of an asynchronous simulation job.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.model.job;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.result.SimulationResult;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A simulation submitted to the job engine. The job ID is also the run ID of its result.
+ */
+public class SimulationJob {
+    private final String id;
+    private final SimulationConfig config;
+    private final AdmissionDecision admission;
+    private final Instant submittedAt;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String errorMessage;
+    private volatile CloudSimPlusSimulator simulator;
+    private volatile SimulationProgress progress;
+    private volatile CompletableFuture<SimulationResult> future = new CompletableFuture<>();
+    // The worker blocked waiting for heap budget, if any; guarded by "this"
+    private Thread admissionWaiter;
+
+    public SimulationJob(String id, AdmissionDecision admission) {
+        this.id = id;
+        this.config = admission.getConfig();
+        this.admission = admission;
+        this.submittedAt = Instant.now();
+    }
+
+    /**
+     * Registers the worker about to wait for the job's heap budget, so cancelling the job
+     * interrupts the wait instead of leaving the worker blocked.
+     *
+     * @return false if the job was cancelled before it got a worker
+     */
+    public synchronized boolean markWaiting(Thread worker) {
+        if (status != JobStatus.QUEUED) {
+            return false;
+        }
+        this.admissionWaiter = worker;
+        return true;
+    }
+
+    /**
+     * @return false if the job was cancelled meanwhile, in which case the budget is to be given back
+     */
+    public synchronized boolean markAdmitted() {
+        this.admissionWaiter = null;
+        return status == JobStatus.QUEUED;
+    }
+
+    /**
+     * @return true if the worker should go on and run the simulation
+     */
+    public synchronized boolean markRunning(CloudSimPlusSimulator simulator) {
+        if (status != JobStatus.QUEUED) {
+            return false;
+        }
+        this.simulator = simulator;
+        this.startedAt = Instant.now();
+        this.status = JobStatus.RUNNING;
+        return true;
+    }
+
+    /**
+     * @return false if the job had already been cancelled, in which case the result is dropped
+     */
+    public synchronized boolean markCompleted(SimulationResult result) {
+        if (status.isFinished()) {
+            return false;
+        }
+        this.simulator = null;
+        this.finishedAt = Instant.now();
+        this.status = JobStatus.COMPLETED;
+        future.complete(result);
+        return true;
+    }
+
+    public synchronized boolean markFailed(Throwable error) {
+        if (status.isFinished()) {
+            return false;
+        }
+        this.simulator = null;
+        this.finishedAt = Instant.now();
+        this.errorMessage = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        this.status = JobStatus.FAILED;
+        future.completeExceptionally(error);
+        return true;
+    }
+
+    /**
+     * @return true if the job was still active and is now cancelled
+     */
+    public synchronized boolean cancel() {
+        if (status.isFinished()) {
+            return false;
+        }
+        if (simulator != null) {
+            simulator.cancel();
+            simulator = null;
+        }
+        this.finishedAt = Instant.now();
+        this.status = JobStatus.CANCELLED;
+        if (admissionWaiter != null) {
+            admissionWaiter.interrupt();
+            admissionWaiter = null;
+        }
+        future.cancel(false);
+        return true;
+    }
+
+    /**
+     * Drops the job's reference to its result; futures obtained later complete with null.
+     */
+    public synchronized void releaseResult() {
+        if (status == JobStatus.COMPLETED) {
+            future = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // Getters
+    public String getId() { return id; }
+    /** The config that runs, which is smaller than the requested one if it was downscaled. */
+    public SimulationConfig getConfig() { return config; }
+    public AdmissionDecision getAdmission() { return admission; }
+    public JobStatus getStatus() { return status; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public String getErrorMessage() { return errorMessage; }
+    public SimulationProgress getProgress() { return progress; }
+
+    public void setProgress(SimulationProgress progress) {
+        this.progress = progress;
+    }
+
+    @JsonIgnore
+    public CompletableFuture<SimulationResult> getFuture() { return future; }
+}
@@ -0,0 +1,35 @@
+package org.example.model.job;
+
+/**
+ * A snapshot of a running simulation, published periodically while the event loop executes.
+ */
+public class SimulationProgress {
+    private final double clock;
+    private final int finishedCloudlets;
+    private final int totalCloudlets;
+    private final double avgExecutionTime;
+    private final double avgWaitTime;
+    private final long wallTimeMillis;
+
+    public SimulationProgress(double clock, int finishedCloudlets, int totalCloudlets,
+                              double avgExecutionTime, double avgWaitTime, long wallTimeMillis) {
+        this.clock = clock;
+        this.finishedCloudlets = finishedCloudlets;
+        this.totalCloudlets = totalCloudlets;
+        this.avgExecutionTime = avgExecutionTime;
+        this.avgWaitTime = avgWaitTime;
+        this.wallTimeMillis = wallTimeMillis;
+    }
+
+    // Getters
+    public double getClock() { return clock; }
+    public int getFinishedCloudlets() { return finishedCloudlets; }
+    public int getTotalCloudlets() { return totalCloudlets; }
+    public double getAvgExecutionTime() { return avgExecutionTime; }
+    public double getAvgWaitTime() { return avgWaitTime; }
+    public long getWallTimeMillis() { return wallTimeMillis; }
+
+    public double getPercentComplete() {
+        return totalCloudlets == 0 ? 0 : 100.0 * finishedCloudlets / totalCloudlets;
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.model.job;
+
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.broker.BrokerPolicy;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadType;
+
+import java.util.Locale;
+
+/**
+ * Query parameters accepted by the endpoints that start a simulation. Anything left out keeps
+ * the defaults the dashboard has always used.
+ */
+public class SimulationRequest {
+    private int datacenters = 3;
+    private int hostsPerDatacenter = 5;
+    private int vms = 15;
+    private int cloudlets = 30;
+    private long seed = 42;
+    private String workload = "random";
+    private String trace;
+    private String arrivals = "batch";
+    private double rate;
+    private String allocation = "best_fit";
+    private String broker = "round_robin";
+    private double maxSimTime;
+    private double utilizationInterval;
+
+    /**
+     * @throws IllegalArgumentException if a size is not positive, the workload type, arrival process, allocation
+     *                                  or broker policy is unknown, or they do not go together
+     */
+    public SimulationConfig toConfig() {
+        return new SimulationConfig.Builder(datacenters, hostsPerDatacenter, vms, cloudlets)
+                .randomSeed(seed)
+                .workload(parse(WorkloadType.class, workload, "workload type"), trace)
+                .arrivals(parse(ArrivalProcess.class, arrivals, "arrival process"), rate)
+                .allocationPolicy(parse(AllocationPolicy.class, allocation, "allocation policy"))
+                .brokerPolicy(parse(BrokerPolicy.class, broker, "broker policy"))
+                .simulationTimeLimit(maxSimTime)
+                .utilizationInterval(utilizationInterval)
+                .build();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String description) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unknown " + description + ": " + value);
+        }
+    }
+
+    // Getters and Setters
+    public int getDatacenters() { return datacenters; }
+    public void setDatacenters(int datacenters) { this.datacenters = datacenters; }
+
+    public int getHostsPerDatacenter() { return hostsPerDatacenter; }
+    public void setHostsPerDatacenter(int hostsPerDatacenter) { this.hostsPerDatacenter = hostsPerDatacenter; }
+
+    public int getVms() { return vms; }
+    public void setVms(int vms) { this.vms = vms; }
+
+    /** Number of random cloudlets, or the maximum number of trace records to replay (0 for all). */
+    public int getCloudlets() { return cloudlets; }
+    public void setCloudlets(int cloudlets) { this.cloudlets = cloudlets; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    /** random, csv or swf. */
+    public String getWorkload() { return workload; }
+    public void setWorkload(String workload) { this.workload = workload; }
+
+    /** Trace file name inside the configured trace directory. */
+    public String getTrace() { return trace; }
+    public void setTrace(String trace) { this.trace = trace; }
+
+    /** batch, poisson or bursty; only random workloads can spread their arrivals. */
+    public String getArrivals() { return arrivals; }
+    public void setArrivals(String arrivals) { this.arrivals = arrivals; }
+
+    /** Mean cloudlet arrivals per second of simulated time, for poisson and bursty arrivals. */
+    public double getRate() { return rate; }
+    public void setRate(double rate) { this.rate = rate; }
+
+    /** best_fit or indexed_best_fit. */
+    public String getAllocation() { return allocation; }
+    public void setAllocation(String allocation) { this.allocation = allocation; }
+
+    /** round_robin or least_loaded. */
+    public String getBroker() { return broker; }
+    public void setBroker(String broker) { this.broker = broker; }
+
+    /** Simulated time at which the run is stopped, finished or not; 0 for no limit. */
+    public double getMaxSimTime() { return maxSimTime; }
+    public void setMaxSimTime(double maxSimTime) { this.maxSimTime = maxSimTime; }
+
+    /** Simulated time between host and VM utilization samples; 0 for no sampling. */
+    public double getUtilizationInterval() { return utilizationInterval; }
+    public void setUtilizationInterval(double utilizationInterval) { this.utilizationInterval = utilizationInterval; }
+}
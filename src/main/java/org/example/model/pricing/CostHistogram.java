@@ -0,0 +1,19 @@
+package org.example.model.pricing;
+
+/**
+ * Fixed-width histogram of per-cloudlet costs, from zero up to the most expensive cloudlet.
+ * Bin {@code i} covers {@code [i * binWidth, (i + 1) * binWidth)}; the last bin also holds the maximum.
+ */
+public class CostHistogram {
+    private final double binWidth;
+    private final long[] counts;
+
+    public CostHistogram(double binWidth, long[] counts) {
+        this.binWidth = binWidth;
+        this.counts = counts;
+    }
+
+    // Getters
+    public double getBinWidth() { return binWidth; }
+    public long[] getCounts() { return counts; }
+}
@@ -0,0 +1,31 @@
+package org.example.model.pricing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of the last simulation run on every configured provider.
+ */
+public class CostReport {
+    private final int cloudlets;
+    private final double peHours;
+    private final double ramGbHours;
+    private final List<ProviderCost> providers;
+
+    public CostReport(int cloudlets, double peHours, double ramGbHours, List<ProviderCost> providers) {
+        this.cloudlets = cloudlets;
+        this.peHours = peHours;
+        this.ramGbHours = ramGbHours;
+        this.providers = providers;
+    }
+
+    public static CostReport empty() {
+        return new CostReport(0, 0, 0, new ArrayList<>());
+    }
+
+    // Getters
+    public int getCloudlets() { return cloudlets; }
+    public double getPeHours() { return peHours; }
+    public double getRamGbHours() { return ramGbHours; }
+    public List<ProviderCost> getProviders() { return providers; }
+}
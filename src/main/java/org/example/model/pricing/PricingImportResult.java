@@ -0,0 +1,21 @@
+package org.example.model.pricing;
+
+public class PricingImportResult {
+    private final int imported;
+    private final int providersCreated;
+    private final int serviceTypesCreated;
+    private final long elapsedMillis;
+
+    public PricingImportResult(int imported, int providersCreated, int serviceTypesCreated, long elapsedMillis) {
+        this.imported = imported;
+        this.providersCreated = providersCreated;
+        this.serviceTypesCreated = serviceTypesCreated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters
+    public int getImported() { return imported; }
+    public int getProvidersCreated() { return providersCreated; }
+    public int getServiceTypesCreated() { return serviceTypesCreated; }
+    public long getElapsedMillis() { return elapsedMillis; }
+}
@@ -0,0 +1,32 @@
+package org.example.model.pricing;
+
+/**
+ * One row of a bulk pricing import. Provider and service type are given by name and are
+ * created if they do not exist yet.
+ */
+public class PricingImportRow {
+    private String provider;
+    private String serviceType;
+    private double unitPrice;
+    private String unit;
+
+    public PricingImportRow() {
+    }
+
+    public PricingImportRow(String provider, String serviceType, double unitPrice, String unit) {
+        this.provider = provider;
+        this.serviceType = serviceType;
+        this.unitPrice = unitPrice;
+        this.unit = unit;
+    }
+
+    // Getters and Setters
+    public String getProvider() { return provider; }
+    public void setProvider(String provider) { this.provider = provider; }
+    public String getServiceType() { return serviceType; }
+    public void setServiceType(String serviceType) { this.serviceType = serviceType; }
+    public double getUnitPrice() { return unitPrice; }
+    public void setUnitPrice(double unitPrice) { this.unitPrice = unitPrice; }
+    public String getUnit() { return unit; }
+    public void setUnit(String unit) { this.unit = unit; }
+}
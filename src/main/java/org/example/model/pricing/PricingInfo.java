@@ -6,9 +6,13 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @Entity
 @Table(name = "pricing_info")
 public class PricingInfo {
+    public static final int ID_ALLOCATION_SIZE = 50;
 
+    // Sequence ids are allocated in blocks, so inserts can be batched (IDENTITY disables batching)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pricing_info_seq")
+    @SequenceGenerator(name = "pricing_info_seq", sequenceName = "pricing_info_seq",
+            allocationSize = PricingInfo.ID_ALLOCATION_SIZE)
     private Long id;
 
     private double unitPrice;
@@ -0,0 +1,46 @@
+package org.example.model.pricing;
+
+/**
+ * Immutable, detached view of a {@link PricingInfo} row with its provider and service type
+ * already resolved. Serializes to the same JSON shape as the entity.
+ */
+public class PricingRate {
+    private final Long id;
+    private final double unitPrice;
+    private final String unit;
+    private final NamedRef provider;
+    private final NamedRef serviceType;
+
+    public PricingRate(Long id, double unitPrice, String unit,
+                       Long providerId, String providerName,
+                       Long serviceTypeId, String serviceTypeName) {
+        this.id = id;
+        this.unitPrice = unitPrice;
+        this.unit = unit;
+        this.provider = providerId != null ? new NamedRef(providerId, providerName) : null;
+        this.serviceType = serviceTypeId != null ? new NamedRef(serviceTypeId, serviceTypeName) : null;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public double getUnitPrice() { return unitPrice; }
+    public String getUnit() { return unit; }
+    public NamedRef getProvider() { return provider; }
+    public NamedRef getServiceType() { return serviceType; }
+
+    /**
+     * Id and name of a provider or service type.
+     */
+    public static class NamedRef {
+        private final Long id;
+        private final String name;
+
+        public NamedRef(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+    }
+}
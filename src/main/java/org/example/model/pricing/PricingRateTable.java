@@ -0,0 +1,53 @@
+package org.example.model.pricing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of all pricing rows, indexed by provider name (case-insensitive).
+ * Built once from the database and then read concurrently without locking.
+ */
+public class PricingRateTable {
+    private final List<PricingRate> rates;
+    private final Map<String, List<PricingRate>> ratesByProvider;
+
+    public PricingRateTable(List<PricingRate> rates) {
+        this.rates = Collections.unmodifiableList(new ArrayList<>(rates));
+
+        Map<String, List<PricingRate>> byProvider = new LinkedHashMap<>();
+        for (PricingRate rate : rates) {
+            if (rate.getProvider() != null && rate.getProvider().getName() != null) {
+                byProvider.computeIfAbsent(key(rate.getProvider().getName()), k -> new ArrayList<>()).add(rate);
+            }
+        }
+        byProvider.replaceAll((provider, list) -> Collections.unmodifiableList(list));
+        this.ratesByProvider = Collections.unmodifiableMap(byProvider);
+    }
+
+    public List<PricingRate> getRates() {
+        return rates;
+    }
+
+    /**
+     * @return Provider names in the order they first appear
+     */
+    public List<String> getProviderNames() {
+        List<String> names = new ArrayList<>(ratesByProvider.size());
+        for (List<PricingRate> providerRates : ratesByProvider.values()) {
+            names.add(providerRates.get(0).getProvider().getName());
+        }
+        return names;
+    }
+
+    public List<PricingRate> getRatesForProvider(String providerName) {
+        return ratesByProvider.getOrDefault(key(providerName), List.of());
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
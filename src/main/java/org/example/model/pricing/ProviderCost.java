@@ -0,0 +1,39 @@
+package org.example.model.pricing;
+
+/**
+ * Cost of a whole run on one provider, with the distribution of per-cloudlet costs.
+ */
+public class ProviderCost {
+    private final String provider;
+    private final double cpuRatePerPeHour;
+    private final double ramRatePerGbHour;
+    private final double cpuCost;
+    private final double ramCost;
+    private final double maxCloudletCost;
+    private final double meanCloudletCost;
+    private final CostHistogram histogram;
+
+    public ProviderCost(String provider, double cpuRatePerPeHour, double ramRatePerGbHour,
+                        double cpuCost, double ramCost, double maxCloudletCost, double meanCloudletCost,
+                        CostHistogram histogram) {
+        this.provider = provider;
+        this.cpuRatePerPeHour = cpuRatePerPeHour;
+        this.ramRatePerGbHour = ramRatePerGbHour;
+        this.cpuCost = cpuCost;
+        this.ramCost = ramCost;
+        this.maxCloudletCost = maxCloudletCost;
+        this.meanCloudletCost = meanCloudletCost;
+        this.histogram = histogram;
+    }
+
+    // Getters
+    public String getProvider() { return provider; }
+    public double getCpuRatePerPeHour() { return cpuRatePerPeHour; }
+    public double getRamRatePerGbHour() { return ramRatePerGbHour; }
+    public double getCpuCost() { return cpuCost; }
+    public double getRamCost() { return ramCost; }
+    public double getTotalCost() { return cpuCost + ramCost; }
+    public double getMaxCloudletCost() { return maxCloudletCost; }
+    public double getMeanCloudletCost() { return meanCloudletCost; }
+    public CostHistogram getHistogram() { return histogram; }
+}
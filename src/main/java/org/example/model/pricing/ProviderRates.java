@@ -0,0 +1,97 @@
+package org.example.model.pricing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CPU and RAM rates of one provider, normalized to cost per PE-second and per GB-second.
+ * The resource is taken from the {@link ServiceType} name and the time/size scale from the
+ * pricing unit, e.g. service type "CPU" with unit "per vCPU hour", or "RAM" with "GB/month".
+ */
+public class ProviderRates {
+    private static final Set<String> CPU_WORDS = Set.of("cpu", "vcpu", "compute", "core", "cores", "pe", "pes", "processor");
+    private static final Set<String> RAM_WORDS = Set.of("ram", "memory", "mem");
+
+    private final String provider;
+    private double cpuRatePerPeSecond;
+    private double ramRatePerGbSecond;
+
+    public ProviderRates(String provider, double cpuRatePerPeSecond, double ramRatePerGbSecond) {
+        this.provider = provider;
+        this.cpuRatePerPeSecond = cpuRatePerPeSecond;
+        this.ramRatePerGbSecond = ramRatePerGbSecond;
+    }
+
+    /**
+     * Derives the rates of every provider in the table. Rows whose service type is neither CPU
+     * nor RAM are ignored; when a provider has several rows for the same resource the latest wins.
+     */
+    public static List<ProviderRates> from(PricingRateTable table) {
+        Map<String, ProviderRates> byProvider = new LinkedHashMap<>();
+        for (String providerName : table.getProviderNames()) {
+            ProviderRates rates = new ProviderRates(providerName, 0, 0);
+            for (PricingRate rate : table.getRatesForProvider(providerName)) {
+                if (rate.getServiceType() == null || rate.getServiceType().getName() == null) {
+                    continue;
+                }
+                Set<String> serviceWords = Set.copyOf(words(rate.getServiceType().getName()));
+                List<String> unitWords = words(rate.getUnit());
+                double perSecond = rate.getUnitPrice() / secondsPer(unitWords);
+                if (containsAny(serviceWords, CPU_WORDS)) {
+                    rates.cpuRatePerPeSecond = perSecond;
+                } else if (containsAny(serviceWords, RAM_WORDS)) {
+                    rates.ramRatePerGbSecond = unitWords.contains("mb") ? perSecond * 1024 : perSecond;
+                }
+            }
+            byProvider.put(providerName, rates);
+        }
+        return new ArrayList<>(byProvider.values());
+    }
+
+    /**
+     * @return Length in seconds of the time unit named in a pricing unit, defaulting to one hour
+     */
+    private static double secondsPer(List<String> unitWords) {
+        for (String word : unitWords) {
+            switch (word) {
+                case "s", "sec", "second", "seconds": return 1;
+                case "min", "minute", "minutes": return 60;
+                case "h", "hr", "hrs", "hour", "hours", "hourly": return 3600;
+                case "day", "days", "daily": return 86_400;
+                case "mo", "month", "months", "monthly": return 730 * 3600;
+                default: break;
+            }
+        }
+        return 3600;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text != null) {
+            for (String word : text.toLowerCase(Locale.ROOT).split("[^a-z]+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private static boolean containsAny(Set<String> words, Set<String> candidates) {
+        for (String word : words) {
+            if (candidates.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Getters
+    public String getProvider() { return provider; }
+    public double getCpuRatePerPeSecond() { return cpuRatePerPeSecond; }
+    public double getRamRatePerGbSecond() { return ramRatePerGbSecond; }
+}
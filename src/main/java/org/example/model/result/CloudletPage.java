@@ -0,0 +1,29 @@
+package org.example.model.result;
+
+import org.example.model.stats.CloudletStats;
+
+import java.util.List;
+
+public class CloudletPage {
+    private final List<CloudletStats> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+
+    public CloudletPage(List<CloudletStats> content, int page, int size, long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    // Getters
+    public List<CloudletStats> getContent() { return content; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public long getTotalElements() { return totalElements; }
+
+    public int getTotalPages() {
+        return size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+    }
+}
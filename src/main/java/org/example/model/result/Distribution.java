@@ -0,0 +1,53 @@
+package org.example.model.result;
+
+import org.example.util.LatencyHistogram;
+
+/**
+ * Summary statistics of one per-cloudlet measure. Percentiles come from a bucketed
+ * histogram and are approximate; the other figures are exact.
+ */
+public class Distribution {
+    private final long count;
+    private final double mean;
+    private final double min;
+    private final double max;
+    private final double stdDev;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+
+    public Distribution(long count, double mean, double min, double max, double stdDev,
+                        double p50, double p90, double p99) {
+        this.count = count;
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.stdDev = stdDev;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    public static Distribution of(LatencyHistogram histogram) {
+        return new Distribution(
+                histogram.getCount(),
+                histogram.getMean(),
+                histogram.getMin(),
+                histogram.getMax(),
+                histogram.getStdDev(),
+                histogram.percentile(50),
+                histogram.percentile(90),
+                histogram.percentile(99)
+        );
+    }
+
+    // Getters
+    public long getCount() { return count; }
+    public double getMean() { return mean; }
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+    public double getStdDev() { return stdDev; }
+    public double getP50() { return p50; }
+    public double getP90() { return p90; }
+    public double getP99() { return p99; }
+}
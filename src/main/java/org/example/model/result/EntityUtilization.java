@@ -0,0 +1,32 @@
+package org.example.model.result;
+
+/**
+ * Utilization of one host or VM per bucket of simulated time, as fractions of its capacity.
+ */
+public class EntityUtilization {
+    private final long id;
+    private final long datacenterId;
+    private final float[] cpu;
+    private final float[] cpuPeak;
+    private final float[] ram;
+    private final float[] bandwidth;
+
+    public EntityUtilization(long id, long datacenterId, float[] cpu, float[] cpuPeak, float[] ram, float[] bandwidth) {
+        this.id = id;
+        this.datacenterId = datacenterId;
+        this.cpu = cpu;
+        this.cpuPeak = cpuPeak;
+        this.ram = ram;
+        this.bandwidth = bandwidth;
+    }
+
+    // Getters
+    public long getId() { return id; }
+    public long getDatacenterId() { return datacenterId; }
+    /** @return Mean CPU utilization per bucket */
+    public float[] getCpu() { return cpu; }
+    /** @return Highest CPU sample per bucket */
+    public float[] getCpuPeak() { return cpuPeak; }
+    public float[] getRam() { return ram; }
+    public float[] getBandwidth() { return bandwidth; }
+}
@@ -0,0 +1,55 @@
+package org.example.model.result;
+
+/**
+ * Resource usage of one simulation run: wall-clock time per phase, CPU time, events processed by
+ * the CloudSimPlus event loop and memory figures. Describes the cost of running the simulation,
+ * not the simulated system.
+ */
+public class SimulationMetrics {
+    private final double datacentersMillis;
+    private final double vmsMillis;
+    private final double cloudletsMillis;
+    private final double simulationMillis;
+    private final double collectionMillis;
+    private final long eventsProcessed;
+    private final long allocatedBytes;
+    private final long peakHeapDeltaBytes;
+    private final double cloudletsPerSecond;
+    private final double cpuMillis;
+
+    public SimulationMetrics(double datacentersMillis, double vmsMillis, double cloudletsMillis,
+                             double simulationMillis, double collectionMillis, long eventsProcessed,
+                             long allocatedBytes, long peakHeapDeltaBytes, double cloudletsPerSecond,
+                             double cpuMillis) {
+        this.datacentersMillis = datacentersMillis;
+        this.vmsMillis = vmsMillis;
+        this.cloudletsMillis = cloudletsMillis;
+        this.simulationMillis = simulationMillis;
+        this.collectionMillis = collectionMillis;
+        this.eventsProcessed = eventsProcessed;
+        this.allocatedBytes = allocatedBytes;
+        this.peakHeapDeltaBytes = peakHeapDeltaBytes;
+        this.cloudletsPerSecond = cloudletsPerSecond;
+        this.cpuMillis = cpuMillis;
+    }
+
+    // Getters
+    public double getDatacentersMillis() { return datacentersMillis; }
+    public double getVmsMillis() { return vmsMillis; }
+    public double getCloudletsMillis() { return cloudletsMillis; }
+    public double getSimulationMillis() { return simulationMillis; }
+    public double getCollectionMillis() { return collectionMillis; }
+    public long getEventsProcessed() { return eventsProcessed; }
+    /** Bytes allocated by the simulation thread, or -1 if the JVM cannot measure it. */
+    public long getAllocatedBytes() { return allocatedBytes; }
+    /** Highest sampled used heap above the level at the start of the run (process-wide). */
+    public long getPeakHeapDeltaBytes() { return peakHeapDeltaBytes; }
+    /** Finished cloudlets per second of wall-clock time spent in the whole run. */
+    public double getCloudletsPerSecond() { return cloudletsPerSecond; }
+    /** CPU time of the simulation thread over the whole run, or -1 if the JVM cannot measure it. */
+    public double getCpuMillis() { return cpuMillis; }
+
+    public double getTotalMillis() {
+        return datacentersMillis + vmsMillis + cloudletsMillis + simulationMillis + collectionMillis;
+    }
+}
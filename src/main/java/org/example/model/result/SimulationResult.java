@@ -1,7 +1,10 @@
 package org.example.model.result;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.example.model.stats.CloudletStats;
+import org.example.model.stats.CloudletStatsIndex;
 import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.UtilizationSeries;
 import org.example.model.stats.VmStats;
 
 import java.util.List;
@@ -11,6 +14,8 @@ public class SimulationResult {
     private List<VmStats> vmStats;
     private List<CloudletStats> cloudletStats;
     private SimulationSummary summary;
+    private UtilizationSeries utilization;
+    private volatile CloudletStatsIndex cloudletIndex;
 
     public SimulationResult(List<DatacenterStats> datacenterStats, List<VmStats> vmStats,
                             List<CloudletStats> cloudletStats, SimulationSummary summary) {
@@ -24,4 +29,30 @@ public class SimulationResult {
     public List<VmStats> getVmStats() { return vmStats; }
     public List<CloudletStats> getCloudletStats() { return cloudletStats; }
     public SimulationSummary getSummary() { return summary; }
+
+    /**
+     * @return Host and VM utilization over time, or null if the run was not sampled.
+     *         Served by its own endpoint rather than with the result.
+     */
+    @JsonIgnore
+    public UtilizationSeries getUtilization() { return utilization; }
+    public void setUtilization(UtilizationSeries utilization) { this.utilization = utilization; }
+
+    /**
+     * Query indexes over the cloudlet stats, built on first use and kept with the result.
+     */
+    @JsonIgnore
+    public CloudletStatsIndex getCloudletIndex() {
+        CloudletStatsIndex index = cloudletIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = cloudletIndex;
+                if (index == null) {
+                    index = new CloudletStatsIndex(cloudletStats);
+                    cloudletIndex = index;
+                }
+            }
+        }
+        return index;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.example.model.result;
 
+import org.example.simulation.broker.BrokerPolicy;
+
 public class SimulationSummary {
     private int numDatacenters;
     private int numHosts;
@@ -8,6 +10,14 @@ public class SimulationSummary {
     private int completedCloudlets;
     private double avgExecutionTime;
     private double avgWaitTime;
+    private double makespan;
+    private Distribution executionTime;
+    private Distribution waitTime;
+    private Distribution turnaroundTime;
+    private SimulationMetrics metrics;
+    private BrokerPolicy brokerPolicy;
+    private double vmLoadImbalance;
+    private TerminationReason terminationReason = TerminationReason.COMPLETED;
 
     public SimulationSummary() {
         // Default constructor
@@ -25,6 +35,18 @@ public class SimulationSummary {
         this.avgWaitTime = avgWaitTime;
     }
 
+    public SimulationSummary(int numDatacenters, int numHosts, int numVms,
+                             int totalCloudlets, int completedCloudlets,
+                             Distribution executionTime, Distribution waitTime,
+                             Distribution turnaroundTime, double makespan) {
+        this(numDatacenters, numHosts, numVms, totalCloudlets, completedCloudlets,
+                executionTime.getMean(), waitTime.getMean());
+        this.executionTime = executionTime;
+        this.waitTime = waitTime;
+        this.turnaroundTime = turnaroundTime;
+        this.makespan = makespan;
+    }
+
     // Getters
     public int getNumDatacenters() { return numDatacenters; }
     public int getNumHosts() { return numHosts; }
@@ -33,4 +55,36 @@ public class SimulationSummary {
     public int getCompletedCloudlets() { return completedCloudlets; }
     public double getAvgExecutionTime() { return avgExecutionTime; }
     public double getAvgWaitTime() { return avgWaitTime; }
+    public double getMakespan() { return makespan; }
+    public Distribution getExecutionTime() { return executionTime; }
+    public Distribution getWaitTime() { return waitTime; }
+    public Distribution getTurnaroundTime() { return turnaroundTime; }
+    public SimulationMetrics getMetrics() { return metrics; }
+    public BrokerPolicy getBrokerPolicy() { return brokerPolicy; }
+
+    /**
+     * Degree of imbalance of the VMs' busy time (the work of their completed cloudlets divided
+     * by their MIPS): (max - min) / mean, so 0 when every VM got the same share.
+     */
+    public double getVmLoadImbalance() { return vmLoadImbalance; }
+    public TerminationReason getTerminationReason() { return terminationReason; }
+
+    /**
+     * Attaches the resource usage of the run, measured after the summary itself was computed.
+     */
+    public void setMetrics(SimulationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Records how the broker mapped cloudlets to VMs and how evenly it spread the work.
+     */
+    public void setVmLoad(BrokerPolicy brokerPolicy, double vmLoadImbalance) {
+        this.brokerPolicy = brokerPolicy;
+        this.vmLoadImbalance = vmLoadImbalance;
+    }
+
+    public void setTerminationReason(TerminationReason terminationReason) {
+        this.terminationReason = terminationReason;
+    }
 }
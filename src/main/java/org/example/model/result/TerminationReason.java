@@ -0,0 +1,13 @@
+package org.example.model.result;
+
+/**
+ * Why a simulation run stopped.
+ */
+public enum TerminationReason {
+    /** Every submitted cloudlet was run to completion (or could not be placed). */
+    COMPLETED,
+    /** Simulated time reached the config's time limit with cloudlets still running. */
+    SIMULATED_TIME_LIMIT,
+    /** The run took longer than its wall-clock limit and was stopped. */
+    WALL_CLOCK_LIMIT
+}
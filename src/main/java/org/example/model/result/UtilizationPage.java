@@ -0,0 +1,56 @@
+package org.example.model.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of host or VM utilization series sharing one time axis: bucket {@code i} starts at
+ * {@code times[i]} and lasts {@code bucketInterval} of simulated time.
+ */
+public class UtilizationPage {
+    private final String entity;
+    private final double sampleInterval;
+    private final double bucketInterval;
+    private final long samples;
+    private final double[] times;
+    private final List<EntityUtilization> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+
+    public UtilizationPage(String entity, double sampleInterval, double bucketInterval, long samples, double[] times,
+                           List<EntityUtilization> content, int page, int size, long totalElements) {
+        this.entity = entity;
+        this.sampleInterval = sampleInterval;
+        this.bucketInterval = bucketInterval;
+        this.samples = samples;
+        this.times = times;
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * A page for a run that was not sampled.
+     */
+    public static UtilizationPage empty(String entity, int page, int size) {
+        return new UtilizationPage(entity, 0, 0, 0, new double[0], new ArrayList<>(), page, size, 0);
+    }
+
+    // Getters
+    public String getEntity() { return entity; }
+    /** @return Simulated time between samples; 0 if the run was not sampled */
+    public double getSampleInterval() { return sampleInterval; }
+    public double getBucketInterval() { return bucketInterval; }
+    public long getSamples() { return samples; }
+    public double[] getTimes() { return times; }
+    public List<EntityUtilization> getContent() { return content; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public long getTotalElements() { return totalElements; }
+
+    public int getTotalPages() {
+        return size == 0 ? 0 : (int) ((totalElements + size - 1) / size);
+    }
+}
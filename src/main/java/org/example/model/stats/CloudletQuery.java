@@ -0,0 +1,52 @@
+package org.example.model.stats;
+
+/**
+ * Filters, sort order and page of a cloudlet stats query. Null filters match everything.
+ */
+public class CloudletQuery {
+    private Long vmId;
+    private Long datacenterId;
+    private String status;
+    private Double startFrom;
+    private Double startTo;
+    private Double finishFrom;
+    private Double finishTo;
+    private CloudletSortKey sortKey = CloudletSortKey.ID;
+    private boolean descending;
+    private int page;
+    private int size = 100;
+
+    // Getters and Setters
+    public Long getVmId() { return vmId; }
+    public CloudletQuery setVmId(Long vmId) { this.vmId = vmId; return this; }
+
+    public Long getDatacenterId() { return datacenterId; }
+    public CloudletQuery setDatacenterId(Long datacenterId) { this.datacenterId = datacenterId; return this; }
+
+    public String getStatus() { return status; }
+    public CloudletQuery setStatus(String status) { this.status = status; return this; }
+
+    public Double getStartFrom() { return startFrom; }
+    public CloudletQuery setStartFrom(Double startFrom) { this.startFrom = startFrom; return this; }
+
+    public Double getStartTo() { return startTo; }
+    public CloudletQuery setStartTo(Double startTo) { this.startTo = startTo; return this; }
+
+    public Double getFinishFrom() { return finishFrom; }
+    public CloudletQuery setFinishFrom(Double finishFrom) { this.finishFrom = finishFrom; return this; }
+
+    public Double getFinishTo() { return finishTo; }
+    public CloudletQuery setFinishTo(Double finishTo) { this.finishTo = finishTo; return this; }
+
+    public CloudletSortKey getSortKey() { return sortKey; }
+    public CloudletQuery setSortKey(CloudletSortKey sortKey) { this.sortKey = sortKey; return this; }
+
+    public boolean isDescending() { return descending; }
+    public CloudletQuery setDescending(boolean descending) { this.descending = descending; return this; }
+
+    public int getPage() { return page; }
+    public CloudletQuery setPage(int page) { this.page = page; return this; }
+
+    public int getSize() { return size; }
+    public CloudletQuery setSize(int size) { this.size = size; return this; }
+}
@@ -0,0 +1,53 @@
+package org.example.model.stats;
+
+/**
+ * Fields cloudlet stats can be sorted by, named after their JSON properties.
+ */
+public enum CloudletSortKey {
+    ID("id"),
+    VM_ID("vmId"),
+    DATACENTER_ID("datacenterId"),
+    PES("pes"),
+    LENGTH("length"),
+    EXECUTION_TIME("executionTime"),
+    START_TIME("startTime"),
+    FINISH_TIME("finishTime");
+
+    private final String property;
+
+    CloudletSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no field has that property name
+     */
+    public static CloudletSortKey fromProperty(String property) {
+        for (CloudletSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort field: " + property);
+    }
+
+    /**
+     * @return The field's value in a row of the table, as a double
+     */
+    public double valueOf(CloudletStatsTable table, int row) {
+        return switch (this) {
+            case ID -> table.getId(row);
+            case VM_ID -> table.getVmId(row);
+            case DATACENTER_ID -> table.getDatacenterId(row);
+            case PES -> table.getPes(row);
+            case LENGTH -> table.getLength(row);
+            case EXECUTION_TIME -> table.getExecutionTime(row);
+            case START_TIME -> table.getStartTime(row);
+            case FINISH_TIME -> table.getFinishTime(row);
+        };
+    }
+}
@@ -0,0 +1,345 @@
+package org.example.model.stats;
+
+import org.example.model.result.CloudletPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only indexes over the cloudlet stats of one result, shared by every query against it:
+ * posting lists for equality filters, sorted columns for time ranges and sort orders.
+ */
+public class CloudletStatsIndex {
+    // Upper bound on the distinct cloudlet statuses, used when estimating
+    private static final int STATUSES = 16;
+    // Hash map node, boxed key and array header of one posting list
+    private static final long POSTING_KEY_BYTES = 32 + 16 + 16;
+    private static final long FIXED_OVERHEAD_BYTES = 256;
+
+    private final CloudletStatsTable table;
+    private final Map<Long, int[]> rowsByVm;
+    private final Map<Long, int[]> rowsByDatacenter;
+    private final int[][] rowsByStatus;
+    // Sorted views are built the first time a query needs them, guarded by "this"
+    private final Map<CloudletSortKey, SortedColumn> sortedColumns = new EnumMap<>(CloudletSortKey.class);
+
+    public CloudletStatsIndex(List<CloudletStats> rows) {
+        this.table = CloudletStatsTable.of(rows);
+        this.rowsByVm = buildPostings(table, CloudletSortKey.VM_ID);
+        this.rowsByDatacenter = buildPostings(table, CloudletSortKey.DATACENTER_ID);
+        this.rowsByStatus = buildStatusPostings(table);
+    }
+
+    /**
+     * Estimates the heap an index over these rows retains once every sort order has been built.
+     *
+     * @param rows        Rows the index would be built over
+     * @param vms         Number of VMs the rows may refer to
+     * @param datacenters Number of datacenters the rows may refer to
+     * @return Estimated size in bytes, 0 for no rows
+     */
+    public static long estimateSizeBytes(List<CloudletStats> rows, int vms, int datacenters) {
+        int n = rows.size();
+        if (n == 0) {
+            return 0;
+        }
+        // A table is copied column-wise unless the rows already are one
+        long tableBytes = rows instanceof CloudletStatsTable ? 0 : CloudletStatsTable.estimateSizeBytes(n, STATUSES);
+        // Each of the VM, datacenter and status postings holds every row once, plus a map entry per key
+        long postingBytes = 3 * 4L * n + (Math.min(vms, n) + Math.min(datacenters, n) + STATUSES) * POSTING_KEY_BYTES;
+        // Row order, rank and sorted values for each sort key
+        long sortedBytes = CloudletSortKey.values().length * (3 * 16L + (4 + 4 + 8L) * n);
+        return FIXED_OVERHEAD_BYTES + tableBytes + postingBytes + sortedBytes;
+    }
+
+    public int size() {
+        return table.size();
+    }
+
+    public CloudletStatsTable getTable() {
+        return table;
+    }
+
+    /**
+     * Row numbers of the table ordered by a field, ties by row number. The array is shared
+     * by every caller and must not be modified.
+     */
+    public int[] rowsSortedBy(CloudletSortKey key) {
+        return sortedColumn(key).rows;
+    }
+
+    public CloudletPage query(CloudletQuery query) {
+        int size = Math.max(query.getSize(), 0);
+        long offset = (long) Math.max(query.getPage(), 0) * size;
+        SortedColumn order = sortedColumn(query.getSortKey());
+
+        if (!hasFilters(query)) {
+            return page(order, null, table.size(), query, offset, size);
+        }
+
+        int[] matches = findMatches(query);
+        // Sorting the ranks of the matches orders them by the sort key without comparing values
+        int[] ranks = new int[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            ranks[i] = order.rank[matches[i]];
+        }
+        Arrays.sort(ranks);
+        return page(order, ranks, ranks.length, query, offset, size);
+    }
+
+    private CloudletPage page(SortedColumn order, int[] ranks, int total, CloudletQuery query, long offset, int size) {
+        if (offset >= total) {
+            return new CloudletPage(List.of(), query.getPage(), size, total);
+        }
+        int from = (int) offset;
+        int end = (int) Math.min(total, offset + size);
+        List<CloudletStats> content = new ArrayList<>(end - from);
+        for (int i = from; i < end; i++) {
+            int position = query.isDescending() ? total - 1 - i : i;
+            int rank = ranks != null ? ranks[position] : position;
+            content.add(table.get(order.rows[rank]));
+        }
+        return new CloudletPage(content, query.getPage(), size, total);
+    }
+
+    private int[] findMatches(CloudletQuery query) {
+        int statusCode = -1;
+        if (query.getStatus() != null) {
+            statusCode = statusCodeOf(query.getStatus());
+            if (statusCode < 0) {
+                return new int[0];
+            }
+        }
+
+        // Pick the smallest candidate set: a posting list or a contiguous range of a sorted column
+        int[] candidates = null;
+        SortedColumn rangeColumn = null;
+        int rangeFrom = 0;
+        int rangeTo = table.size();
+
+        if (query.getVmId() != null) {
+            candidates = smaller(candidates, rowsByVm.getOrDefault(query.getVmId(), new int[0]));
+        }
+        if (query.getDatacenterId() != null) {
+            candidates = smaller(candidates, rowsByDatacenter.getOrDefault(query.getDatacenterId(), new int[0]));
+        }
+        if (statusCode >= 0) {
+            candidates = smaller(candidates, rowsByStatus[statusCode]);
+        }
+        if (query.getStartFrom() != null || query.getStartTo() != null) {
+            SortedColumn column = sortedColumn(CloudletSortKey.START_TIME);
+            int from = column.lowerBound(query.getStartFrom());
+            int to = column.upperBound(query.getStartTo());
+            if (to - from < rangeTo - rangeFrom) {
+                rangeColumn = column;
+                rangeFrom = from;
+                rangeTo = to;
+            }
+        }
+        if (query.getFinishFrom() != null || query.getFinishTo() != null) {
+            SortedColumn column = sortedColumn(CloudletSortKey.FINISH_TIME);
+            int from = column.lowerBound(query.getFinishFrom());
+            int to = column.upperBound(query.getFinishTo());
+            if (to - from < rangeTo - rangeFrom) {
+                rangeColumn = column;
+                rangeFrom = from;
+                rangeTo = to;
+            }
+        }
+
+        int[] matches;
+        int count = 0;
+        if (candidates != null && (rangeColumn == null || candidates.length <= rangeTo - rangeFrom)) {
+            matches = new int[candidates.length];
+            for (int row : candidates) {
+                if (matches(row, query, statusCode)) {
+                    matches[count++] = row;
+                }
+            }
+        } else {
+            matches = new int[Math.max(rangeTo - rangeFrom, 0)];
+            for (int rank = rangeFrom; rank < rangeTo; rank++) {
+                int row = rangeColumn != null ? rangeColumn.rows[rank] : rank;
+                if (matches(row, query, statusCode)) {
+                    matches[count++] = row;
+                }
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private boolean matches(int row, CloudletQuery query, int statusCode) {
+        return (query.getVmId() == null || table.getVmId(row) == query.getVmId())
+                && (query.getDatacenterId() == null || table.getDatacenterId(row) == query.getDatacenterId())
+                && (statusCode < 0 || table.getStatusCode(row) == statusCode)
+                && inRange(table.getStartTime(row), query.getStartFrom(), query.getStartTo())
+                && inRange(table.getFinishTime(row), query.getFinishFrom(), query.getFinishTo());
+    }
+
+    private static boolean inRange(double value, Double from, Double to) {
+        return (from == null || value >= from) && (to == null || value <= to);
+    }
+
+    private static boolean hasFilters(CloudletQuery query) {
+        return query.getVmId() != null || query.getDatacenterId() != null || query.getStatus() != null
+                || query.getStartFrom() != null || query.getStartTo() != null
+                || query.getFinishFrom() != null || query.getFinishTo() != null;
+    }
+
+    private static int[] smaller(int[] current, int[] other) {
+        return current == null || other.length < current.length ? other : current;
+    }
+
+    private int statusCodeOf(String status) {
+        String[] dictionary = table.getStatusDictionary();
+        for (int code = 0; code < dictionary.length; code++) {
+            if (dictionary[code].equalsIgnoreCase(status)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized SortedColumn sortedColumn(CloudletSortKey key) {
+        return sortedColumns.computeIfAbsent(key, k -> new SortedColumn(table, k));
+    }
+
+    private static Map<Long, int[]> buildPostings(CloudletStatsTable table, CloudletSortKey key) {
+        Map<Long, int[]> counts = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            counts.computeIfAbsent((long) key.valueOf(table, row), k -> new int[1])[0]++;
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(counts.size() * 2);
+        Map<Long, int[]> cursors = new HashMap<>(counts.size() * 2);
+        counts.forEach((value, count) -> {
+            postings.put(value, new int[count[0]]);
+            cursors.put(value, new int[1]);
+        });
+        for (int row = 0; row < table.size(); row++) {
+            long value = (long) key.valueOf(table, row);
+            postings.get(value)[cursors.get(value)[0]++] = row;
+        }
+        return postings;
+    }
+
+    private static int[][] buildStatusPostings(CloudletStatsTable table) {
+        int statuses = table.getStatusDictionary().length;
+        int[] counts = new int[statuses];
+        for (int row = 0; row < table.size(); row++) {
+            counts[table.getStatusCode(row)]++;
+        }
+
+        int[][] postings = new int[statuses][];
+        for (int code = 0; code < statuses; code++) {
+            postings[code] = new int[counts[code]];
+        }
+        int[] cursors = new int[statuses];
+        for (int row = 0; row < table.size(); row++) {
+            int code = table.getStatusCode(row);
+            postings[code][cursors[code]++] = row;
+        }
+        return postings;
+    }
+
+    /**
+     * Row numbers ordered by one column (ties by row number), the sorted values for range
+     * searches, and the inverse permutation giving each row's position in that order.
+     */
+    private static final class SortedColumn {
+        private final int[] rows;
+        private final int[] rank;
+        private final double[] values;
+
+        private SortedColumn(CloudletStatsTable table, CloudletSortKey key) {
+            int n = table.size();
+            double[] columnValues = new double[n];
+            for (int row = 0; row < n; row++) {
+                columnValues[row] = key.valueOf(table, row);
+            }
+
+            this.rows = sortRowsByValue(columnValues);
+            this.rank = new int[n];
+            this.values = new double[n];
+            for (int i = 0; i < n; i++) {
+                rank[rows[i]] = i;
+                values[i] = columnValues[rows[i]];
+            }
+        }
+
+        /**
+         * @return first position whose value is >= from (0 if from is null)
+         */
+        private int lowerBound(Double from) {
+            if (from == null) {
+                return 0;
+            }
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < from) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * @return first position whose value is > to (the size if to is null)
+         */
+        private int upperBound(Double to) {
+            if (to == null) {
+                return values.length;
+            }
+            int lo = 0;
+            int hi = values.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] <= to) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Stable bottom-up merge sort of row numbers by their value, without boxing.
+         */
+        private static int[] sortRowsByValue(double[] values) {
+            int n = values.length;
+            int[] src = new int[n];
+            for (int i = 0; i < n; i++) {
+                src[i] = i;
+            }
+            int[] dst = new int[n];
+            for (int width = 1; width < n; width <<= 1) {
+                for (int lo = 0; lo < n; lo += width << 1) {
+                    int mid = Math.min(lo + width, n);
+                    int hi = Math.min(lo + (width << 1), n);
+                    int left = lo;
+                    int right = mid;
+                    for (int k = lo; k < hi; k++) {
+                        if (right >= hi || (left < mid && Double.compare(values[src[left]], values[src[right]]) <= 0)) {
+                            dst[k] = src[left++];
+                        } else {
+                            dst[k] = src[right++];
+                        }
+                    }
+                }
+                int[] swap = src;
+                src = dst;
+                dst = swap;
+            }
+            return src;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.model.stats;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented storage for cloudlet stats, about 60 bytes a row. Rows are materialized on
+ * access, so the table serializes to the same JSON as a list of CloudletStats.
+ */
+public class CloudletStatsTable extends AbstractList<CloudletStats> implements RandomAccess {
+    private final int size;
+    private final long[] ids;
+    private final long[] vmIds;
+    private final long[] datacenterIds;
+    private final int[] pes;
+    private final long[] lengths;
+    private final double[] executionTimes;
+    private final double[] startTimes;
+    private final double[] finishTimes;
+    private final byte[] statusCodes;
+    private final String[] statusDictionary;
+
+    private CloudletStatsTable(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.vmIds = Arrays.copyOf(builder.vmIds, size);
+        this.datacenterIds = Arrays.copyOf(builder.datacenterIds, size);
+        this.pes = Arrays.copyOf(builder.pes, size);
+        this.lengths = Arrays.copyOf(builder.lengths, size);
+        this.executionTimes = Arrays.copyOf(builder.executionTimes, size);
+        this.startTimes = Arrays.copyOf(builder.startTimes, size);
+        this.finishTimes = Arrays.copyOf(builder.finishTimes, size);
+        this.statusCodes = Arrays.copyOf(builder.statusCodes, size);
+        this.statusDictionary = builder.statusDictionary.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the rows as a table, converting them only if they are not stored column-wise already.
+     */
+    public static CloudletStatsTable of(List<CloudletStats> rows) {
+        if (rows instanceof CloudletStatsTable table) {
+            return table;
+        }
+        Builder builder = new Builder(rows.size());
+        for (CloudletStats row : rows) {
+            builder.add(row.getId(), row.getVmId(), row.getDatacenterId(), row.getPes(), row.getLength(),
+                    row.getExecutionTime(), row.getStartTime(), row.getFinishTime(), row.getStatus());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public CloudletStats get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        return new CloudletStats(ids[row], vmIds[row], datacenterIds[row], pes[row], lengths[row],
+                executionTimes[row], startTimes[row], finishTimes[row], getStatus(row));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Column accessors, for callers that can avoid materializing rows
+    public long getId(int row) { return ids[row]; }
+    public long getVmId(int row) { return vmIds[row]; }
+    public long getDatacenterId(int row) { return datacenterIds[row]; }
+    public int getPes(int row) { return pes[row]; }
+    public long getLength(int row) { return lengths[row]; }
+    public double getExecutionTime(int row) { return executionTimes[row]; }
+    public double getStartTime(int row) { return startTimes[row]; }
+    public double getFinishTime(int row) { return finishTimes[row]; }
+    public String getStatus(int row) { return statusDictionary[statusCodes[row]]; }
+    public byte getStatusCode(int row) { return statusCodes[row]; }
+
+    public String[] getStatusDictionary() {
+        return statusDictionary.clone();
+    }
+
+    /**
+     * @return Estimated heap retained by the table, in bytes
+     */
+    public long estimateSizeBytes() {
+        return estimateSizeBytes(size, statusDictionary.length);
+    }
+
+    /**
+     * @return Estimated heap retained by a table of that many rows and distinct statuses, in bytes
+     */
+    public static long estimateSizeBytes(int rows, int statuses) {
+        // 7 long/double columns, 1 int column, 1 byte column, plus array headers and the dictionary
+        return 64L + 10 * 16L + (long) rows * (7 * 8 + 4 + 1) + statuses * 48L;
+    }
+
+    /**
+     * Appends rows into growable primitive columns. Not thread-safe.
+     */
+    public static class Builder {
+        private int size;
+        private long[] ids;
+        private long[] vmIds;
+        private long[] datacenterIds;
+        private int[] pes;
+        private long[] lengths;
+        private double[] executionTimes;
+        private double[] startTimes;
+        private double[] finishTimes;
+        private byte[] statusCodes;
+        private final List<String> statusDictionary = new ArrayList<>();
+        private final Map<String, Byte> statusIndex = new HashMap<>();
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new long[capacity];
+            vmIds = new long[capacity];
+            datacenterIds = new long[capacity];
+            pes = new int[capacity];
+            lengths = new long[capacity];
+            executionTimes = new double[capacity];
+            startTimes = new double[capacity];
+            finishTimes = new double[capacity];
+            statusCodes = new byte[capacity];
+        }
+
+        public Builder add(long id, long vmId, long datacenterId, int pes, long length,
+                           double executionTime, double startTime, double finishTime, String status) {
+            if (size == ids.length) {
+                grow();
+            }
+            this.ids[size] = id;
+            this.vmIds[size] = vmId;
+            this.datacenterIds[size] = datacenterId;
+            this.pes[size] = pes;
+            this.lengths[size] = length;
+            this.executionTimes[size] = executionTime;
+            this.startTimes[size] = startTime;
+            this.finishTimes[size] = finishTime;
+            this.statusCodes[size] = encodeStatus(status);
+            size++;
+            return this;
+        }
+
+        private byte encodeStatus(String status) {
+            Byte code = statusIndex.get(status);
+            if (code == null) {
+                if (statusDictionary.size() > Byte.MAX_VALUE) {
+                    throw new IllegalStateException("Too many distinct cloudlet statuses");
+                }
+                code = (byte) statusDictionary.size();
+                statusDictionary.add(status);
+                statusIndex.put(status, code);
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            vmIds = Arrays.copyOf(vmIds, capacity);
+            datacenterIds = Arrays.copyOf(datacenterIds, capacity);
+            pes = Arrays.copyOf(pes, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            executionTimes = Arrays.copyOf(executionTimes, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            finishTimes = Arrays.copyOf(finishTimes, capacity);
+            statusCodes = Arrays.copyOf(statusCodes, capacity);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public CloudletStatsTable build() {
+            return new CloudletStatsTable(this);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.model.stats;
+
+import java.nio.FloatBuffer;
+import java.util.Locale;
+
+/**
+ * CPU, RAM and bandwidth utilization of every host and VM of a run over simulated time, as
+ * fractions of capacity, hosts first. Samples are averaged into at most a fixed number of
+ * buckets of equal width; bucket {@code b} covers {@code [b * bucketInterval, (b + 1) * bucketInterval)}.
+ */
+public class UtilizationSeries {
+    public enum Entity {
+        HOST, VM;
+
+        /**
+         * @throws IllegalArgumentException if the name is not host or vm
+         */
+        public static Entity fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unknown entity: " + name);
+            }
+        }
+    }
+
+    private final double sampleInterval;
+    private final long samplesPerBucket;
+    private final int buckets;
+    private final long samples;
+    private final long[] hostIds;
+    private final long[] hostDatacenterIds;
+    private final long[] vmIds;
+    // Entity-major: the values of entity e are at [e * buckets, (e + 1) * buckets)
+    private final FloatBuffer cpu;
+    private final FloatBuffer cpuPeak;
+    private final FloatBuffer ram;
+    private final FloatBuffer bandwidth;
+
+    public UtilizationSeries(double sampleInterval, long samplesPerBucket, int buckets, long samples,
+                             long[] hostIds, long[] hostDatacenterIds, long[] vmIds,
+                             FloatBuffer cpu, FloatBuffer cpuPeak, FloatBuffer ram, FloatBuffer bandwidth) {
+        this.sampleInterval = sampleInterval;
+        this.samplesPerBucket = samplesPerBucket;
+        this.buckets = buckets;
+        this.samples = samples;
+        this.hostIds = hostIds;
+        this.hostDatacenterIds = hostDatacenterIds;
+        this.vmIds = vmIds;
+        this.cpu = cpu;
+        this.cpuPeak = cpuPeak;
+        this.ram = ram;
+        this.bandwidth = bandwidth;
+    }
+
+    // Getters
+    public double getSampleInterval() { return sampleInterval; }
+    public long getSamplesPerBucket() { return samplesPerBucket; }
+    public double getBucketInterval() { return sampleInterval * samplesPerBucket; }
+    public int getBuckets() { return buckets; }
+    /** @return Samples taken over the whole run */
+    public long getSamples() { return samples; }
+    public int getHostCount() { return hostIds.length; }
+    public int getVmCount() { return vmIds.length; }
+    public int getEntityCount() { return hostIds.length + vmIds.length; }
+    public long getHostId(int host) { return hostIds[host]; }
+    public long getHostDatacenterId(int host) { return hostDatacenterIds[host]; }
+    public long getVmId(int vm) { return vmIds[vm]; }
+
+    /**
+     * @param entity Index of a host, or the host count plus the index of a VM
+     */
+    public float getCpu(int entity, int bucket) { return cpu.get(entity * buckets + bucket); }
+    public float getCpuPeak(int entity, int bucket) { return cpuPeak.get(entity * buckets + bucket); }
+    public float getRam(int entity, int bucket) { return ram.get(entity * buckets + bucket); }
+    public float getBandwidth(int entity, int bucket) { return bandwidth.get(entity * buckets + bucket); }
+
+    /**
+     * @return Estimated heap retained by the series, in bytes; none for file-backed values
+     */
+    public long estimateSizeBytes() {
+        long ids = 3 * 16L + 8L * (2 * hostIds.length + vmIds.length);
+        long values = cpu.isDirect() ? 0 : 4 * (16L + 4L * getEntityCount() * buckets);
+        return 64 + ids + values;
+    }
+
+    /**
+     * Averages samples into preallocated buckets; once they are all used, neighbouring buckets
+     * are merged pairwise and sampling goes on at half the resolution. Not thread-safe.
+     */
+    public static class Builder {
+        private final double sampleInterval;
+        private final int capacity;
+        private final int entities;
+        private final long[] hostIds;
+        private final long[] hostDatacenterIds;
+        private final long[] vmIds;
+        private final float[] cpu;
+        private final float[] cpuPeak;
+        private final float[] ram;
+        private final float[] bandwidth;
+        private long samplesPerBucket = 1;
+        private int buckets;
+        // Samples in the last bucket
+        private long fill;
+        private long samples;
+
+        /**
+         * @param capacity Maximum number of buckets; rounded up to an even number of at least 2
+         */
+        public Builder(double sampleInterval, int capacity, long[] hostIds, long[] hostDatacenterIds, long[] vmIds) {
+            this.sampleInterval = sampleInterval;
+            this.capacity = Math.max(2, capacity + (capacity & 1));
+            this.hostIds = hostIds;
+            this.hostDatacenterIds = hostDatacenterIds;
+            this.vmIds = vmIds;
+            this.entities = hostIds.length + vmIds.length;
+            int values = Math.multiplyExact(entities, this.capacity);
+            this.cpu = new float[values];
+            this.cpuPeak = new float[values];
+            this.ram = new float[values];
+            this.bandwidth = new float[values];
+        }
+
+        /**
+         * Adds the same sample of every entity a number of times in a row.
+         *
+         * @param cpu Utilization of each entity, hosts first
+         */
+        public Builder add(float[] cpu, float[] ram, float[] bandwidth, long count) {
+            samples += count;
+            while (count > 0) {
+                if (buckets == 0 || fill == samplesPerBucket) {
+                    if (buckets == capacity) {
+                        compact();
+                    }
+                    buckets++;
+                    fill = 0;
+                }
+                long added = Math.min(count, samplesPerBucket - fill);
+                int bucket = buckets - 1;
+                float weight = (float) added / (fill + added);
+                for (int entity = 0; entity < entities; entity++) {
+                    int slot = entity * capacity + bucket;
+                    if (fill == 0) {
+                        this.cpu[slot] = cpu[entity];
+                        this.cpuPeak[slot] = cpu[entity];
+                        this.ram[slot] = ram[entity];
+                        this.bandwidth[slot] = bandwidth[entity];
+                    } else {
+                        this.cpu[slot] += (cpu[entity] - this.cpu[slot]) * weight;
+                        this.cpuPeak[slot] = Math.max(this.cpuPeak[slot], cpu[entity]);
+                        this.ram[slot] += (ram[entity] - this.ram[slot]) * weight;
+                        this.bandwidth[slot] += (bandwidth[entity] - this.bandwidth[slot]) * weight;
+                    }
+                }
+                fill += added;
+                count -= added;
+            }
+            return this;
+        }
+
+        private void compact() {
+            int half = buckets / 2;
+            for (int entity = 0; entity < entities; entity++) {
+                int base = entity * capacity;
+                for (int bucket = 0; bucket < half; bucket++) {
+                    int left = base + 2 * bucket;
+                    int target = base + bucket;
+                    cpu[target] = (cpu[left] + cpu[left + 1]) / 2;
+                    cpuPeak[target] = Math.max(cpuPeak[left], cpuPeak[left + 1]);
+                    ram[target] = (ram[left] + ram[left + 1]) / 2;
+                    bandwidth[target] = (bandwidth[left] + bandwidth[left + 1]) / 2;
+                }
+            }
+            buckets = half;
+            samplesPerBucket *= 2;
+        }
+
+        public UtilizationSeries build() {
+            return new UtilizationSeries(sampleInterval, samplesPerBucket, buckets, samples,
+                    hostIds, hostDatacenterIds, vmIds,
+                    trim(cpu), trim(cpuPeak), trim(ram), trim(bandwidth));
+        }
+
+        private FloatBuffer trim(float[] values) {
+            float[] trimmed = new float[entities * buckets];
+            for (int entity = 0; entity < entities; entity++) {
+                System.arraycopy(values, entity * capacity, trimmed, entity * buckets, buckets);
+            }
+            return FloatBuffer.wrap(trimmed);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.model.stats;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented storage for VM stats, see {@link CloudletStatsTable}.
+ * Rows are materialized on access and serialize to the same JSON as a list of VmStats.
+ */
+public class VmStatsTable extends AbstractList<VmStats> implements RandomAccess {
+    private final int size;
+    private final long[] ids;
+    private final long[] hostIds;
+    private final long[] datacenterIds;
+    private final int[] pes;
+    private final double[] mips;
+    private final long[] ram;
+    private final long[] storage;
+    private final long[] bandwidth;
+
+    private VmStatsTable(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.hostIds = Arrays.copyOf(builder.hostIds, size);
+        this.datacenterIds = Arrays.copyOf(builder.datacenterIds, size);
+        this.pes = Arrays.copyOf(builder.pes, size);
+        this.mips = Arrays.copyOf(builder.mips, size);
+        this.ram = Arrays.copyOf(builder.ram, size);
+        this.storage = Arrays.copyOf(builder.storage, size);
+        this.bandwidth = Arrays.copyOf(builder.bandwidth, size);
+    }
+
+    /**
+     * Returns the rows as a table, converting them only if they are not stored column-wise already.
+     */
+    public static VmStatsTable of(List<VmStats> rows) {
+        if (rows instanceof VmStatsTable table) {
+            return table;
+        }
+        Builder builder = new Builder(rows.size());
+        for (VmStats row : rows) {
+            builder.add(row.getId(), row.getHostId(), row.getDatacenterId(), row.getPes(), row.getMips(),
+                    row.getRam(), row.getStorage(), row.getBandwidth());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public VmStats get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        return new VmStats(ids[row], hostIds[row], datacenterIds[row], pes[row], mips[row],
+                ram[row], storage[row], bandwidth[row]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Column accessors, for callers that can avoid materializing rows
+    public long getId(int row) { return ids[row]; }
+    public long getHostId(int row) { return hostIds[row]; }
+    public long getDatacenterId(int row) { return datacenterIds[row]; }
+    public int getPes(int row) { return pes[row]; }
+    public double getMips(int row) { return mips[row]; }
+    public long getRam(int row) { return ram[row]; }
+    public long getStorage(int row) { return storage[row]; }
+    public long getBandwidth(int row) { return bandwidth[row]; }
+
+    /**
+     * @return Estimated heap retained by the table, in bytes
+     */
+    public long estimateSizeBytes() {
+        return 64L + 8 * 16L + (long) size * (7 * 8 + 4);
+    }
+
+    /**
+     * Appends rows into growable primitive columns. Not thread-safe.
+     */
+    public static class Builder {
+        private int size;
+        private long[] ids;
+        private long[] hostIds;
+        private long[] datacenterIds;
+        private int[] pes;
+        private double[] mips;
+        private long[] ram;
+        private long[] storage;
+        private long[] bandwidth;
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new long[capacity];
+            hostIds = new long[capacity];
+            datacenterIds = new long[capacity];
+            pes = new int[capacity];
+            mips = new double[capacity];
+            ram = new long[capacity];
+            storage = new long[capacity];
+            bandwidth = new long[capacity];
+        }
+
+        public Builder add(long id, long hostId, long datacenterId, int pes, double mips,
+                           long ram, long storage, long bandwidth) {
+            if (size == ids.length) {
+                grow();
+            }
+            this.ids[size] = id;
+            this.hostIds[size] = hostId;
+            this.datacenterIds[size] = datacenterId;
+            this.pes[size] = pes;
+            this.mips[size] = mips;
+            this.ram[size] = ram;
+            this.storage[size] = storage;
+            this.bandwidth[size] = bandwidth;
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            hostIds = Arrays.copyOf(hostIds, capacity);
+            datacenterIds = Arrays.copyOf(datacenterIds, capacity);
+            pes = Arrays.copyOf(pes, capacity);
+            mips = Arrays.copyOf(mips, capacity);
+            ram = Arrays.copyOf(ram, capacity);
+            storage = Arrays.copyOf(storage, capacity);
+            bandwidth = Arrays.copyOf(bandwidth, capacity);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public VmStatsTable build() {
+            return new VmStatsTable(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.model.sweep;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A parameter grid for a sweep. Every combination of the listed values is simulated once;
+ * an empty or missing dimension falls back to the single default value used by /run.
+ */
+public class SweepRequest {
+    private List<Integer> datacenters = new ArrayList<>();
+    private List<Integer> hostsPerDatacenter = new ArrayList<>();
+    private List<Integer> vms = new ArrayList<>();
+    private List<Integer> cloudlets = new ArrayList<>();
+    private List<Long> seeds = new ArrayList<>();
+
+    public SweepRequest() {
+        // Default constructor for JSON binding
+    }
+
+    // Getters and Setters
+    public List<Integer> getDatacenters() { return datacenters; }
+    public void setDatacenters(List<Integer> datacenters) { this.datacenters = datacenters; }
+
+    public List<Integer> getHostsPerDatacenter() { return hostsPerDatacenter; }
+    public void setHostsPerDatacenter(List<Integer> hostsPerDatacenter) { this.hostsPerDatacenter = hostsPerDatacenter; }
+
+    public List<Integer> getVms() { return vms; }
+    public void setVms(List<Integer> vms) { this.vms = vms; }
+
+    public List<Integer> getCloudlets() { return cloudlets; }
+    public void setCloudlets(List<Integer> cloudlets) { this.cloudlets = cloudlets; }
+
+    public List<Long> getSeeds() { return seeds; }
+    public void setSeeds(List<Long> seeds) { this.seeds = seeds; }
+}
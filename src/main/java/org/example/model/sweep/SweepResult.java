@@ -0,0 +1,23 @@
+package org.example.model.sweep;
+
+import java.util.List;
+
+public class SweepResult {
+    private final int points;
+    private final int parallelism;
+    private final long elapsedMillis;
+    private final List<SweepRow> rows;
+
+    public SweepResult(int points, int parallelism, long elapsedMillis, List<SweepRow> rows) {
+        this.points = points;
+        this.parallelism = parallelism;
+        this.elapsedMillis = elapsedMillis;
+        this.rows = rows;
+    }
+
+    // Getters
+    public int getPoints() { return points; }
+    public int getParallelism() { return parallelism; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public List<SweepRow> getRows() { return rows; }
+}
@@ -0,0 +1,40 @@
+package org.example.model.sweep;
+
+import org.example.model.result.SimulationSummary;
+
+/**
+ * One point of a sweep: the grid coordinates and the summary of its run.
+ * Per-VM and per-cloudlet stats are deliberately not kept, so a large sweep stays small.
+ */
+public class SweepRow {
+    private final int datacenters;
+    private final int hostsPerDatacenter;
+    private final int vms;
+    private final int cloudlets;
+    private final long seed;
+    private final long wallTimeMillis;
+    private final SimulationSummary summary;
+    private final String error;
+
+    public SweepRow(int datacenters, int hostsPerDatacenter, int vms, int cloudlets, long seed,
+                    long wallTimeMillis, SimulationSummary summary, String error) {
+        this.datacenters = datacenters;
+        this.hostsPerDatacenter = hostsPerDatacenter;
+        this.vms = vms;
+        this.cloudlets = cloudlets;
+        this.seed = seed;
+        this.wallTimeMillis = wallTimeMillis;
+        this.summary = summary;
+        this.error = error;
+    }
+
+    // Getters
+    public int getDatacenters() { return datacenters; }
+    public int getHostsPerDatacenter() { return hostsPerDatacenter; }
+    public int getVms() { return vms; }
+    public int getCloudlets() { return cloudlets; }
+    public long getSeed() { return seed; }
+    public long getWallTimeMillis() { return wallTimeMillis; }
+    public SimulationSummary getSummary() { return summary; }
+    public String getError() { return error; }
+}
@@ -1,7 +1,21 @@
 package org.example.repository;
 
 import org.example.model.pricing.PricingInfo;
+import org.example.model.pricing.PricingRate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface PricingInfoRepository extends JpaRepository<PricingInfo, Long> {
+
+    /**
+     * Loads every pricing row with its provider and service type in a single query,
+     * instead of one extra select per lazy association.
+     */
+    @Query("select new org.example.model.pricing.PricingRate(" +
+            "p.id, p.unitPrice, p.unit, pr.id, pr.name, st.id, st.name) " +
+            "from PricingInfo p left join p.provider pr left join p.serviceType st " +
+            "order by p.id")
+    List<PricingRate> findAllRates();
 }
@@ -0,0 +1,12 @@
+package org.example.repository;
+
+import org.example.model.history.SimulationRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SimulationRunRepository extends JpaRepository<SimulationRun, String> {
+
+    List<SimulationRun> findAllByOrderByCreatedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,299 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.model.admission.AdmissionAction;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.admission.CostEstimate;
+import org.example.model.result.SimulationMetrics;
+import org.example.model.result.SimulationSummary;
+import org.example.model.result.TerminationReason;
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadSources;
+import org.example.simulation.workload.WorkloadType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estimates the heap and CPU cost of a config from its size, rejects or downscales configs over
+ * the per-run limits, and makes admitted runs wait until their heap fits under the total limit.
+ * CPU grows with the cloudlets times the cloudlets in flight; with an arrival process, about
+ * the arrival rate times the mean service time are in flight (Little's law).
+ */
+@Service
+public class AdmissionService implements MeterBinder {
+    // Model coefficients measured on the reference machine; the scale factors adapt them
+    private static final long BASE_HEAP_BYTES = 8L << 20;
+    private static final long HOST_BYTES = 6_500;
+    private static final long VM_BYTES = 4_000;
+    private static final long CLOUDLET_BYTES = 4_000;
+    // Four float series per sampled host or VM, held twice while the result is built
+    private static final long UTILIZATION_BUCKET_BYTES = 2 * 4 * Float.BYTES;
+    private static final double BASE_SECONDS = 0.2;
+    private static final double HOST_SCAN_SECONDS = 2e-6;
+    private static final double INDEXED_PLACEMENT_SECONDS = 20e-6;
+    private static final double CLOUDLET_SECONDS = 50e-6;
+    private static final double CLOUDLET_PAIR_SECONDS = 3e-5;
+    // Mean random cloudlet length (2.5M MI) over the mean VM MIPS per PE (3250)
+    private static final double MEAN_SERVICE_SECONDS = 780;
+    // Trace cloudlet count when no limit is given, estimated from the trace size
+    private static final int TRACE_BYTES_PER_RECORD = 80;
+
+    private static final double CALIBRATION_WEIGHT = 0.2;
+    private static final double MIN_SCALE = 0.1;
+    private static final double MAX_SCALE = 10;
+    // Smaller runs are dominated by fixed costs and measurement noise, so they do not calibrate
+    private static final long MIN_CALIBRATION_HEAP_BYTES = 32L << 20;
+    private static final double MIN_CALIBRATION_SECONDS = 1;
+    private static final int DOWNSCALE_ITERATIONS = 20;
+
+    public enum OverLimit {
+        REJECT,
+        DOWNSCALE
+    }
+
+    private final boolean enabled;
+    private final long maxRunHeapBytes;
+    private final long maxTotalHeapBytes;
+    private final double maxRunCpuSeconds;
+    private final OverLimit overLimit;
+    private final Path traceDirectory;
+    private final int utilizationBuckets;
+
+    // Guarded by "this"
+    private double heapScale = 1;
+    private double cpuScale = 1;
+    private long inFlightHeapBytes;
+    private int runningCount;
+    // When the last period with more than one admitted run ended
+    private long lastOverlapEndNanos = Long.MIN_VALUE;
+
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong downscales = new AtomicLong();
+
+    public AdmissionService(@Value("${cloudsim.admission.enabled:true}") boolean enabled,
+                            @Value("${cloudsim.admission.max-run-heap-bytes:0}") long maxRunHeapBytes,
+                            @Value("${cloudsim.admission.max-total-heap-bytes:0}") long maxTotalHeapBytes,
+                            @Value("${cloudsim.admission.max-run-cpu-seconds:600}") double maxRunCpuSeconds,
+                            @Value("${cloudsim.admission.over-limit:reject}") String overLimit,
+                            @Value("${cloudsim.workload.trace-dir:traces}") String traceDirectory,
+                            @Value("${cloudsim.utilization.max-buckets:256}") int utilizationBuckets) {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        this.enabled = enabled;
+        this.maxRunHeapBytes = maxRunHeapBytes > 0 ? maxRunHeapBytes : maxHeap / 4;
+        this.maxTotalHeapBytes = Math.max(this.maxRunHeapBytes, maxTotalHeapBytes > 0 ? maxTotalHeapBytes : maxHeap / 2);
+        this.maxRunCpuSeconds = maxRunCpuSeconds;
+        this.overLimit = OverLimit.valueOf(overLimit.trim().toUpperCase(Locale.ROOT));
+        this.traceDirectory = Paths.get(traceDirectory);
+        this.utilizationBuckets = utilizationBuckets;
+    }
+
+    /**
+     * @return The estimated cost of the config with the current calibration
+     */
+    public CostEstimate estimate(SimulationConfig config) {
+        double[] raw = rawCost(config);
+        synchronized (this) {
+            return new CostEstimate(Math.round(raw[0] * heapScale), raw[1] * cpuScale);
+        }
+    }
+
+    /**
+     * @return The decision, with the config to run; downscaled if it was over the limits
+     * @throws IllegalArgumentException if the config is over the limits and cannot be downscaled
+     *                                  to fit, or names a trace that cannot be read
+     */
+    public AdmissionDecision admit(SimulationConfig config) {
+        CostEstimate estimate = estimate(config);
+        if (!enabled || fits(estimate)) {
+            return AdmissionDecision.admitted(config, estimate);
+        }
+        if (overLimit == OverLimit.DOWNSCALE) {
+            AdmissionDecision downscaled = downscale(config, estimate);
+            if (downscaled != null) {
+                downscales.incrementAndGet();
+                return downscaled;
+            }
+        }
+        rejections.incrementAndGet();
+        throw new IllegalArgumentException(String.format(Locale.ROOT,
+                "The simulation is estimated to need %d MB of heap and %.0f s of CPU; the limits are %d MB and %.0f s",
+                estimate.getHeapBytes() >> 20, estimate.getCpuSeconds(), maxRunHeapBytes >> 20, maxRunCpuSeconds));
+    }
+
+    private boolean fits(CostEstimate estimate) {
+        return estimate.getHeapBytes() <= maxRunHeapBytes
+                && (maxRunCpuSeconds <= 0 || estimate.getCpuSeconds() <= maxRunCpuSeconds);
+    }
+
+    /**
+     * Scales hosts, VMs and cloudlets by the same factor, the largest that fits the limits.
+     *
+     * @return null if even a single host, VM and cloudlet per datacenter does not fit
+     */
+    private AdmissionDecision downscale(SimulationConfig config, CostEstimate requestedEstimate) {
+        int cloudlets = cloudletCount(config);
+        double low = 0;
+        double high = 1;
+        SimulationConfig best = null;
+        CostEstimate bestEstimate = null;
+        for (int i = 0; i < DOWNSCALE_ITERATIONS; i++) {
+            double factor = (low + high) / 2;
+            SimulationConfig candidate = config.resize(
+                    scale(config.getHostsPerDatacenter(), factor),
+                    scale(config.getNumberOfVms(), factor),
+                    scale(cloudlets, factor));
+            CostEstimate candidateEstimate = estimate(candidate);
+            if (fits(candidateEstimate)) {
+                best = candidate;
+                bestEstimate = candidateEstimate;
+                low = factor;
+            } else {
+                high = factor;
+            }
+        }
+        if (best == null) {
+            SimulationConfig smallest = config.resize(1, 1, 1);
+            CostEstimate smallestEstimate = estimate(smallest);
+            if (!fits(smallestEstimate)) {
+                return null;
+            }
+            best = smallest;
+            bestEstimate = smallestEstimate;
+        }
+        return new AdmissionDecision(AdmissionAction.DOWNSCALED, config, best, requestedEstimate, bestEstimate);
+    }
+
+    private static int scale(int value, double factor) {
+        return Math.max(1, (int) (value * factor));
+    }
+
+    /**
+     * Waits until the run's estimated heap fits next to the runs in flight. A run is always let
+     * through when nothing else is running.
+     */
+    public void acquire(CostEstimate estimate) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        long heapBytes = reservedBytes(estimate);
+        synchronized (this) {
+            while (inFlightHeapBytes > 0 && inFlightHeapBytes + heapBytes > maxTotalHeapBytes) {
+                wait();
+            }
+            inFlightHeapBytes += heapBytes;
+            runningCount++;
+        }
+    }
+
+    public void release(CostEstimate estimate) {
+        if (!enabled) {
+            return;
+        }
+        long heapBytes = reservedBytes(estimate);
+        synchronized (this) {
+            inFlightHeapBytes -= heapBytes;
+            if (runningCount-- > 1) {
+                lastOverlapEndNanos = System.nanoTime();
+            }
+            notifyAll();
+        }
+    }
+
+    private long reservedBytes(CostEstimate estimate) {
+        return Math.min(estimate.getHeapBytes(), maxTotalHeapBytes);
+    }
+
+    /**
+     * Moves the model's scale factors towards what a completed run cost. Used heap is
+     * process-wide, so only a run that had the admitted runs to itself calibrates the heap.
+     */
+    public void calibrate(SimulationConfig config, SimulationSummary summary) {
+        SimulationMetrics metrics = summary != null ? summary.getMetrics() : null;
+        if (metrics == null || summary.getTerminationReason() != TerminationReason.COMPLETED) {
+            return;
+        }
+        double[] raw = rawCost(config);
+        long runStartNanos = System.nanoTime() - (long) (metrics.getTotalMillis() * 1_000_000);
+        synchronized (this) {
+            boolean ranAlone = runningCount <= 1 && lastOverlapEndNanos - runStartNanos < 0;
+            if (ranAlone && raw[0] >= MIN_CALIBRATION_HEAP_BYTES && metrics.getPeakHeapDeltaBytes() > 0) {
+                heapScale = adjust(heapScale, metrics.getPeakHeapDeltaBytes() / raw[0]);
+            }
+            if (raw[1] >= MIN_CALIBRATION_SECONDS && metrics.getCpuMillis() >= 0
+                    && config.getArrivalProcess() == ArrivalProcess.BATCH) {
+                cpuScale = adjust(cpuScale, metrics.getCpuMillis() / 1000 / raw[1]);
+            }
+        }
+    }
+
+    private static double adjust(double scale, double observed) {
+        double adjusted = (1 - CALIBRATION_WEIGHT) * scale + CALIBRATION_WEIGHT * observed;
+        return Math.min(MAX_SCALE, Math.max(MIN_SCALE, adjusted));
+    }
+
+    /**
+     * @return Uncalibrated heap bytes and CPU seconds
+     */
+    private double[] rawCost(SimulationConfig config) {
+        double hosts = (double) config.getNumberOfDatacenters() * config.getHostsPerDatacenter();
+        double vms = Math.max(1, config.getNumberOfVms());
+        double cloudlets = cloudletCount(config);
+        double inFlight = config.getArrivalProcess() == ArrivalProcess.BATCH
+                ? cloudlets
+                : Math.min(cloudlets, Math.max(1, config.getArrivalRate() * MEAN_SERVICE_SECONDS));
+
+        double heapBytes = BASE_HEAP_BYTES + hosts * HOST_BYTES + vms * VM_BYTES + cloudlets * CLOUDLET_BYTES;
+        if (config.getUtilizationInterval() > 0) {
+            heapBytes += (hosts + vms) * utilizationBuckets * UTILIZATION_BUCKET_BYTES;
+        }
+        double placementSeconds = config.getAllocationPolicy() == AllocationPolicy.INDEXED_BEST_FIT
+                ? vms * INDEXED_PLACEMENT_SECONDS
+                : vms * hosts * HOST_SCAN_SECONDS;
+        double cpuSeconds = BASE_SECONDS + placementSeconds
+                + cloudlets * CLOUDLET_SECONDS
+                + cloudlets * inFlight * CLOUDLET_PAIR_SECONDS;
+        return new double[]{heapBytes, cpuSeconds};
+    }
+
+    /**
+     * @return The configured cloudlet count, or for a trace replayed in full, the record count
+     *         estimated from the trace size
+     * @throws IllegalArgumentException if the trace cannot be resolved
+     */
+    private int cloudletCount(SimulationConfig config) {
+        if (config.getWorkloadType() == WorkloadType.RANDOM || config.getNumberOfCloudlets() > 0) {
+            return config.getNumberOfCloudlets();
+        }
+        Path trace = WorkloadSources.resolveTrace(traceDirectory, config.getTraceFile());
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, Files.size(trace) / TRACE_BYTES_PER_RECORD);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read trace " + config.getTraceFile(), e);
+        }
+    }
+
+    public synchronized long getInFlightHeapBytes() {
+        return inFlightHeapBytes;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cloudsim.admission.rejections", rejections, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cloudsim.admission.downscales", downscales, AtomicLong::get).register(registry);
+        Gauge.builder("cloudsim.admission.in-flight", this, AdmissionService::getInFlightHeapBytes)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
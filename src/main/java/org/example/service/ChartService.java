@@ -0,0 +1,173 @@
+package org.example.service;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.example.model.chart.ChartAggregates;
+import org.example.model.chart.ChartSeries;
+import org.example.model.chart.GroupAggregate;
+import org.example.model.chart.Histogram;
+import org.example.model.result.SimulationResult;
+import org.example.model.stats.CloudletSortKey;
+import org.example.model.stats.CloudletStatsIndex;
+import org.example.model.stats.CloudletStatsTable;
+import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.VmStats;
+import org.example.util.Lttb;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Chart-ready views of a run, so the dashboard draws a bounded amount of data whatever the
+ * number of cloudlets: downsampled series, totals per datacenter and VM, and histograms.
+ */
+@Service
+public class ChartService {
+    public static final int MIN_POINTS = 3;
+    public static final int MAX_POINTS = 10_000;
+    public static final int MAX_BINS = 1000;
+
+    private static final String COMPLETED_STATUS = Cloudlet.Status.SUCCESS.toString();
+
+    private final CloudSimService cloudSimService;
+
+    public ChartService(CloudSimService cloudSimService) {
+        this.cloudSimService = cloudSimService;
+    }
+
+    /**
+     * Plots a field against the field the cloudlets are ordered by, downsampled with
+     * largest-triangle-three-buckets so peaks and dips survive.
+     *
+     * @param runId Run ID, or null for the run that finished last
+     * @return the series, or empty if the run is unknown or expired
+     */
+    public Optional<ChartSeries> getSeries(String runId, CloudletSortKey orderBy, CloudletSortKey field, int points) {
+        return cloudSimService.findResult(runId).map(result -> computeSeries(result, orderBy, field, points));
+    }
+
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @return the totals, or empty if the run is unknown or expired
+     */
+    public Optional<ChartAggregates> getAggregates(String runId) {
+        return cloudSimService.findResult(runId).map(ChartService::computeAggregates);
+    }
+
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @return the histogram, or empty if the run is unknown or expired
+     */
+    public Optional<Histogram> getHistogram(String runId, CloudletSortKey field, int bins) {
+        return cloudSimService.findResult(runId).map(result -> computeHistogram(result, field, bins));
+    }
+
+    static ChartSeries computeSeries(SimulationResult result, CloudletSortKey orderBy, CloudletSortKey field, int points) {
+        CloudletStatsIndex index = result.getCloudletIndex();
+        CloudletStatsTable table = index.getTable();
+        int[] rows = index.rowsSortedBy(orderBy);
+        int[] kept = Lttb.downsample(rows.length,
+                i -> orderBy.valueOf(table, rows[i]),
+                i -> field.valueOf(table, rows[i]),
+                points);
+
+        double[] x = new double[kept.length];
+        double[] y = new double[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            x[i] = orderBy.valueOf(table, rows[kept[i]]);
+            y[i] = field.valueOf(table, rows[kept[i]]);
+        }
+        return new ChartSeries(orderBy.getProperty(), field.getProperty(), rows.length, x, y);
+    }
+
+    static ChartAggregates computeAggregates(SimulationResult result) {
+        // Seeded from the run's stats so idle datacenters and VMs are listed too
+        Map<Long, Totals> datacenters = new LinkedHashMap<>();
+        for (DatacenterStats datacenter : result.getDatacenterStats()) {
+            datacenters.put((long) datacenter.getId(), new Totals());
+        }
+        Map<Long, Totals> vms = new LinkedHashMap<>();
+        for (VmStats vm : result.getVmStats()) {
+            vms.put(vm.getId(), new Totals());
+        }
+
+        CloudletStatsTable table = result.getCloudletIndex().getTable();
+        byte completedCode = statusCode(table, COMPLETED_STATUS);
+        for (int row = 0; row < table.size(); row++) {
+            boolean completed = table.getStatusCode(row) == completedCode;
+            datacenters.computeIfAbsent(table.getDatacenterId(row), id -> new Totals()).add(table, row, completed);
+            vms.computeIfAbsent(table.getVmId(row), id -> new Totals()).add(table, row, completed);
+        }
+        return new ChartAggregates(toAggregates(datacenters), toAggregates(vms));
+    }
+
+    static Histogram computeHistogram(SimulationResult result, CloudletSortKey field, int bins) {
+        CloudletStatsTable table = result.getCloudletIndex().getTable();
+        int rows = table.size();
+        if (rows == 0) {
+            return Histogram.empty(field.getProperty());
+        }
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int row = 0; row < rows; row++) {
+            double value = field.valueOf(table, row);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        // All values equal: a single bin holds them
+        double binWidth = max > min ? (max - min) / bins : 1;
+        long[] counts = new long[bins];
+        for (int row = 0; row < rows; row++) {
+            int bin = (int) ((field.valueOf(table, row) - min) / binWidth);
+            counts[Math.min(bin, bins - 1)]++;
+        }
+        return new Histogram(field.getProperty(), rows, min, max, binWidth, counts);
+    }
+
+    /**
+     * @return The dictionary code of a status, or -1 if no cloudlet has it
+     */
+    private static byte statusCode(CloudletStatsTable table, String status) {
+        String[] dictionary = table.getStatusDictionary();
+        for (int code = 0; code < dictionary.length; code++) {
+            if (dictionary[code].equals(status)) {
+                return (byte) code;
+            }
+        }
+        return -1;
+    }
+
+    private static List<GroupAggregate> toAggregates(Map<Long, Totals> totals) {
+        List<GroupAggregate> aggregates = new ArrayList<>(totals.size());
+        totals.forEach((id, group) -> aggregates.add(new GroupAggregate(id, group.cloudlets, group.completed,
+                group.totalLength, group.cloudlets > 0 ? group.executionTime / group.cloudlets : 0,
+                group.maxExecutionTime, group.peSeconds)));
+        return aggregates;
+    }
+
+    private static final class Totals {
+        int cloudlets;
+        int completed;
+        long totalLength;
+        double executionTime;
+        double maxExecutionTime;
+        double peSeconds;
+
+        void add(CloudletStatsTable table, int row, boolean completed) {
+            double seconds = Math.max(0, table.getExecutionTime(row));
+            cloudlets++;
+            if (completed) {
+                this.completed++;
+            }
+            totalLength += table.getLength(row);
+            executionTime += seconds;
+            maxExecutionTime = Math.max(maxExecutionTime, seconds);
+            peSeconds += seconds * table.getPes(row);
+        }
+    }
+}
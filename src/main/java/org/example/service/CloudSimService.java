@@ -1,43 +1,109 @@
 package org.example.service;
 
 import org.example.model.result.SimulationResult;
-import org.example.model.result.SimulationSummary;
-import org.example.model.stats.CloudletStats;
-import org.example.model.stats.DatacenterStats;
-import org.example.model.stats.VmStats;
+import org.example.service.SimulationResultStore.StoredRun;
 import org.example.simulation.CloudSimPlusSimulator;
 import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.WorkloadSources;
+import org.example.simulation.workload.WorkloadType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class CloudSimService {
-    private SimulationResult lastSimulationResult = null;
+    private final SimulationResultCache resultCache;
+    private final SimulationResultStore resultStore;
+    private final SimulationMetricsRecorder metricsRecorder;
+    private final SimulationHistoryService historyService;
+    private final AdmissionService admissionService;
+    private final boolean columnarResults;
+    private final long wallClockLimitMillis;
+    private final int utilizationBuckets;
+    private final Path traceDirectory;
+
+    public CloudSimService(SimulationResultCache resultCache, SimulationResultStore resultStore,
+                           SimulationMetricsRecorder metricsRecorder,
+                           SimulationHistoryService historyService, AdmissionService admissionService,
+                           @Value("${cloudsim.results.columnar:false}") boolean columnarResults,
+                           @Value("${cloudsim.admission.wall-clock-limit-seconds:600}") long wallClockLimitSeconds,
+                           @Value("${cloudsim.utilization.max-buckets:256}") int utilizationBuckets,
+                           @Value("${cloudsim.workload.trace-dir:traces}") String traceDirectory) {
+        this.resultCache = resultCache;
+        this.resultStore = resultStore;
+        this.metricsRecorder = metricsRecorder;
+        this.historyService = historyService;
+        this.admissionService = admissionService;
+        this.columnarResults = columnarResults;
+        this.wallClockLimitMillis = wallClockLimitSeconds * 1000;
+        this.utilizationBuckets = utilizationBuckets;
+        this.traceDirectory = Paths.get(traceDirectory);
+    }
 
     public SimulationResult runSimulation(int numDatacenters, int hostsPerDatacenter, int numVms, int numCloudlets) {
         SimulationConfig config = new SimulationConfig(numDatacenters, hostsPerDatacenter, numVms, numCloudlets);
-        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(config);
-        simulator.run();
+        return runSimulation(UUID.randomUUID().toString(), createSimulator(config));
+    }
 
-        lastSimulationResult = simulator.getResults();
-        return lastSimulationResult;
+    public CloudSimPlusSimulator createSimulator(SimulationConfig config) {
+        return new CloudSimPlusSimulator(config)
+                .setColumnarResults(columnarResults)
+                .setTraceDirectory(traceDirectory)
+                .setWallClockLimit(wallClockLimitMillis)
+                .setUtilizationBuckets(utilizationBuckets);
     }
 
-    public List<DatacenterStats> getLastSimulationDatacenterStats() {
-        return lastSimulationResult != null ? lastSimulationResult.getDatacenterStats() : new ArrayList<>();
+    /**
+     * @throws IllegalArgumentException if a trace workload names a file outside the trace directory
+     */
+    public void validate(SimulationConfig config) {
+        if (config.getWorkloadType() != WorkloadType.RANDOM) {
+            WorkloadSources.resolveTrace(traceDirectory, config.getTraceFile());
+        }
     }
 
-    public List<CloudletStats> getLastSimulationCloudletStats() {
-        return lastSimulationResult != null ? lastSimulationResult.getCloudletStats() : new ArrayList<>();
+    /**
+     * Runs the simulator on the calling thread, unless the result cache already has (or is
+     * computing) the result for its config. The result is stored under the run ID.
+     *
+     * @return the results, or null if the simulator was cancelled before finishing
+     */
+    public SimulationResult runSimulation(String runId, CloudSimPlusSimulator simulator) {
+        SimulationResult result = resultCache.get(simulator.getConfig(), simulator::isCancelled, config -> {
+            simulator.run();
+            if (simulator.isCancelled()) {
+                return null;
+            }
+            metricsRecorder.record(simulator.getResults().getSummary());
+            admissionService.calibrate(config, simulator.getResults().getSummary());
+            return simulator.getResults();
+        });
+        if (result == null || simulator.isCancelled()) {
+            return null;
+        }
+
+        resultStore.put(runId, simulator.getConfig(), result);
+        historyService.record(runId, simulator.getConfig(), result);
+        return result;
     }
 
-    public List<VmStats> getLastSimulationVmStats() {
-        return lastSimulationResult != null ? lastSimulationResult.getVmStats() : new ArrayList<>();
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @return the run, unless it is unknown or expired
+     */
+    public Optional<StoredRun> findRun(String runId) {
+        return runId != null ? resultStore.get(runId) : resultStore.getLatest();
     }
 
-    public SimulationSummary getLastSimulationSummary() {
-        return lastSimulationResult != null ? lastSimulationResult.getSummary() : new SimulationSummary();
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @return the result of the run, unless it is unknown or expired
+     */
+    public Optional<SimulationResult> findResult(String runId) {
+        return findRun(runId).map(StoredRun::result);
     }
-}
\ No newline at end of file
+}
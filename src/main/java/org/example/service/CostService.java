@@ -0,0 +1,219 @@
+package org.example.service;
+
+import org.example.model.pricing.CostHistogram;
+import org.example.model.pricing.CostReport;
+import org.example.model.pricing.ProviderCost;
+import org.example.model.pricing.ProviderRates;
+import org.example.model.result.SimulationResult;
+import org.example.model.stats.CloudletStatsTable;
+import org.example.model.stats.VmStats;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Prices a simulation run on every provider at once. Each cloudlet is charged
+ * {@code execTime * (pes * cpuRate + ramShareGb * ramRate)}, where its RAM share is
+ * the VM's RAM times the fraction of the VM's PEs it uses.
+ */
+@Service
+public class CostService {
+    public static final int MAX_BINS = 1000;
+
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int PARALLEL_THRESHOLD = 4 * CHUNK_SIZE;
+    private static final double SECONDS_PER_HOUR = 3600;
+
+    private final CloudSimService cloudSimService;
+    private final PricingService pricingService;
+
+    public CostService(CloudSimService cloudSimService, PricingService pricingService) {
+        this.cloudSimService = cloudSimService;
+        this.pricingService = pricingService;
+    }
+
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @return the cost report, or empty if the run is unknown or expired
+     */
+    public Optional<CostReport> getCost(String runId, int bins) {
+        return cloudSimService.findResult(runId)
+                .map(result -> computeCost(result, ProviderRates.from(pricingService.getRateTable()), bins));
+    }
+
+    CostReport computeCost(SimulationResult result, List<ProviderRates> providers, int bins) {
+        CloudletStatsTable cloudlets = result.getCloudletStats() instanceof CloudletStatsTable table
+                ? table
+                : CloudletStatsTable.of(result.getCloudletStats());
+        VmRam vmRam = new VmRam(result.getVmStats());
+
+        int providerCount = providers.size();
+        double[] cpuRates = new double[providerCount];
+        double[] ramRates = new double[providerCount];
+        for (int p = 0; p < providerCount; p++) {
+            cpuRates[p] = providers.get(p).getCpuRatePerPeSecond();
+            ramRates[p] = providers.get(p).getRamRatePerGbSecond();
+        }
+
+        int rows = cloudlets.size();
+        double[] peSeconds = new double[rows];
+        double[] ramGbSeconds = new double[rows];
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        boolean parallel = rows >= PARALLEL_THRESHOLD;
+
+        // Pass 1: resource usage per cloudlet, usage totals and the most expensive cloudlet per provider
+        Usage usage = chunks(chunks, parallel)
+                .mapToObj(chunk -> {
+                    Usage partial = new Usage(providerCount);
+                    int end = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+                    for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                        double seconds = Math.max(0, cloudlets.getExecutionTime(row));
+                        int pes = cloudlets.getPes(row);
+                        double pe = pes * seconds;
+                        double ram = vmRam.shareGb(cloudlets.getVmId(row), pes) * seconds;
+                        peSeconds[row] = pe;
+                        ramGbSeconds[row] = ram;
+                        partial.peSeconds += pe;
+                        partial.ramGbSeconds += ram;
+                        for (int p = 0; p < providerCount; p++) {
+                            double cost = pe * cpuRates[p] + ram * ramRates[p];
+                            if (cost > partial.maxCost[p]) {
+                                partial.maxCost[p] = cost;
+                            }
+                        }
+                    }
+                    return partial;
+                })
+                .reduce(new Usage(providerCount), Usage::merge);
+
+        double[] binWidths = new double[providerCount];
+        for (int p = 0; p < providerCount; p++) {
+            binWidths[p] = usage.maxCost[p] > 0 ? usage.maxCost[p] / bins : 1;
+        }
+
+        // Pass 2: bin every cloudlet's cost for every provider
+        long[][] counts = chunks(chunks, parallel)
+                .mapToObj(chunk -> {
+                    long[][] partial = new long[providerCount][bins];
+                    int end = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+                    for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                        double pe = peSeconds[row];
+                        double ram = ramGbSeconds[row];
+                        for (int p = 0; p < providerCount; p++) {
+                            int bin = (int) ((pe * cpuRates[p] + ram * ramRates[p]) / binWidths[p]);
+                            // Negative rates give negative costs, which count in the first bin
+                            partial[p][Math.max(0, Math.min(bin, bins - 1))]++;
+                        }
+                    }
+                    return partial;
+                })
+                .reduce(new long[providerCount][bins], CostService::mergeCounts);
+
+        List<ProviderCost> costs = new ArrayList<>(providerCount);
+        for (int p = 0; p < providerCount; p++) {
+            double cpuCost = usage.peSeconds * cpuRates[p];
+            double ramCost = usage.ramGbSeconds * ramRates[p];
+            costs.add(new ProviderCost(providers.get(p).getProvider(),
+                    cpuRates[p] * SECONDS_PER_HOUR, ramRates[p] * SECONDS_PER_HOUR,
+                    cpuCost, ramCost, usage.maxCost[p], rows > 0 ? (cpuCost + ramCost) / rows : 0,
+                    new CostHistogram(binWidths[p], counts[p])));
+        }
+        return new CostReport(rows, usage.peSeconds / SECONDS_PER_HOUR, usage.ramGbSeconds / SECONDS_PER_HOUR, costs);
+    }
+
+    private static IntStream chunks(int chunks, boolean parallel) {
+        IntStream stream = IntStream.range(0, chunks);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    private static long[][] mergeCounts(long[][] a, long[][] b) {
+        long[][] merged = new long[a.length][];
+        for (int p = 0; p < a.length; p++) {
+            merged[p] = a[p].clone();
+            for (int bin = 0; bin < b[p].length; bin++) {
+                merged[p][bin] += b[p][bin];
+            }
+        }
+        return merged;
+    }
+
+    private static final class Usage {
+        double peSeconds;
+        double ramGbSeconds;
+        final double[] maxCost;
+
+        Usage(int providers) {
+            this.maxCost = new double[providers];
+        }
+
+        static Usage merge(Usage a, Usage b) {
+            Usage merged = new Usage(a.maxCost.length);
+            merged.peSeconds = a.peSeconds + b.peSeconds;
+            merged.ramGbSeconds = a.ramGbSeconds + b.ramGbSeconds;
+            for (int p = 0; p < merged.maxCost.length; p++) {
+                merged.maxCost[p] = Math.max(a.maxCost[p], b.maxCost[p]);
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * RAM and PEs of each VM, in arrays indexed by VM id when the ids are dense and non-negative
+     * (as CloudSim assigns them), falling back to a map otherwise.
+     */
+    private static final class VmRam {
+        private final double[] ramGb;
+        private final int[] pes;
+        private final Map<Long, Integer> sparseIndex;
+
+        VmRam(List<VmStats> vms) {
+            long minId = 0;
+            long maxId = -1;
+            for (VmStats vm : vms) {
+                minId = Math.min(minId, vm.getId());
+                maxId = Math.max(maxId, vm.getId());
+            }
+            // A VM that was never created keeps CloudSim's id -1
+            boolean dense = minId >= 0 && maxId < 4L * vms.size() + 1024;
+            int slots = dense ? (int) maxId + 1 : vms.size();
+            this.ramGb = new double[slots];
+            this.pes = new int[slots];
+            this.sparseIndex = dense ? null : new HashMap<>();
+
+            for (int i = 0; i < vms.size(); i++) {
+                VmStats vm = vms.get(i);
+                int slot = dense ? (int) vm.getId() : i;
+                if (!dense) {
+                    sparseIndex.put(vm.getId(), i);
+                }
+                ramGb[slot] = vm.getRam() / 1024.0;
+                pes[slot] = vm.getPes();
+            }
+        }
+
+        /**
+         * @return GB of the VM's RAM attributed to a cloudlet using the given number of its PEs
+         */
+        double shareGb(long vmId, int cloudletPes) {
+            int slot;
+            if (sparseIndex == null) {
+                if (vmId < 0 || vmId >= ramGb.length) {
+                    return 0;
+                }
+                slot = (int) vmId;
+            } else {
+                Integer index = sparseIndex.get(vmId);
+                if (index == null) {
+                    return 0;
+                }
+                slot = index;
+            }
+            return pes[slot] > 0 ? ramGb[slot] * Math.min(1.0, (double) cloudletPes / pes[slot]) : 0;
+        }
+    }
+}
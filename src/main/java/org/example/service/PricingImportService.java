@@ -0,0 +1,272 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.model.pricing.CloudProvider;
+import org.example.model.pricing.PricingImportResult;
+import org.example.model.pricing.PricingImportRow;
+import org.example.model.pricing.PricingInfo;
+import org.example.model.pricing.ServiceType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Imports pricing catalogs in one transaction, in JDBC batches, clearing the persistence
+ * context between batches so memory stays flat however long the input is.
+ */
+@Service
+public class PricingImportService {
+    private final PricingService pricingService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PricingImportService(PricingService pricingService, PlatformTransactionManager transactionManager,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        this.pricingService = pricingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public PricingImportResult importRows(List<PricingImportRow> rows) {
+        return importRows(rows.iterator());
+    }
+
+    /**
+     * Imports CSV with a header line naming the columns provider, serviceType, unitPrice and unit
+     * (in any order). The input is read row by row while importing.
+     */
+    public PricingImportResult importCsv(Reader reader) {
+        return importRows(new CsvRowIterator(new BufferedReader(reader)));
+    }
+
+    /**
+     * Imports all rows or none.
+     *
+     * @throws IllegalArgumentException if a row is incomplete; nothing is imported in that case
+     */
+    public PricingImportResult importRows(Iterator<PricingImportRow> rows) {
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> doImport(rows, start));
+        } finally {
+            pricingService.invalidate();
+        }
+    }
+
+    private PricingImportResult doImport(Iterator<PricingImportRow> rows, long start) {
+        Map<String, CloudProvider> providers = new HashMap<>();
+        for (CloudProvider provider : entityManager.createQuery("from CloudProvider", CloudProvider.class).getResultList()) {
+            providers.putIfAbsent(key(provider.getName()), provider);
+        }
+        Map<String, ServiceType> serviceTypes = new HashMap<>();
+        for (ServiceType serviceType : entityManager.createQuery("from ServiceType", ServiceType.class).getResultList()) {
+            serviceTypes.putIfAbsent(key(serviceType.getName()), serviceType);
+        }
+
+        int imported = 0;
+        int providersCreated = 0;
+        int serviceTypesCreated = 0;
+        while (rows.hasNext()) {
+            PricingImportRow row = rows.next();
+            int rowNumber = imported + 1;
+            if (isBlank(row.getProvider()) || isBlank(row.getServiceType())) {
+                throw new IllegalArgumentException("Row " + rowNumber + ": provider and serviceType are required");
+            }
+            if (!Double.isFinite(row.getUnitPrice()) || row.getUnitPrice() < 0) {
+                throw new IllegalArgumentException("Row " + rowNumber + ": invalid unitPrice " + row.getUnitPrice());
+            }
+
+            CloudProvider provider = providers.get(key(row.getProvider()));
+            if (provider == null) {
+                provider = new CloudProvider();
+                provider.setName(row.getProvider().trim());
+                entityManager.persist(provider);
+                providers.put(key(row.getProvider()), provider);
+                providersCreated++;
+            }
+            ServiceType serviceType = serviceTypes.get(key(row.getServiceType()));
+            if (serviceType == null) {
+                serviceType = new ServiceType();
+                serviceType.setName(row.getServiceType().trim());
+                entityManager.persist(serviceType);
+                serviceTypes.put(key(row.getServiceType()), serviceType);
+                serviceTypesCreated++;
+            }
+
+            PricingInfo pricingInfo = new PricingInfo();
+            pricingInfo.setProvider(provider);
+            pricingInfo.setServiceType(serviceType);
+            pricingInfo.setUnitPrice(row.getUnitPrice());
+            pricingInfo.setUnit(row.getUnit());
+            entityManager.persist(pricingInfo);
+
+            imported++;
+            if (imported % batchSize == 0) {
+                // Providers and service types stay usable detached; only their ids are written
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return new PricingImportResult(imported, providersCreated, serviceTypesCreated,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Moves the id sequence past rows inserted before pricing_info switched from IDENTITY to a
+     * sequence, so the first allocated block cannot collide with existing ids.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignIdSequence() {
+        try {
+            jdbcTemplate.execute("select setval('pricing_info_seq', m.max_id) " +
+                    "from (select max(id) as max_id from pricing_info) m " +
+                    "where m.max_id >= (select last_value from pricing_info_seq)");
+        } catch (DataAccessException e) {
+            // Schema not managed by this application; nothing to align
+        }
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Reads one CSV record per line. Fields may be quoted, with "" as an escaped quote.
+     */
+    private static final class CsvRowIterator implements Iterator<PricingImportRow> {
+        private final BufferedReader reader;
+        private final int providerColumn;
+        private final int serviceTypeColumn;
+        private final int unitPriceColumn;
+        private final int unitColumn;
+        private int lineNumber = 0;
+        private List<String> next;
+
+        CsvRowIterator(BufferedReader reader) {
+            this.reader = reader;
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+            }
+            this.providerColumn = requireColumn(columns, "provider");
+            this.serviceTypeColumn = requireColumn(columns, "servicetype");
+            this.unitPriceColumn = requireColumn(columns, "unitprice");
+            this.unitColumn = columns.getOrDefault("unit", -1);
+            this.next = readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public PricingImportRow next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = next;
+            String unitPrice = field(record, unitPriceColumn);
+            PricingImportRow row;
+            try {
+                row = new PricingImportRow(field(record, providerColumn), field(record, serviceTypeColumn),
+                        Double.parseDouble(unitPrice.trim()), unitColumn >= 0 ? field(record, unitColumn) : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": invalid unitPrice '" + unitPrice + "'");
+            }
+            next = readRecord();
+            return row;
+        }
+
+        private static int requireColumn(Map<String, Integer> columns, String name) {
+            Integer column = columns.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("CSV header is missing column " + name);
+            }
+            return column;
+        }
+
+        private static String field(List<String> record, int column) {
+            return column < record.size() ? record.get(column) : "";
+        }
+
+        /**
+         * @return The fields of the next non-empty line, or null at end of input
+         */
+        private List<String> readRecord() {
+            String line;
+            try {
+                do {
+                    line = reader.readLine();
+                    lineNumber++;
+                } while (line != null && line.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.service;
+
+import org.example.model.pricing.PricingInfo;
+import org.example.model.pricing.PricingRateTable;
+import org.example.repository.PricingInfoRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves pricing reads from an in-memory rate table. The table is loaded with one query on
+ * first use and dropped whenever pricing is written, so the next read reloads it.
+ */
+@Service
+public class PricingService {
+    private final PricingInfoRepository pricingRepo;
+
+    private final AtomicReference<PricingRateTable> rateTable = new AtomicReference<>();
+    // Bumped on every invalidation, so a load that raced with a write does not publish stale rates
+    private final AtomicLong generation = new AtomicLong();
+
+    public PricingService(PricingInfoRepository pricingRepo) {
+        this.pricingRepo = pricingRepo;
+    }
+
+    public PricingRateTable getRateTable() {
+        PricingRateTable table = rateTable.get();
+        if (table != null) {
+            return table;
+        }
+
+        long loadedGeneration = generation.get();
+        PricingRateTable loaded = new PricingRateTable(pricingRepo.findAllRates());
+        if (generation.get() == loadedGeneration) {
+            rateTable.compareAndSet(null, loaded);
+        }
+        return loaded;
+    }
+
+    public PricingInfo createPricing(PricingInfo pricingInfo) {
+        PricingInfo saved = pricingRepo.save(pricingInfo);
+        invalidate();
+        return saved;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        rateTable.set(null);
+    }
+}
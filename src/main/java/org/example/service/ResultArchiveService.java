@@ -0,0 +1,101 @@
+package org.example.service;
+
+import org.example.model.archive.ArchiveInfo;
+import org.example.model.result.SimulationResult;
+import org.example.simulation.config.SimulationConfig;
+import org.example.storage.ResultArchive;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Keeps archived runs as {@link ResultArchive} files in one directory, one file per archive id.
+ */
+@Service
+public class ResultArchiveService {
+    private static final String EXTENSION = ".csra";
+    // Ids become file names, so only accept what this service generates
+    private static final Pattern ID_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private final Path directory;
+
+    public ResultArchiveService(@Value("${cloudsim.archive.dir:cloudsim-archive}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    public ArchiveInfo archive(SimulationConfig config, SimulationResult result) throws IOException {
+        return archive(UUID.randomUUID().toString(), config, result);
+    }
+
+    public ArchiveInfo archive(String id, SimulationConfig config, SimulationResult result) throws IOException {
+        Path file = fileFor(id).orElseThrow(() -> new IllegalArgumentException("Invalid archive id: " + id));
+        Files.createDirectories(directory);
+        ResultArchive.write(file, config, result);
+        return info(id, file);
+    }
+
+    /**
+     * Maps an archive. Only the header is read; rows are decoded as they are accessed.
+     */
+    public Optional<ResultArchive> open(String id) throws IOException {
+        Optional<Path> file = fileFor(id);
+        if (file.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ResultArchive.open(file.get()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return Archives, newest first
+     */
+    public List<ArchiveInfo> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        List<ArchiveInfo> archives = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(EXTENSION)) {
+                    archives.add(info(name.substring(0, name.length() - EXTENSION.length()), file));
+                }
+            }
+        }
+        archives.sort(Comparator.comparing(ArchiveInfo::getCreatedAt).reversed());
+        return archives;
+    }
+
+    public boolean delete(String id) throws IOException {
+        Optional<Path> file = fileFor(id);
+        return file.isPresent() && Files.deleteIfExists(file.get());
+    }
+
+    private Optional<Path> fileFor(String id) {
+        if (id == null || !ID_PATTERN.matcher(id).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(id + EXTENSION));
+    }
+
+    private static ArchiveInfo info(String id, Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new ArchiveInfo(id, attributes.size(), attributes.lastModifiedTime().toInstant());
+    }
+}
@@ -0,0 +1,423 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.model.history.SimulationRun;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.CloudletStatsTable;
+import org.example.model.stats.VmStats;
+import org.example.model.stats.VmStatsTable;
+import org.example.repository.SimulationRunRepository;
+import org.example.simulation.config.SimulationConfig;
+import org.example.util.ResultSizeEstimator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists simulation runs to the database from a single background writer. Runs arriving while
+ * the queue is over its byte budget are not persisted. A result reused from the cache is stored
+ * as a run row referring to the rows of the run that produced it.
+ */
+@Service
+public class SimulationHistoryService implements MeterBinder {
+    private static final String INSERT_VM_SQL = "insert into simulation_run_vm (run_id, row_index, vm_id, host_id, " +
+            "datacenter_id, pes, mips, ram, storage, bandwidth) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CLOUDLET_SQL = "insert into simulation_run_cloudlet (run_id, row_index, " +
+            "cloudlet_id, vm_id, datacenter_id, pes, length, execution_time, start_time, finish_time, status) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String COPY_CLOUDLET_SQL = "copy simulation_run_cloudlet (run_id, row_index, cloudlet_id, " +
+            "vm_id, datacenter_id, pes, length, execution_time, start_time, finish_time, status) from stdin with (format csv)";
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int READ_FETCH_SIZE = 10_000;
+    // A run sharing another run's rows only adds its own run row
+    private static final long SHARED_ROWS_RUN_BYTES = 1024;
+
+    private final boolean enabled;
+    private final int maxRunsPerTransaction;
+    private final long maxQueuedBytes;
+    private final SimulationRunRepository runRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTransactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingRun> queue = new LinkedBlockingQueue<>();
+    // Includes the runs being written, whose results are still held until the write ends
+    private final AtomicLong queuedBytes = new AtomicLong();
+    // Run that persisted each result's rows, by result identity
+    private final Map<SimulationResult, String> rowOwners = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SimulationHistoryService(SimulationRunRepository runRepository, ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager, DataSource dataSource,
+                                    @Value("${cloudsim.history.enabled:false}") boolean enabled,
+                                    @Value("${cloudsim.history.max-queued-bytes:268435456}") long maxQueuedBytes,
+                                    @Value("${cloudsim.history.max-runs-per-transaction:16}") int maxRunsPerTransaction) {
+        this.enabled = enabled;
+        this.maxRunsPerTransaction = Math.max(1, maxRunsPerTransaction);
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.runRepository = runRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate.setReadOnly(true);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Lets PostgreSQL stream large row sets through a cursor instead of buffering them
+        this.jdbcTemplate.setFetchSize(READ_FETCH_SIZE);
+
+        if (enabled) {
+            this.writer = new Thread(this::drainQueue, "simulation-history-writer");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        } else {
+            this.writer = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a finished run for persistence under its result store ID, without blocking.
+     *
+     * @return false if history is disabled or the queue is over its byte budget
+     */
+    public boolean record(String runId, SimulationConfig config, SimulationResult result) {
+        if (!enabled || !running) {
+            return false;
+        }
+        String sourceRunId = rowOwners.putIfAbsent(result, runId);
+        long size = sourceRunId != null ? SHARED_ROWS_RUN_BYTES : ResultSizeEstimator.estimateBytes(result);
+        if (queuedBytes.addAndGet(size) > maxQueuedBytes) {
+            queuedBytes.addAndGet(-size);
+            if (sourceRunId == null) {
+                rowOwners.remove(result, runId);
+            }
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.add(new PendingRun(runId, Instant.now(), config, result, sourceRunId, size));
+        return true;
+    }
+
+    /**
+     * @return Runs, newest first
+     */
+    public List<SimulationRun> listRuns(int page, int size) {
+        return runRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(page, size));
+    }
+
+    public Optional<SimulationRun> getRun(String id) {
+        return runRepository.findById(id);
+    }
+
+    public Optional<List<VmStats>> getVmStats(String id) {
+        Optional<SimulationRun> run = runRepository.findById(id);
+        if (run.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(readTransactionTemplate.execute(status -> {
+            VmStatsTable.Builder table = new VmStatsTable.Builder(run.get().getVms());
+            String rowsRunId = rowsRunId(run.get());
+            jdbcTemplate.query("select vm_id, host_id, datacenter_id, pes, mips, ram, storage, bandwidth " +
+                            "from simulation_run_vm where run_id = ? order by row_index",
+                    rs -> {
+                        table.add(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4),
+                                rs.getDouble(5), rs.getLong(6), rs.getLong(7), rs.getLong(8));
+                    }, rowsRunId);
+            return table.build();
+        }));
+    }
+
+    public Optional<List<CloudletStats>> getCloudletStats(String id) {
+        Optional<SimulationRun> run = runRepository.findById(id);
+        if (run.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(readTransactionTemplate.execute(status -> {
+            CloudletStatsTable.Builder table = new CloudletStatsTable.Builder(run.get().getCompletedCloudlets());
+            String rowsRunId = rowsRunId(run.get());
+            jdbcTemplate.query("select cloudlet_id, vm_id, datacenter_id, pes, length, execution_time, start_time, " +
+                            "finish_time, status from simulation_run_cloudlet where run_id = ? order by row_index",
+                    rs -> {
+                        table.add(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getLong(5),
+                                rs.getDouble(6), rs.getDouble(7), rs.getDouble(8), rs.getString(9));
+                    }, rowsRunId);
+            return table.build();
+        }));
+    }
+
+    private static String rowsRunId(SimulationRun run) {
+        return run.getSourceRunId() != null ? run.getSourceRunId() : run.getId();
+    }
+
+    private void drainQueue() {
+        List<PendingRun> batch = new ArrayList<>(maxRunsPerTransaction);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRun first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxRunsPerTransaction - 1);
+                write(batch);
+                written.addAndGet(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The whole transaction was rolled back; keep serving later runs
+                failed.addAndGet(batch.size());
+                for (PendingRun run : batch) {
+                    rowOwners.remove(run.result(), run.id());
+                }
+            } finally {
+                for (PendingRun run : batch) {
+                    queuedBytes.addAndGet(-run.sizeBytes());
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingRun> batch) {
+        List<SimulationRun> runs = new ArrayList<>(batch.size());
+        List<PendingRun> withRows = new ArrayList<>(batch.size());
+        for (PendingRun run : batch) {
+            runs.add(toEntity(run));
+            if (run.sourceRunId() == null) {
+                withRows.add(run);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            runs.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+
+            for (PendingRun run : withRows) {
+                insertVms(run.id(), run.result().getVmStats());
+            }
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (connection.isWrapperFor(PGConnection.class)) {
+                    copyCloudlets(connection.unwrap(PGConnection.class), withRows);
+                } else {
+                    for (PendingRun run : withRows) {
+                        insertCloudlets(run.id(), run.result().getCloudletStats());
+                    }
+                }
+                return null;
+            });
+        });
+    }
+
+    private SimulationRun toEntity(PendingRun pending) {
+        SimulationConfig config = pending.config();
+        SimulationSummary summary = pending.result().getSummary();
+
+        SimulationRun run = new SimulationRun();
+        run.setId(pending.id());
+        run.setCreatedAt(pending.createdAt());
+        run.setSourceRunId(pending.sourceRunId());
+        run.setDatacenters(config.getNumberOfDatacenters());
+        run.setHostsPerDatacenter(config.getHostsPerDatacenter());
+        run.setVms(config.getNumberOfVms());
+        run.setCloudlets(config.getNumberOfCloudlets());
+        run.setRandomSeed(config.getRandomSeed());
+        run.setWorkloadType(config.getWorkloadType());
+        run.setTraceFile(config.getTraceFile());
+        run.setArrivalProcess(config.getArrivalProcess());
+        run.setArrivalRate(config.getArrivalRate());
+        run.setAllocationPolicy(config.getAllocationPolicy());
+        run.setBrokerPolicy(config.getBrokerPolicy());
+        run.setSimulationTimeLimit(config.getSimulationTimeLimit());
+        run.setUtilizationInterval(config.getUtilizationInterval());
+        if (summary != null) {
+            run.setCompletedCloudlets(summary.getCompletedCloudlets());
+            run.setTerminationReason(summary.getTerminationReason());
+            run.setAvgExecutionTime(summary.getAvgExecutionTime());
+            run.setAvgWaitTime(summary.getAvgWaitTime());
+            run.setMakespan(summary.getMakespan());
+        }
+        try {
+            run.setSummaryJson(objectMapper.writeValueAsString(summary));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return run;
+    }
+
+    private void insertVms(String runId, List<VmStats> vms) {
+        jdbcTemplate.batchUpdate(INSERT_VM_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int row) throws SQLException {
+                VmStats vm = vms.get(row);
+                ps.setString(1, runId);
+                ps.setInt(2, row);
+                ps.setLong(3, vm.getId());
+                ps.setLong(4, vm.getHostId());
+                ps.setLong(5, vm.getDatacenterId());
+                ps.setInt(6, vm.getPes());
+                ps.setDouble(7, vm.getMips());
+                ps.setLong(8, vm.getRam());
+                ps.setLong(9, vm.getStorage());
+                ps.setLong(10, vm.getBandwidth());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return vms.size();
+            }
+        });
+    }
+
+    /**
+     * Streams the cloudlet rows of all runs in the batch through a single COPY.
+     */
+    private static void copyCloudlets(PGConnection connection, List<PendingRun> batch) throws SQLException {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, COPY_CLOUDLET_SQL, COPY_BUFFER_SIZE), StandardCharsets.UTF_8),
+                COPY_BUFFER_SIZE)) {
+            for (PendingRun run : batch) {
+                CloudletStatsTable table = run.result().getCloudletStats() instanceof CloudletStatsTable columnar
+                        ? columnar
+                        : CloudletStatsTable.of(run.result().getCloudletStats());
+                for (int row = 0; row < table.size(); row++) {
+                    out.write(run.id());
+                    out.write(',');
+                    out.write(Integer.toString(row));
+                    out.write(',');
+                    out.write(Long.toString(table.getId(row)));
+                    out.write(',');
+                    out.write(Long.toString(table.getVmId(row)));
+                    out.write(',');
+                    out.write(Long.toString(table.getDatacenterId(row)));
+                    out.write(',');
+                    out.write(Integer.toString(table.getPes(row)));
+                    out.write(',');
+                    out.write(Long.toString(table.getLength(row)));
+                    out.write(',');
+                    out.write(Double.toString(table.getExecutionTime(row)));
+                    out.write(',');
+                    out.write(Double.toString(table.getStartTime(row)));
+                    out.write(',');
+                    out.write(Double.toString(table.getFinishTime(row)));
+                    out.write(',');
+                    out.write(table.getStatus(row));
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("COPY of cloudlet rows failed", e);
+        }
+    }
+
+    private void insertCloudlets(String runId, List<CloudletStats> cloudlets) {
+        jdbcTemplate.batchUpdate(INSERT_CLOUDLET_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int row) throws SQLException {
+                CloudletStats cloudlet = cloudlets.get(row);
+                ps.setString(1, runId);
+                ps.setInt(2, row);
+                ps.setLong(3, cloudlet.getId());
+                ps.setLong(4, cloudlet.getVmId());
+                ps.setLong(5, cloudlet.getDatacenterId());
+                ps.setInt(6, cloudlet.getPes());
+                ps.setLong(7, cloudlet.getLength());
+                ps.setDouble(8, cloudlet.getExecutionTime());
+                ps.setDouble(9, cloudlet.getStartTime());
+                ps.setDouble(10, cloudlet.getFinishTime());
+                ps.setString(11, cloudlet.getStatus());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return cloudlets.size();
+            }
+        });
+    }
+
+    public int getQueuedRunCount() {
+        return queue.size();
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cloudsim.history.queued", this, SimulationHistoryService::getQueuedRunCount).register(registry);
+        Gauge.builder("cloudsim.history.queued.size", this, SimulationHistoryService::getQueuedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("cloudsim.history.runs", written, AtomicLong::get).tag("result", "written").register(registry);
+        FunctionCounter.builder("cloudsim.history.runs", dropped, AtomicLong::get).tag("result", "dropped").register(registry);
+        FunctionCounter.builder("cloudsim.history.runs", failed, AtomicLong::get).tag("result", "failed").register(registry);
+    }
+
+    /**
+     * Stops accepting runs and gives the writer time to persist what is already queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    /**
+     * @param sourceRunId Run whose rows this run shares, or null if it brings its own
+     */
+    private record PendingRun(String id, Instant createdAt, SimulationConfig config, SimulationResult result,
+                              String sourceRunId, long sizeBytes) {
+    }
+}
@@ -0,0 +1,235 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.admission.CostEstimate;
+import org.example.model.job.SimulationJob;
+import org.example.model.job.SimulationProgress;
+import org.example.model.result.SimulationResult;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs simulations on a bounded worker pool instead of the servlet threads.
+ */
+@Service
+public class SimulationJobService implements MeterBinder {
+    private final CloudSimService cloudSimService;
+    private final AdmissionService admissionService;
+    private final ThreadPoolExecutor executor;
+    private final int maxRetainedJobs;
+    private final long progressIntervalMillis;
+
+    private final Map<String, SimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> finishedJobIds = new ConcurrentLinkedQueue<>();
+    private final Map<String, List<SseEmitter>> progressSubscribers = new ConcurrentHashMap<>();
+
+    public SimulationJobService(CloudSimService cloudSimService, AdmissionService admissionService,
+                                @Value("${cloudsim.jobs.pool-size:0}") int poolSize,
+                                @Value("${cloudsim.jobs.queue-capacity:100}") int queueCapacity,
+                                @Value("${cloudsim.jobs.max-retained:1000}") int maxRetainedJobs,
+                                @Value("${cloudsim.jobs.progress-interval-ms:250}") long progressIntervalMillis) {
+        this.cloudSimService = cloudSimService;
+        this.admissionService = admissionService;
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.progressIntervalMillis = progressIntervalMillis;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "simulation-worker-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @throws RejectedExecutionException if the job queue is full
+     * @throws IllegalArgumentException if the config names a trace that cannot be read,
+     *                                  or is rejected by admission control
+     */
+    public SimulationJob submit(SimulationConfig config) {
+        cloudSimService.validate(config);
+        AdmissionDecision admission = admissionService.admit(config);
+        SimulationJob job = new SimulationJob(UUID.randomUUID().toString(), admission);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> execute(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    private void execute(SimulationJob job) {
+        CostEstimate estimate = job.getAdmission().getEstimate();
+        // The job stays queued until its estimated heap fits next to the running ones
+        if (!job.markWaiting(Thread.currentThread())) {
+            return;
+        }
+        try {
+            admissionService.acquire(estimate);
+        } catch (InterruptedException e) {
+            // Interrupted by cancel(), which already retired the job, or by shutdown
+            job.markAdmitted();
+            if (job.cancel()) {
+                retire(job);
+            }
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!job.markAdmitted()) {
+            // Cancelled just as the budget was granted; cancel() may have interrupted this worker
+            Thread.interrupted();
+            admissionService.release(estimate);
+            return;
+        }
+
+        boolean finished;
+        try {
+            CloudSimPlusSimulator simulator = cloudSimService.createSimulator(job.getConfig())
+                    .setProgressListener(progress -> onProgress(job, progress), progressIntervalMillis);
+            if (!job.markRunning(simulator)) {
+                return;
+            }
+            SimulationResult result = cloudSimService.runSimulation(job.getId(), simulator);
+            finished = result != null && job.markCompleted(result);
+        } catch (RuntimeException | Error e) {
+            finished = job.markFailed(e);
+        } finally {
+            admissionService.release(estimate);
+        }
+        // Cancelled jobs were already retired by cancel()
+        if (finished) {
+            retire(job);
+        }
+    }
+
+    private void onProgress(SimulationJob job, SimulationProgress progress) {
+        job.setProgress(progress);
+        List<SseEmitter> emitters = progressSubscribers.get(job.getId());
+        if (emitters != null) {
+            for (SseEmitter emitter : emitters) {
+                send(job.getId(), emitter, "progress", progress);
+            }
+        }
+    }
+
+    public Optional<SseEmitter> subscribe(String id) {
+        SimulationJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter();
+        List<SseEmitter> emitters = progressSubscribers.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+
+        send(id, emitter, "status", job);
+        // The job may have finished before the emitter was registered
+        if (job.getStatus().isFinished()) {
+            emitters.remove(emitter);
+            progressSubscribers.computeIfPresent(id, (key, list) -> list.isEmpty() ? null : list);
+            emitter.complete();
+        }
+        return Optional.of(emitter);
+    }
+
+    private void send(String jobId, SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; drop it so the simulation thread stops writing to it
+            List<SseEmitter> emitters = progressSubscribers.get(jobId);
+            if (emitters != null) {
+                emitters.remove(emitter);
+            }
+            emitter.completeWithError(e);
+        }
+    }
+
+    public Optional<SimulationJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * @return the job if it exists, whether or not it could still be cancelled
+     */
+    public Optional<SimulationJob> cancel(String id) {
+        SimulationJob job = jobs.get(id);
+        if (job != null && job.cancel()) {
+            retire(job);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    public int getQueuedJobCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveJobCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Keeps only the most recent finished jobs; their results stay in the result store.
+     */
+    private void retire(SimulationJob job) {
+        job.releaseResult();
+        List<SseEmitter> emitters = progressSubscribers.remove(job.getId());
+        if (emitters != null) {
+            for (SseEmitter emitter : emitters) {
+                send(job.getId(), emitter, "status", job);
+                emitter.complete();
+            }
+        }
+
+        finishedJobIds.add(job.getId());
+        while (finishedJobIds.size() > maxRetainedJobs) {
+            String oldest = finishedJobIds.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cloudsim.jobs.queued", this, SimulationJobService::getQueuedJobCount).register(registry);
+        Gauge.builder("cloudsim.jobs.active", this, SimulationJobService::getActiveJobCount).register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(SimulationJob::cancel);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.model.result.SimulationMetrics;
+import org.example.model.result.SimulationSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the per-run {@link SimulationMetrics} to Micrometer, so they show up under
+ * /actuator/metrics next to the JVM and HTTP metrics. Only actual runs are recorded;
+ * results answered from the cache are not.
+ */
+@Component
+public class SimulationMetricsRecorder {
+    private final Counter runs;
+    private final Timer datacentersPhase;
+    private final Timer vmsPhase;
+    private final Timer cloudletsPhase;
+    private final Timer simulationPhase;
+    private final Timer collectionPhase;
+    private final DistributionSummary events;
+    private final DistributionSummary allocatedBytes;
+    private final DistributionSummary peakHeapDelta;
+    private final DistributionSummary throughput;
+
+    public SimulationMetricsRecorder(MeterRegistry registry) {
+        this.runs = Counter.builder("cloudsim.simulation.runs")
+                .description("Simulations executed (cache hits excluded)")
+                .register(registry);
+        this.datacentersPhase = phaseTimer(registry, "datacenters");
+        this.vmsPhase = phaseTimer(registry, "vms");
+        this.cloudletsPhase = phaseTimer(registry, "cloudlets");
+        this.simulationPhase = phaseTimer(registry, "simulation");
+        this.collectionPhase = phaseTimer(registry, "collection");
+        this.events = DistributionSummary.builder("cloudsim.simulation.events")
+                .description("Events processed by the CloudSimPlus event loop per run")
+                .register(registry);
+        this.allocatedBytes = DistributionSummary.builder("cloudsim.simulation.allocated")
+                .description("Bytes allocated by the simulation thread per run")
+                .baseUnit("bytes")
+                .register(registry);
+        this.peakHeapDelta = DistributionSummary.builder("cloudsim.simulation.heap.peak.delta")
+                .description("Peak used heap above the level at the start of the run")
+                .baseUnit("bytes")
+                .register(registry);
+        this.throughput = DistributionSummary.builder("cloudsim.simulation.throughput")
+                .description("Finished cloudlets per wall-clock second")
+                .baseUnit("cloudlets/s")
+                .register(registry);
+    }
+
+    private static Timer phaseTimer(MeterRegistry registry, String phase) {
+        return Timer.builder("cloudsim.simulation.phase")
+                .description("Wall-clock time spent in a phase of a simulation run")
+                .tag("phase", phase)
+                .register(registry);
+    }
+
+    public void record(SimulationSummary summary) {
+        SimulationMetrics metrics = summary != null ? summary.getMetrics() : null;
+        if (metrics == null) {
+            return;
+        }
+
+        runs.increment();
+        record(datacentersPhase, metrics.getDatacentersMillis());
+        record(vmsPhase, metrics.getVmsMillis());
+        record(cloudletsPhase, metrics.getCloudletsMillis());
+        record(simulationPhase, metrics.getSimulationMillis());
+        record(collectionPhase, metrics.getCollectionMillis());
+        events.record(metrics.getEventsProcessed());
+        if (metrics.getAllocatedBytes() >= 0) {
+            allocatedBytes.record(metrics.getAllocatedBytes());
+        }
+        peakHeapDelta.record(metrics.getPeakHeapDeltaBytes());
+        throughput.record(metrics.getCloudletsPerSecond());
+    }
+
+    private static void record(Timer timer, double millis) {
+        timer.record((long) (millis * 1_000_000), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.model.cache.CacheStats;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.TerminationReason;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.WorkloadSources;
+import org.example.simulation.workload.WorkloadType;
+import org.example.util.ResultSizeEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Caches simulation results by config, least-recently-used first within a byte budget.
+ * Concurrent requests for a config that is still being simulated wait for that run.
+ */
+@Component
+public class SimulationResultCache implements MeterBinder {
+    private static final long CANCEL_CHECK_MILLIS = 50;
+
+    private final boolean enabled;
+    private final long maxSizeBytes;
+    private final Path traceDirectory;
+
+    // Access-ordered, guarded by "this"
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    private final Map<Key, CompletableFuture<SimulationResult>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SimulationResultCache(@Value("${cloudsim.cache.enabled:true}") boolean enabled,
+                                 @Value("${cloudsim.cache.max-bytes:268435456}") long maxSizeBytes,
+                                 @Value("${cloudsim.workload.trace-dir:traces}") String traceDirectory) {
+        this.enabled = enabled;
+        this.maxSizeBytes = maxSizeBytes;
+        this.traceDirectory = Paths.get(traceDirectory);
+    }
+
+    /**
+     * Returns the cached result for the config, or runs the loader to produce it.
+     * The loader may return null (e.g. the run was cancelled); nothing is cached then,
+     * and callers that were waiting on it run the simulation themselves.
+     */
+    public SimulationResult get(SimulationConfig config, Function<SimulationConfig, SimulationResult> loader) {
+        return get(config, () -> false, loader);
+    }
+
+    /**
+     * Like {@link #get(SimulationConfig, Function)}, but gives up waiting for an identical run
+     * in progress once {@code cancelled} turns true or the thread is interrupted.
+     *
+     * @return the result, or null if the loader returned null or the wait was cancelled
+     */
+    public SimulationResult get(SimulationConfig config, BooleanSupplier cancelled,
+                                Function<SimulationConfig, SimulationResult> loader) {
+        if (!enabled) {
+            return loader.apply(config);
+        }
+
+        Key key = keyOf(config);
+        while (true) {
+            SimulationResult cached = lookup(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+
+            CompletableFuture<SimulationResult> pending = new CompletableFuture<>();
+            CompletableFuture<SimulationResult> leader = inFlight.putIfAbsent(key, pending);
+            if (leader != null) {
+                SimulationResult shared;
+                try {
+                    shared = await(leader, cancelled);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                if (shared != null) {
+                    coalesced.incrementAndGet();
+                    return shared;
+                }
+                if (cancelled.getAsBoolean()) {
+                    return null;
+                }
+                // The leading run was cancelled or failed: try again, possibly as the new leader
+                continue;
+            }
+
+            misses.incrementAndGet();
+            try {
+                SimulationResult result = loader.apply(config);
+                if (result != null && isCacheable(result)) {
+                    put(key, result);
+                    pending.complete(result);
+                } else {
+                    // Waiting callers run the simulation themselves
+                    pending.cancel(false);
+                }
+                return result;
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, pending);
+            }
+        }
+    }
+
+    /**
+     * @return the leader's result, or null if it had none or the wait was cancelled
+     */
+    private static SimulationResult await(CompletableFuture<SimulationResult> future, BooleanSupplier cancelled)
+            throws InterruptedException {
+        while (!cancelled.getAsBoolean()) {
+            try {
+                return future.get(CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Still running: check for cancellation again
+            } catch (CancellationException | ExecutionException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A run cut short by the wall-clock limit depends on machine load, not just the config.
+     */
+    private static boolean isCacheable(SimulationResult result) {
+        return result.getSummary().getTerminationReason() != TerminationReason.WALL_CLOCK_LIMIT;
+    }
+
+    /**
+     * Stamps trace configs with the size and modification time of their trace, so replacing a
+     * trace invalidates its results.
+     */
+    private Key keyOf(SimulationConfig config) {
+        if (config.getWorkloadType() == WorkloadType.RANDOM) {
+            return new Key(config, 0, 0);
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(
+                    WorkloadSources.resolveTrace(traceDirectory, config.getTraceFile()), BasicFileAttributes.class);
+            return new Key(config, attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException | IllegalArgumentException e) {
+            return new Key(config, -1, -1);
+        }
+    }
+
+    private synchronized SimulationResult lookup(Key key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.result : null;
+    }
+
+    private synchronized void put(Key key, SimulationResult result) {
+        long size = ResultSizeEstimator.estimateBytes(result);
+        if (size > maxSizeBytes) {
+            return;
+        }
+
+        Entry previous = entries.put(key, new Entry(result, size));
+        if (previous != null) {
+            sizeBytes -= previous.sizeBytes;
+        }
+        sizeBytes += size;
+
+        Iterator<Entry> eldestFirst = entries.values().iterator();
+        while (sizeBytes > maxSizeBytes && eldestFirst.hasNext()) {
+            Entry eldest = eldestFirst.next();
+            eldestFirst.remove();
+            sizeBytes -= eldest.sizeBytes;
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.get(), misses.get(), coalesced.get(), evictions.get(),
+                entries.size(), sizeBytes, maxSizeBytes);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cloudsim.cache.requests", hits, AtomicLong::get).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cloudsim.cache.requests", misses, AtomicLong::get).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cloudsim.cache.requests", coalesced, AtomicLong::get).tag("result", "coalesced").register(registry);
+        FunctionCounter.builder("cloudsim.cache.evictions", evictions, AtomicLong::get).register(registry);
+        Gauge.builder("cloudsim.cache.size", this, cache -> cache.getStats().getSizeBytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private record Key(SimulationConfig config, long traceSize, long traceModifiedMillis) {
+    }
+
+    private record Entry(SimulationResult result, long sizeBytes) {
+    }
+}
@@ -0,0 +1,330 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.example.model.cache.ResultStoreStats;
+import org.example.model.result.SimulationResult;
+import org.example.simulation.config.SimulationConfig;
+import org.example.storage.ResultArchive;
+import org.example.util.ResultSizeEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the results of recent runs by run ID, within a byte budget and a TTL. Results evicted
+ * for space are spilled as {@link ResultArchive} files when a spill directory is set.
+ */
+@Component
+public class SimulationResultStore implements MeterBinder {
+    private static final String SPILL_EXTENSION = ".csra";
+
+    private final long maxSizeBytes;
+    private final long ttlNanos;
+    private final Path spillDirectory;
+
+    // Access-ordered, guarded by "this"
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, SpilledEntry> spilled = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    // Evicted runs whose archive is still being written; they are served from here meanwhile
+    private final Map<String, StoredRun> spilling = new ConcurrentHashMap<>();
+    private volatile String latestRunId;
+
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong spills = new AtomicLong();
+    private final AtomicLong spillSequence = new AtomicLong();
+
+    public SimulationResultStore(@Value("${cloudsim.results.store.max-bytes:268435456}") long maxSizeBytes,
+                                 @Value("${cloudsim.results.store.ttl-seconds:1800}") long ttlSeconds,
+                                 @Value("${cloudsim.results.store.spill-dir:}") String spillDirectory) {
+        this.maxSizeBytes = maxSizeBytes;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.spillDirectory = spillDirectory.isBlank() ? null : Paths.get(spillDirectory).toAbsolutePath().normalize();
+    }
+
+    public void put(String runId, SimulationConfig config, SimulationResult result) {
+        StoredRun run = new StoredRun(runId, config, result);
+        long size = ResultSizeEstimator.estimateBytes(result);
+        List<StoredRun> evicted = new ArrayList<>();
+        List<Path> obsoleteFiles = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            expire(now, obsoleteFiles);
+            SpilledEntry previousSpill = spilled.remove(runId);
+            if (previousSpill != null) {
+                obsoleteFiles.add(previousSpill.file);
+            }
+
+            Entry previous = entries.put(runId, new Entry(run, size, now, null));
+            if (previous != null) {
+                sizeBytes -= previous.sizeBytes;
+                if (previous.spillFile != null) {
+                    obsoleteFiles.add(previous.spillFile);
+                }
+            }
+            sizeBytes += size;
+            evictOverBudget(evicted);
+            latestRunId = runId;
+        }
+
+        deleteFiles(obsoleteFiles);
+        for (StoredRun evictedRun : evicted) {
+            spill(evictedRun);
+        }
+    }
+
+    /**
+     * @return The run, read back from the spill directory if it was evicted for space
+     */
+    public Optional<StoredRun> get(String runId) {
+        if (runId == null) {
+            return Optional.empty();
+        }
+        List<Path> obsoleteFiles = new ArrayList<>();
+        SpilledEntry spilledEntry = null;
+        StoredRun run = null;
+        synchronized (this) {
+            long now = System.nanoTime();
+            expire(now, obsoleteFiles);
+            Entry entry = entries.get(runId);
+            if (entry != null) {
+                entry.lastAccessNanos = now;
+                run = entry.run;
+            } else {
+                spilledEntry = spilled.get(runId);
+                if (spilledEntry != null) {
+                    spilledEntry.lastAccessNanos = now;
+                }
+            }
+        }
+        deleteFiles(obsoleteFiles);
+
+        if (run == null) {
+            run = spilling.get(runId);
+        }
+        if (run == null && spilledEntry != null) {
+            run = readSpilled(runId, spilledEntry);
+        }
+        return Optional.ofNullable(run);
+    }
+
+    public Optional<StoredRun> getLatest() {
+        return get(latestRunId);
+    }
+
+    /**
+     * Moves a spilled run back into memory, so later reads share its mapping and cloudlet index.
+     */
+    private StoredRun readSpilled(String runId, SpilledEntry spilledEntry) {
+        StoredRun run;
+        try {
+            ResultArchive archive = ResultArchive.open(spilledEntry.file);
+            run = new StoredRun(runId, archive.getConfig(), archive.getResult());
+        } catch (NoSuchFileException e) {
+            // Expired while it was being opened
+            return null;
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException e) {
+            synchronized (this) {
+                spilled.remove(runId, spilledEntry);
+            }
+            deleteFiles(List.of(spilledEntry.file));
+            return null;
+        }
+
+        long size = ResultSizeEstimator.estimateBytes(run.result());
+        List<StoredRun> evicted = new ArrayList<>();
+        synchronized (this) {
+            // Another read re-admitted it first, or it was stored again or expired meanwhile
+            Entry current = entries.get(runId);
+            if (current != null) {
+                return current.run;
+            }
+            if (!spilled.remove(runId, spilledEntry)) {
+                return run;
+            }
+            entries.put(runId, new Entry(run, size, spilledEntry.lastAccessNanos, spilledEntry.file));
+            sizeBytes += size;
+            evictOverBudget(evicted);
+        }
+        for (StoredRun evictedRun : evicted) {
+            spill(evictedRun);
+        }
+        return run;
+    }
+
+    /**
+     * Evicts the least recently used runs until the store is within budget; must hold the lock.
+     *
+     * @param toSpill Receives the runs to write out once the lock is released
+     */
+    private void evictOverBudget(List<StoredRun> toSpill) {
+        Iterator<Entry> eldestFirst = entries.values().iterator();
+        while (sizeBytes > maxSizeBytes && eldestFirst.hasNext()) {
+            Entry eldest = eldestFirst.next();
+            eldestFirst.remove();
+            sizeBytes -= eldest.sizeBytes;
+            evictions.incrementAndGet();
+            if (eldest.spillFile != null) {
+                spilled.put(eldest.run.runId(), new SpilledEntry(eldest.spillFile, System.nanoTime()));
+            } else if (spillDirectory != null) {
+                spilling.put(eldest.run.runId(), eldest.run);
+                toSpill.add(eldest.run);
+            }
+        }
+    }
+
+    private void spill(StoredRun run) {
+        // Unique per write, so deleting a superseded file never races with a newer spill of the run
+        Path file = spillDirectory.resolve(run.runId() + "-" + spillSequence.incrementAndGet() + SPILL_EXTENSION);
+        boolean written;
+        try {
+            Files.createDirectories(spillDirectory);
+            ResultArchive.write(file, run.config(), run.result());
+            written = true;
+        } catch (IOException e) {
+            // The run is dropped, as it would have been without a spill directory
+            written = false;
+        }
+
+        boolean discard;
+        synchronized (this) {
+            spilling.remove(run.runId(), run);
+            // Stored again while it was being written: the newer result wins
+            boolean superseded = entries.containsKey(run.runId()) || spilling.containsKey(run.runId());
+            if (written && !superseded) {
+                spilled.put(run.runId(), new SpilledEntry(file, System.nanoTime()));
+                spills.incrementAndGet();
+            }
+            discard = written && superseded;
+        }
+        if (discard) {
+            deleteFiles(List.of(file));
+        }
+    }
+
+    /**
+     * Drops the runs not read for the TTL, eldest first; must hold the lock.
+     *
+     * @param obsoleteFiles Receives the spill files to delete once the lock is released
+     */
+    private void expire(long now, List<Path> obsoleteFiles) {
+        Iterator<Entry> entryIterator = entries.values().iterator();
+        while (entryIterator.hasNext()) {
+            Entry entry = entryIterator.next();
+            if (now - entry.lastAccessNanos < ttlNanos) {
+                break;
+            }
+            entryIterator.remove();
+            sizeBytes -= entry.sizeBytes;
+            if (entry.spillFile != null) {
+                obsoleteFiles.add(entry.spillFile);
+            }
+            expirations.incrementAndGet();
+        }
+
+        Iterator<SpilledEntry> spilledIterator = spilled.values().iterator();
+        while (spilledIterator.hasNext()) {
+            SpilledEntry entry = spilledIterator.next();
+            if (now - entry.lastAccessNanos < ttlNanos) {
+                break;
+            }
+            spilledIterator.remove();
+            obsoleteFiles.add(entry.file);
+            expirations.incrementAndGet();
+        }
+    }
+
+    private static void deleteFiles(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // Left behind; the spill directory is scratch space
+            }
+        }
+    }
+
+    public synchronized ResultStoreStats getStats() {
+        return new ResultStoreStats(entries.size(), sizeBytes, maxSizeBytes, spilled.size(),
+                evictions.get(), expirations.get(), spills.get());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cloudsim.results.evictions", evictions, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cloudsim.results.expirations", expirations, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cloudsim.results.spills", spills, AtomicLong::get).register(registry);
+        Gauge.builder("cloudsim.results.size", this, store -> store.getStats().getSizeBytes())
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("cloudsim.results.entries", this, store -> store.getStats().getEntries()).register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        List<Path> files = new ArrayList<>();
+        synchronized (this) {
+            for (SpilledEntry entry : spilled.values()) {
+                files.add(entry.file);
+            }
+            for (Entry entry : entries.values()) {
+                if (entry.spillFile != null) {
+                    files.add(entry.spillFile);
+                }
+            }
+            spilled.clear();
+            entries.clear();
+            sizeBytes = 0;
+        }
+        deleteFiles(files);
+    }
+
+    public record StoredRun(String runId, SimulationConfig config, SimulationResult result) {
+    }
+
+    private static final class Entry {
+        private final StoredRun run;
+        private final long sizeBytes;
+        // Archive the run was reopened from, or null if it has never been spilled
+        private final Path spillFile;
+        private long lastAccessNanos;
+
+        private Entry(StoredRun run, long sizeBytes, long lastAccessNanos, Path spillFile) {
+            this.run = run;
+            this.sizeBytes = sizeBytes;
+            this.lastAccessNanos = lastAccessNanos;
+            this.spillFile = spillFile;
+        }
+    }
+
+    private static final class SpilledEntry {
+        private final Path file;
+        private long lastAccessNanos;
+
+        private SpilledEntry(Path file, long lastAccessNanos) {
+            this.file = file;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.result.SimulationSummary;
+import org.example.model.sweep.SweepRequest;
+import org.example.model.sweep.SweepResult;
+import org.example.model.sweep.SweepRow;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every point of a parameter grid as an independent CloudSimPlus instance on a dedicated
+ * pool; workers block while their point waits for heap budget, which a fork-join pool would not tolerate.
+ */
+@Service
+public class SweepService {
+    private static final int DEFAULT_DATACENTERS = 3;
+    private static final int DEFAULT_HOSTS_PER_DATACENTER = 5;
+    private static final int DEFAULT_VMS = 15;
+    private static final int DEFAULT_CLOUDLETS = 30;
+    private static final long DEFAULT_SEED = 42;
+
+    private final CloudSimService cloudSimService;
+    private final SimulationMetricsRecorder metricsRecorder;
+    private final AdmissionService admissionService;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int maxPoints;
+    private final Semaphore pendingPoints;
+
+    public SweepService(CloudSimService cloudSimService, SimulationMetricsRecorder metricsRecorder,
+                        AdmissionService admissionService,
+                        @Value("${cloudsim.sweep.parallelism:0}") int parallelism,
+                        @Value("${cloudsim.sweep.max-points:10000}") int maxPoints,
+                        @Value("${cloudsim.sweep.max-pending-points:10000}") int maxPendingPoints) {
+        this.cloudSimService = cloudSimService;
+        this.metricsRecorder = metricsRecorder;
+        this.admissionService = admissionService;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxPoints = maxPoints;
+        this.pendingPoints = new Semaphore(maxPendingPoints);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "sweep-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts running the grid in the background. Cancelling the returned future skips the
+     * points that have not started yet.
+     *
+     * @throws IllegalArgumentException if the grid has more points than allowed or a size that
+     *                                  is not positive, or a point is rejected by admission control
+     * @throws RejectedExecutionException if the points of the running sweeps leave no room for this one
+     */
+    public CompletableFuture<SweepResult> runSweep(SweepRequest request) {
+        List<AdmissionDecision> grid = expandGrid(request, maxPoints).stream().map(admissionService::admit).toList();
+        if (!pendingPoints.tryAcquire(grid.size())) {
+            throw new RejectedExecutionException("Too many sweep points pending");
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<SweepRow>> rows = grid.stream()
+                .map(point -> {
+                    CompletableFuture<SweepRow> row = new CompletableFuture<>();
+                    executor.execute(() -> {
+                        try {
+                            // Skipped once the sweep has been cancelled
+                            if (!row.isDone()) {
+                                row.complete(runPoint(point));
+                            }
+                        } finally {
+                            pendingPoints.release();
+                        }
+                    });
+                    return row;
+                })
+                .toList();
+        CompletableFuture<SweepResult> sweep = CompletableFuture.allOf(rows.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                    return new SweepResult(rows.size(), parallelism, elapsedMillis,
+                            rows.stream().map(CompletableFuture::join).toList());
+                });
+        sweep.whenComplete((result, error) -> {
+            if (sweep.isCancelled()) {
+                rows.forEach(row -> row.cancel(false));
+            }
+        });
+        return sweep;
+    }
+
+    private SweepRow runPoint(AdmissionDecision admission) {
+        SimulationConfig config = admission.getConfig();
+        long start = System.nanoTime();
+        try {
+            admissionService.acquire(admission.getEstimate());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return toRow(config, start, null, "Interrupted");
+        }
+        try {
+            CloudSimPlusSimulator simulator = cloudSimService.createSimulator(config);
+            simulator.run();
+            SimulationSummary summary = simulator.getResults().getSummary();
+            metricsRecorder.record(summary);
+            admissionService.calibrate(config, summary);
+            return toRow(config, start, summary, null);
+        } catch (RuntimeException | Error e) {
+            // One broken point should not throw away the rest of the sweep
+            return toRow(config, start, null, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            admissionService.release(admission.getEstimate());
+        }
+    }
+
+    private static SweepRow toRow(SimulationConfig config, long start, SimulationSummary summary, String error) {
+        return new SweepRow(
+                config.getNumberOfDatacenters(),
+                config.getHostsPerDatacenter(),
+                config.getNumberOfVms(),
+                config.getNumberOfCloudlets(),
+                config.getRandomSeed(),
+                (System.nanoTime() - start) / 1_000_000,
+                summary,
+                error
+        );
+    }
+
+    /**
+     * @throws IllegalArgumentException if the grid has more than maxPoints points, checked before
+     *                                  any is created, or a size that is not positive
+     */
+    static List<SimulationConfig> expandGrid(SweepRequest request, int maxPoints) {
+        List<Integer> datacenters = orDefault(request.getDatacenters(), DEFAULT_DATACENTERS);
+        List<Integer> hosts = orDefault(request.getHostsPerDatacenter(), DEFAULT_HOSTS_PER_DATACENTER);
+        List<Integer> vms = orDefault(request.getVms(), DEFAULT_VMS);
+        List<Integer> cloudlets = orDefault(request.getCloudlets(), DEFAULT_CLOUDLETS);
+        List<Long> seeds = orDefault(request.getSeeds(), DEFAULT_SEED);
+        requirePositive("datacenters", datacenters);
+        requirePositive("hostsPerDatacenter", hosts);
+        requirePositive("vms", vms);
+        requirePositive("cloudlets", cloudlets);
+        for (Long seed : seeds) {
+            if (seed == null) {
+                throw new IllegalArgumentException("Sweep seeds must not be null");
+            }
+        }
+
+        long points = 1;
+        for (List<?> dimension : List.of(datacenters, hosts, vms, cloudlets, seeds)) {
+            // Never overflows: points stays at most maxPoints before each multiplication
+            points = Math.multiplyExact(points, dimension.size());
+            if (points > maxPoints) {
+                throw new IllegalArgumentException("Sweep has more than " + maxPoints + " points");
+            }
+        }
+
+        List<SimulationConfig> grid = new ArrayList<>((int) points);
+        for (int dc : datacenters) {
+            for (int h : hosts) {
+                for (int vm : vms) {
+                    for (int cl : cloudlets) {
+                        for (long seed : seeds) {
+                            grid.add(new SimulationConfig(dc, h, vm, cl, seed));
+                        }
+                    }
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static void requirePositive(String dimension, List<Integer> values) {
+        for (Integer value : values) {
+            if (value == null || value <= 0) {
+                throw new IllegalArgumentException("Sweep " + dimension + " must be positive, got " + value);
+            }
+        }
+    }
+
+    private static <T> List<T> orDefault(List<T> values, T defaultValue) {
+        return values == null || values.isEmpty() ? List.of(defaultValue) : values;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.service;
+
+import org.example.model.result.EntityUtilization;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.UtilizationPage;
+import org.example.model.stats.UtilizationSeries;
+import org.example.model.stats.UtilizationSeries.Entity;
+import org.example.model.stats.VmStats;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serves the host and VM utilization sampled during a run, a page of entities at a time.
+ */
+@Service
+public class UtilizationService {
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final CloudSimService cloudSimService;
+
+    public UtilizationService(CloudSimService cloudSimService) {
+        this.cloudSimService = cloudSimService;
+    }
+
+    /**
+     * @param runId Run ID, or null for the run that finished last
+     * @param ids   Host or VM ids to keep, or null for all
+     * @return the page, with no series if the run was not sampled; empty if the run is unknown or expired
+     */
+    public Optional<UtilizationPage> getUtilization(String runId, Entity entity, List<Long> ids, int page, int size) {
+        return cloudSimService.findResult(runId).map(result -> computePage(result, entity, ids, page, size));
+    }
+
+    static UtilizationPage computePage(SimulationResult result, Entity entity, List<Long> ids, int page, int size) {
+        String entityName = entity.name().toLowerCase(Locale.ROOT);
+        UtilizationSeries series = result.getUtilization();
+        if (series == null) {
+            return UtilizationPage.empty(entityName, page, size);
+        }
+
+        boolean hosts = entity == Entity.HOST;
+        int count = hosts ? series.getHostCount() : series.getVmCount();
+        Set<Long> wanted = ids != null ? new HashSet<>(ids) : null;
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (wanted == null || wanted.contains(hosts ? series.getHostId(i) : series.getVmId(i))) {
+                matches.add(i);
+            }
+        }
+
+        Map<Long, Long> vmDatacenters = new HashMap<>();
+        if (!hosts) {
+            for (VmStats vm : result.getVmStats()) {
+                vmDatacenters.put(vm.getId(), vm.getDatacenterId());
+            }
+        }
+
+        int buckets = series.getBuckets();
+        int from = (int) Math.min((long) page * size, matches.size());
+        int end = Math.min(matches.size(), from + size);
+        List<EntityUtilization> content = new ArrayList<>(end - from);
+        for (int i = from; i < end; i++) {
+            int index = matches.get(i);
+            // VMs follow the hosts in the series
+            int row = hosts ? index : series.getHostCount() + index;
+            float[] cpu = new float[buckets];
+            float[] cpuPeak = new float[buckets];
+            float[] ram = new float[buckets];
+            float[] bandwidth = new float[buckets];
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                cpu[bucket] = series.getCpu(row, bucket);
+                cpuPeak[bucket] = series.getCpuPeak(row, bucket);
+                ram[bucket] = series.getRam(row, bucket);
+                bandwidth[bucket] = series.getBandwidth(row, bucket);
+            }
+            long id = hosts ? series.getHostId(index) : series.getVmId(index);
+            long datacenterId = hosts ? series.getHostDatacenterId(index) : vmDatacenters.getOrDefault(id, -1L);
+            content.add(new EntityUtilization(id, datacenterId, cpu, cpuPeak, ram, bandwidth));
+        }
+
+        double[] times = new double[buckets];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            times[bucket] = bucket * series.getBucketInterval();
+        }
+        return new UtilizationPage(entityName, series.getSampleInterval(), series.getBucketInterval(),
+                series.getSamples(), times, content, page, size, matches.size());
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.simulation;
 
 import org.cloudsimplus.brokers.DatacenterBroker;
-import org.cloudsimplus.brokers.DatacenterBrokerSimple;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletSimple;
 import org.cloudsimplus.core.CloudSimPlus;
@@ -9,6 +8,9 @@ import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.datacenters.DatacenterSimple;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.listeners.CloudletVmEventInfo;
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.resources.Pe;
 import org.cloudsimplus.resources.PeSimple;
 import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
@@ -16,17 +18,28 @@ import org.cloudsimplus.schedulers.vm.VmSchedulerTimeShared;
 import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmSimple;
-import org.cloudsimplus.allocationpolicies.VmAllocationPolicyBestFit;
+import org.example.model.job.SimulationProgress;
 import org.example.model.result.SimulationResult;
 import org.example.model.result.SimulationSummary;
+import org.example.model.result.TerminationReason;
 import org.example.model.stats.CloudletStats;
 import org.example.model.stats.DatacenterStats;
 import org.example.model.stats.VmStats;
+import org.example.model.stats.VmStatsTable;
 import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.CloudletSpec;
+import org.example.simulation.workload.WorkloadSource;
+import org.example.simulation.workload.WorkloadSources;
+import org.example.simulation.workload.WorkloadType;
 import org.example.util.RandomGenerator;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 public class CloudSimPlusSimulator {
     private final SimulationConfig config;
@@ -38,6 +51,28 @@ public class CloudSimPlusSimulator {
     private final RandomGenerator random;
 
     private SimulationResult results;
+    private volatile boolean cancelRequested;
+    private long wallClockLimitNanos;
+    private long wallClockDeadline;
+    private boolean wallClockExceeded;
+    private final RunInstrumentation instrumentation = new RunInstrumentation();
+    private boolean columnarResults;
+    private Path traceDirectory;
+    private int utilizationBuckets = DEFAULT_UTILIZATION_BUCKETS;
+    private UtilizationRecorder utilization;
+
+    // Streaming workloads: cloudlets are created as they arrive and recorded as they finish
+    private CloudletFeeder feeder;
+    private CloudletStatsRecorder streamedCloudlets;
+
+    // Progress reporting, only active when a listener is set
+    private Consumer<SimulationProgress> progressListener;
+    private long progressIntervalNanos;
+    private long startNanos;
+    private long lastProgressNanos;
+    private int finishedCloudlets;
+    private double totalExecutionTime;
+    private double totalWaitTime;
 
     // Constants for realistic cloud resource sizes (in MB unless specified)
     private static final int MIN_HOST_CORES = 16;    // Minimum cores per host (modern servers)
@@ -81,35 +116,131 @@ public class CloudSimPlusSimulator {
     private static final long MAX_VM_BW = 10 * 1000;
     private static final long VM_BW_INCREMENT = 100;
 
-    // Cloudlet resources (representing real workloads)
-    private static final long MIN_CLOUDLET_LENGTH = 50000;  // More realistic task sizes
-    private static final long MAX_CLOUDLET_LENGTH = 5000000;
-    private static final long CLOUDLET_LENGTH_INCREMENT = 50000;
-
-    // Cloudlet file sizes in MB (100MB to 5GB input, 50MB to 2GB output)
-    private static final long MIN_CLOUDLET_FILE_SIZE = 100;
-    private static final long MAX_CLOUDLET_FILE_SIZE = 5 * 1024;
-    private static final long MIN_CLOUDLET_OUTPUT_SIZE = 50;
-    private static final long MAX_CLOUDLET_OUTPUT_SIZE = 2 * 1024;
+    private static final int PARALLEL_THRESHOLD = 4096;
+    // The wall-clock deadline is checked every this many events (a power of two)
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+    private static final int DEFAULT_UTILIZATION_BUCKETS = 256;
 
     public CloudSimPlusSimulator(SimulationConfig config) {
         this.config = config;
         this.random = new RandomGenerator(config.getRandomSeed());
         this.simulation = new CloudSimPlus();
+        // Cancellation is requested from another thread, so the flag is only acted upon
+        // from inside the event loop, where terminating the simulation is safe.
+        this.simulation.addOnEventProcessingListener(evt -> {
+            instrumentation.onEventProcessed();
+            if (cancelRequested) {
+                simulation.terminate();
+            } else if (wallClockLimitNanos > 0
+                    && (instrumentation.getEventsProcessed() & (DEADLINE_CHECK_INTERVAL - 1)) == 0
+                    && System.nanoTime() - wallClockDeadline > 0) {
+                wallClockExceeded = true;
+                simulation.terminate();
+            }
+        });
     }
 
     public void run() {
+        wallClockDeadline = System.nanoTime() + wallClockLimitNanos;
+        instrumentation.begin();
         createDatacenters();
+        instrumentation.endDatacenters();
         createBroker();
         createVms();
+        instrumentation.endVms();
         createCloudlets();
+        instrumentation.endCloudlets();
 
-        simulation.start();
+        if (cancelRequested) {
+            closeWorkload();
+            return;
+        }
+        startSimulation();
+        instrumentation.endSimulation();
 
         collectResults();
+        instrumentation.endCollection();
+        SimulationSummary summary = results.getSummary();
+        summary.setMetrics(instrumentation.toMetrics(summary.getCompletedCloudlets()));
+        if (progressListener != null) {
+            publishProgress();
+        }
+    }
+
+    /**
+     * Stores VM and cloudlet stats in primitive column tables instead of one object per row.
+     */
+    public CloudSimPlusSimulator setColumnarResults(boolean columnarResults) {
+        this.columnarResults = columnarResults;
+        return this;
+    }
+
+    public CloudSimPlusSimulator setTraceDirectory(Path traceDirectory) {
+        this.traceDirectory = traceDirectory;
+        return this;
+    }
+
+    public CloudSimPlusSimulator setUtilizationBuckets(int utilizationBuckets) {
+        this.utilizationBuckets = utilizationBuckets;
+        return this;
+    }
+
+    /**
+     * The listener is called on the simulation thread at most once per interval, plus once at the end.
+     */
+    public CloudSimPlusSimulator setProgressListener(Consumer<SimulationProgress> listener, long minIntervalMillis) {
+        this.progressListener = listener;
+        this.progressIntervalNanos = minIntervalMillis * 1_000_000;
+        return this;
+    }
+
+    /**
+     * @param wallClockLimitMillis Limit on the whole run in milliseconds, or 0 for none
+     */
+    public CloudSimPlusSimulator setWallClockLimit(long wallClockLimitMillis) {
+        this.wallClockLimitNanos = wallClockLimitMillis * 1_000_000;
+        return this;
+    }
+
+    /**
+     * Requests the running simulation to stop at the next processed event.
+     * Safe to call from any thread; results of a cancelled run are not collected reliably.
+     */
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    /**
+     * Workloads with arrival times are fed to the broker as simulated time advances rather
+     * than created up front, so memory follows the cloudlets in flight, not the total.
+     */
+    private boolean isStreaming() {
+        return config.getArrivalProcess() != ArrivalProcess.BATCH || config.getWorkloadType() != WorkloadType.RANDOM;
     }
 
-    private void createDatacenters() {
+    /**
+     * Generates the specs of n entities, in parallel for large counts. Every entity draws from
+     * a random stream of its own, so the result does not depend on the order of generation.
+     */
+    private static List<ResourceSpec> generateSpecs(int n, IntFunction<ResourceSpec> generator) {
+        IntStream indexes = IntStream.range(0, n);
+        if (n >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        return indexes.mapToObj(generator).toList();
+    }
+
+    // Resources of a host or VM, drawn before the entity is created
+    private record ResourceSpec(int pes, int mips, int ram, long storage, long bw) {
+    }
+
+    // The phases of run() are package-private so the JMH benchmarks can time them one by one
+
+    void createDatacenters() {
         datacenters = new ArrayList<>();
         for (int i = 0; i < config.getNumberOfDatacenters(); i++) {
             Datacenter dc = createDatacenter(i);
@@ -118,19 +249,23 @@ public class CloudSimPlusSimulator {
     }
 
     private Datacenter createDatacenter(int id) {
-        List<Host> hostList = new ArrayList<>();
-        for (int i = 0; i < config.getHostsPerDatacenter(); i++) {
+        RandomGenerator datacenterRandom = random.derive(RandomGenerator.Stream.DATACENTER, id);
+        List<ResourceSpec> hostSpecs = generateSpecs(config.getHostsPerDatacenter(), i -> {
+            RandomGenerator random = datacenterRandom.derive(RandomGenerator.Stream.HOST, i);
             int numPes = random.nextInt(MIN_HOST_CORES, MAX_HOST_CORES + 1);
             int mips = random.nextInt(MIN_HOST_MIPS, MAX_HOST_MIPS + 1);
             int ram = random.nextInt(MIN_HOST_RAM, MAX_HOST_RAM + 1, RAM_INCREMENT);
             long storage = random.nextLong(MIN_HOST_STORAGE, MAX_HOST_STORAGE + 1, STORAGE_INCREMENT);
             long bw = random.nextLong(MIN_HOST_BW, MAX_HOST_BW + 1, BW_INCREMENT);
+            return new ResourceSpec(numPes, mips, ram, storage, bw);
+        });
 
-            Host host = createHost(numPes, mips, ram, storage, bw);
-            hostList.add(host);
+        List<Host> hostList = new ArrayList<>(hostSpecs.size());
+        for (ResourceSpec spec : hostSpecs) {
+            hostList.add(createHost(spec.pes(), spec.mips(), spec.ram(), spec.storage(), spec.bw()));
         }
 
-        return new DatacenterSimple(simulation, hostList, new VmAllocationPolicyBestFit());
+        return new DatacenterSimple(simulation, hostList, config.getAllocationPolicy().create());
     }
 
     private Host createHost(int numPes, int mips, int ram, long storage, long bw) {
@@ -143,24 +278,30 @@ public class CloudSimPlusSimulator {
                 .setVmScheduler(new VmSchedulerTimeShared());
     }
 
-    private void createBroker() {
-        broker = new DatacenterBrokerSimple(simulation);
+    void createBroker() {
+        broker = config.getBrokerPolicy().create(simulation);
     }
 
-    private void createVms() {
-        vmList = new ArrayList<>();
-        for (int i = 0; i < config.getNumberOfVms(); i++) {
+    void createVms() {
+        List<ResourceSpec> vmSpecs = generateSpecs(config.getNumberOfVms(), i -> {
+            RandomGenerator random = this.random.derive(RandomGenerator.Stream.VM, i);
             int pes = random.nextInt(MIN_VM_CORES, MAX_VM_CORES + 1);
             int mips = random.nextInt(MIN_VM_MIPS, MAX_VM_MIPS + 1);
             int ram = random.nextInt(MIN_VM_RAM, MAX_VM_RAM + 1, VM_RAM_INCREMENT);
             long storage = random.nextLong(MIN_VM_STORAGE, MAX_VM_STORAGE + 1, VM_STORAGE_INCREMENT);
             long bw = random.nextLong(MIN_VM_BW, MAX_VM_BW + 1, VM_BW_INCREMENT);
-
-            Vm vm = new VmSimple(mips, pes)
-                    .setRam(ram)
-                    .setBw(bw)
-                    .setSize(storage)
-                    .setCloudletScheduler(new CloudletSchedulerTimeShared());
+            return new ResourceSpec(pes, mips, ram, storage, bw);
+        });
+
+        vmList = new ArrayList<>(vmSpecs.size());
+        for (ResourceSpec spec : vmSpecs) {
+            Vm vm = new VmSimple(spec.mips(), spec.pes())
+                    .setRam(spec.ram())
+                    .setBw(spec.bw())
+                    .setSize(spec.storage())
+                    .setCloudletScheduler(isStreaming()
+                            ? new StreamingCloudletScheduler()
+                            : new CloudletSchedulerTimeShared());
 
             vmList.add(vm);
         }
@@ -168,45 +309,152 @@ public class CloudSimPlusSimulator {
         broker.submitVmList(vmList);
     }
 
-    private void createCloudlets() {
+    void createCloudlets() {
+        int maxVmPes = vmList.stream().mapToInt(vm -> (int) vm.getPesNumber()).max().orElse(1);
+        if (isStreaming()) {
+            // Only the cloudlets arriving at time zero, and the next one, are created now
+            streamedCloudlets = new CloudletStatsRecorder(columnarResults, Math.max(16, config.getNumberOfCloudlets()));
+            feeder = new CloudletFeeder(WorkloadSources.open(config, random, traceDirectory, maxVmPes),
+                    broker, this::createCloudlet);
+            feeder.feed(0);
+            return;
+        }
+
         cloudletList = new ArrayList<>();
+        try (WorkloadSource workload = WorkloadSources.open(config, random, traceDirectory, maxVmPes)) {
+            for (CloudletSpec spec : workload.readAll()) {
+                cloudletList.add(createCloudlet(spec));
+            }
+        }
 
-        for (int i = 0; i < config.getNumberOfCloudlets(); i++) {
-            long length = random.nextLong(MIN_CLOUDLET_LENGTH, MAX_CLOUDLET_LENGTH + 1, CLOUDLET_LENGTH_INCREMENT);
-            int pes = random.nextInt(1, 9);  // Up to 8 cores per task
-            long fileSize = random.nextLong(MIN_CLOUDLET_FILE_SIZE, MAX_CLOUDLET_FILE_SIZE + 1);
-            long outputSize = random.nextLong(MIN_CLOUDLET_OUTPUT_SIZE, MAX_CLOUDLET_OUTPUT_SIZE + 1);
+        broker.submitCloudletList(cloudletList);
+    }
 
-            // More realistic utilization patterns
-            UtilizationModelDynamic cpuUtilization = new UtilizationModelDynamic(0.3)
-                    .setMaxResourceUtilization(0.6 + (random.nextDouble() * 0.4));  // 60-100% max utilization
+    private Cloudlet createCloudlet(CloudletSpec spec) {
+        // More realistic utilization patterns
+        UtilizationModelDynamic cpuUtilization = new UtilizationModelDynamic(0.3)
+                .setMaxResourceUtilization(spec.getMaxCpuUtilization());
 
-            UtilizationModelDynamic ramUtilization = new UtilizationModelDynamic(0.2)
-                    .setMaxResourceUtilization(0.5 + (random.nextDouble() * 0.5));  // 50-100% max utilization
+        UtilizationModelDynamic ramUtilization = new UtilizationModelDynamic(0.2)
+                .setMaxResourceUtilization(spec.getMaxRamUtilization());
 
-            UtilizationModelDynamic bwUtilization = new UtilizationModelDynamic(0.1)
-                    .setMaxResourceUtilization(0.4 + (random.nextDouble() * 0.4));  // 40-80% max utilization
+        UtilizationModelDynamic bwUtilization = new UtilizationModelDynamic(0.1)
+                .setMaxResourceUtilization(spec.getMaxBwUtilization());
 
-            Cloudlet cloudlet = new CloudletSimple(length, pes)
-                    .setFileSize(fileSize)
-                    .setOutputSize(outputSize)
-                    .setUtilizationModelCpu(cpuUtilization)
-                    .setUtilizationModelRam(ramUtilization)
-                    .setUtilizationModelBw(bwUtilization);
+        Cloudlet cloudlet = new CloudletSimple(spec.getLength(), spec.getPes())
+                .setFileSize(spec.getFileSize())
+                .setOutputSize(spec.getOutputSize())
+                .setUtilizationModelCpu(cpuUtilization)
+                .setUtilizationModelRam(ramUtilization)
+                .setUtilizationModelBw(bwUtilization);
+        cloudlet.setSubmissionDelay(spec.getSubmissionDelay());
 
-            cloudletList.add(cloudlet);
+        if (progressListener != null || streamedCloudlets != null) {
+            cloudlet.addOnFinishListener(cloudletFinishListener);
         }
+        return cloudlet;
+    }
 
-        broker.submitCloudletList(cloudletList);
+    // A single listener instance shared by all cloudlets
+    private final EventListener<CloudletVmEventInfo> cloudletFinishListener = info -> {
+        Cloudlet cloudlet = info.getCloudlet();
+        finishedCloudlets++;
+        totalExecutionTime += cloudlet.getActualCpuTime();
+        totalWaitTime += cloudlet.getExecStartTime() - submissionTime(cloudlet);
+        if (streamedCloudlets != null) {
+            streamedCloudlets.record(cloudlet, submissionTime(cloudlet));
+            feeder.onCloudletFinished();
+        }
+    };
+
+    /**
+     * Streamed cloudlets are submitted with a delay relative to the moment they were created,
+     * so their arrival in the datacenter is the time they were really submitted at.
+     */
+    private double submissionTime(Cloudlet cloudlet) {
+        return feeder != null ? cloudlet.getArrivalTime() : cloudlet.getSubmissionDelay();
+    }
+
+    /**
+     * @return Cloudlets submitted so far; for random streaming workloads, all that will be
+     */
+    private int getCloudletCount() {
+        if (feeder == null) {
+            return cloudletList != null ? cloudletList.size() : config.getNumberOfCloudlets();
+        }
+        return config.getWorkloadType() == WorkloadType.RANDOM
+                ? config.getNumberOfCloudlets()
+                : feeder.getSubmittedCount();
     }
 
-    private void collectResults() {
+    private void onClockTick(EventInfo info) {
+        if (System.nanoTime() - lastProgressNanos >= progressIntervalNanos) {
+            publishProgress();
+        }
+    }
+
+    private void publishProgress() {
+        lastProgressNanos = System.nanoTime();
+        progressListener.accept(new SimulationProgress(
+                simulation.clock(),
+                finishedCloudlets,
+                getCloudletCount(),
+                finishedCloudlets == 0 ? 0 : totalExecutionTime / finishedCloudlets,
+                finishedCloudlets == 0 ? 0 : totalWaitTime / finishedCloudlets,
+                (lastProgressNanos - startNanos) / 1_000_000
+        ));
+    }
+
+    void startSimulation() {
+        startNanos = System.nanoTime();
+        if (progressListener != null) {
+            simulation.addOnClockTickListener(this::onClockTick);
+        }
+        if (feeder != null) {
+            // The tick event carries the time of the previous tick, not the current one
+            simulation.addOnClockTickListener(info -> feeder.feed(simulation.clock()));
+        }
+        if (config.getUtilizationInterval() > 0) {
+            utilization = new UtilizationRecorder(config.getUtilizationInterval(), utilizationBuckets, datacenters, vmList);
+            simulation.addOnClockTickListener(info -> utilization.advanceTo(simulation.clock()));
+        }
+        if (config.getSimulationTimeLimit() > 0) {
+            simulation.terminateAt(config.getSimulationTimeLimit());
+        }
+        try {
+            simulation.start();
+        } finally {
+            closeWorkload();
+        }
+    }
+
+    private void closeWorkload() {
+        if (feeder != null) {
+            feeder.close();
+        }
+    }
+
+    void collectResults() {
         List<DatacenterStats> datacenterStatsList = collectDatacenterStats();
         List<VmStats> vmStatsList = collectVmStats();
-        List<CloudletStats> cloudletStatsList = collectCloudletStats();
-        SimulationSummary summary = createSimulationSummary();
+
+        CloudletStatsRecorder recorder = streamedCloudlets;
+        if (recorder == null) {
+            // The broker hands out a copy of its finished list, so it is fetched once and the
+            // stats rows and the summary are both built in the same pass over it
+            List<Cloudlet> finishedCloudlets = broker.getCloudletFinishedList();
+            recorder = new CloudletStatsRecorder(columnarResults, finishedCloudlets.size());
+            for (Cloudlet cloudlet : finishedCloudlets) {
+                recorder.record(cloudlet, cloudlet.getSubmissionDelay());
+            }
+        }
+        List<CloudletStats> cloudletStatsList = recorder.getStats();
+        SimulationSummary summary = createSimulationSummary(recorder.getAggregator());
 
         this.results = new SimulationResult(datacenterStatsList, vmStatsList, cloudletStatsList, summary);
+        if (utilization != null) {
+            results.setUtilization(utilization.getSeries());
+        }
     }
 
     private List<DatacenterStats> collectDatacenterStats() {
@@ -229,6 +477,9 @@ public class CloudSimPlusSimulator {
     }
 
     private List<VmStats> collectVmStats() {
+        if (columnarResults) {
+            return collectVmStatsTable();
+        }
         List<VmStats> vmStatsList = new ArrayList<>();
         for (Vm vm : vmList) {
             VmStats stats = new VmStats(
@@ -246,48 +497,53 @@ public class CloudSimPlusSimulator {
         return vmStatsList;
     }
 
-    private List<CloudletStats> collectCloudletStats() {
-        List<CloudletStats> cloudletStatsList = new ArrayList<>();
-        List<Cloudlet> finishedCloudlets = broker.getCloudletFinishedList();
-        for (Cloudlet cloudlet : finishedCloudlets) {
-            CloudletStats stats = new CloudletStats(
-                    cloudlet.getId(),
-                    cloudlet.getVm().getId(),
-                    cloudlet.getVm().getHost().getDatacenter().getId(),
-                    (int) cloudlet.getPesNumber(),
-                    cloudlet.getLength(),
-                    cloudlet.getActualCpuTime(),
-                    cloudlet.getExecStartTime(),
-                    cloudlet.getFinishTime(),
-                    cloudlet.getStatus().toString()
+    private VmStatsTable collectVmStatsTable() {
+        VmStatsTable.Builder table = new VmStatsTable.Builder(vmList.size());
+        for (Vm vm : vmList) {
+            table.add(
+                    vm.getId(),
+                    vm.getHost().getId(),
+                    vm.getHost().getDatacenter().getId(),
+                    (int) vm.getPesNumber(),
+                    vm.getMips(),
+                    vm.getRam().getCapacity(),
+                    vm.getStorage().getCapacity(),
+                    vm.getBw().getCapacity()
             );
-            cloudletStatsList.add(stats);
         }
-        return cloudletStatsList;
+        return table.build();
     }
 
-    private SimulationSummary createSimulationSummary() {
-        List<Cloudlet> finishedCloudlets = broker.getCloudletFinishedList();
-
-        double avgExecutionTime = finishedCloudlets.stream()
-                .mapToDouble(Cloudlet::getActualCpuTime)
-                .average()
-                .orElse(0);
-
-        double avgWaitTime = finishedCloudlets.stream()
-                .mapToDouble(c -> c.getExecStartTime() - c.getSubmissionDelay())
-                .average()
-                .orElse(0);
-
-        return new SimulationSummary(
+    private SimulationSummary createSimulationSummary(CloudletSummaryAggregator aggregator) {
+        SimulationSummary summary = new SimulationSummary(
                 datacenters.size(),
                 datacenters.stream().mapToInt(dc -> ((DatacenterSimple)dc).getHostList().size()).sum(),
                 vmList.size(),
-                cloudletList.size(),
-                finishedCloudlets.size(),
-                avgExecutionTime,
-                avgWaitTime
+                getCloudletCount(),
+                aggregator.getCount(),
+                aggregator.getExecutionTime(),
+                aggregator.getWaitTime(),
+                aggregator.getTurnaroundTime(),
+                aggregator.getMakespan()
         );
+        summary.setVmLoad(config.getBrokerPolicy(), aggregator.getVmLoadImbalance(vmList));
+        summary.setTerminationReason(terminationReason(aggregator.getCount()));
+        return summary;
+    }
+
+    private TerminationReason terminationReason(int completedCloudlets) {
+        if (wallClockExceeded) {
+            return TerminationReason.WALL_CLOCK_LIMIT;
+        }
+        double timeLimit = config.getSimulationTimeLimit();
+        if (timeLimit > 0 && simulation.clock() >= timeLimit && completedCloudlets < getCloudletCount()) {
+            return TerminationReason.SIMULATED_TIME_LIMIT;
+        }
+        return TerminationReason.COMPLETED;
+    }
+
+    public SimulationConfig getConfig() {
+        return config;
     }
 
     public SimulationResult getResults() {
@@ -0,0 +1,108 @@
+package org.example.simulation;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.brokers.DatacenterBrokerAbstract;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.example.simulation.workload.CloudletSpec;
+import org.example.simulation.workload.WorkloadSource;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Submits the cloudlets of a workload as simulated time reaches their arrival, plus the next
+ * one, whose delayed arrival keeps the simulation running until it is due. Finished cloudlets
+ * are dropped from the broker's lists in batches so they can be garbage collected.
+ */
+final class CloudletFeeder implements AutoCloseable {
+    private static final int RELEASE_BATCH_SIZE = 1024;
+
+    // The broker only hands out copies of its finished list and adds to it in a private method,
+    // so a subclass cannot drop finished cloudlets either; the list is cleared reflectively.
+    private static final Field BROKER_FINISHED_LIST = brokerFinishedListField();
+
+    private final WorkloadSource source;
+    private final DatacenterBroker broker;
+    private final Function<CloudletSpec, Cloudlet> cloudletFactory;
+    private CloudletSpec next;
+    private double lastArrival = Double.NEGATIVE_INFINITY;
+    private int submitted;
+    private int finishedSinceRelease;
+
+    /**
+     * @throws IllegalArgumentException if the broker does not extend {@link DatacenterBrokerAbstract}
+     */
+    CloudletFeeder(WorkloadSource source, DatacenterBroker broker, Function<CloudletSpec, Cloudlet> cloudletFactory) {
+        if (!(broker instanceof DatacenterBrokerAbstract)) {
+            throw new IllegalArgumentException("Cannot release finished cloudlets of " + broker.getClass().getName());
+        }
+        this.source = source;
+        this.broker = broker;
+        this.cloudletFactory = cloudletFactory;
+        this.next = source.hasNext() ? source.next() : null;
+    }
+
+    /**
+     * Submits the cloudlets that arrive by the given time, and the first one after it.
+     * Arrivals that are already in the past (an unsorted trace) are submitted right away.
+     */
+    void feed(double now) {
+        List<Cloudlet> arriving = null;
+        while (next != null && (next.getSubmissionDelay() <= now || lastArrival <= now)) {
+            double arrival = next.getSubmissionDelay();
+            lastArrival = Math.max(lastArrival, arrival);
+            if (arriving == null) {
+                arriving = new ArrayList<>();
+            }
+            arriving.add(cloudletFactory.apply(next.withSubmissionDelay(Math.max(0, arrival - now))));
+            next = source.hasNext() ? source.next() : null;
+        }
+        if (arriving != null) {
+            submitted += arriving.size();
+            broker.submitCloudletList(arriving);
+        }
+        if (finishedSinceRelease >= RELEASE_BATCH_SIZE) {
+            releaseFinished();
+        }
+    }
+
+    /** Called for every finished cloudlet, once its stats are recorded. */
+    void onCloudletFinished() {
+        finishedSinceRelease++;
+    }
+
+    int getSubmittedCount() {
+        return submitted;
+    }
+
+    private void releaseFinished() {
+        finishedSinceRelease = 0;
+        broker.getCloudletSubmittedList().removeIf(Cloudlet::isFinished);
+        broker.getCloudletCreatedList().removeIf(Cloudlet::isFinished);
+        try {
+            ((List<?>) BROKER_FINISHED_LIST.get(broker)).clear();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot clear the broker's finished cloudlets", e);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the CloudSim Plus version on the classpath has no such list
+     */
+    private static Field brokerFinishedListField() {
+        try {
+            Field field = DatacenterBrokerAbstract.class.getDeclaredField("cloudletFinishedList");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("DatacenterBrokerAbstract.cloudletFinishedList is not accessible", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        source.close();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.simulation;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.CloudletStatsTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns finished cloudlets into stats rows and summary measures, either all at once after
+ * the run or one by one as they finish, so the cloudlets need not be kept around.
+ */
+final class CloudletStatsRecorder {
+    private final CloudletSummaryAggregator aggregator = new CloudletSummaryAggregator();
+    private final List<CloudletStats> rows;
+    private final CloudletStatsTable.Builder table;
+
+    /**
+     * @param columnar Store the rows in a {@link CloudletStatsTable} rather than one object per row
+     */
+    CloudletStatsRecorder(boolean columnar, int expectedSize) {
+        this.rows = columnar ? null : new ArrayList<>(expectedSize);
+        this.table = columnar ? new CloudletStatsTable.Builder(expectedSize) : null;
+    }
+
+    /**
+     * @param submitted Simulated time the cloudlet was submitted at
+     */
+    void record(Cloudlet cloudlet, double submitted) {
+        aggregator.add(cloudlet, submitted);
+        if (table != null) {
+            table.add(
+                    cloudlet.getId(),
+                    cloudlet.getVm().getId(),
+                    cloudlet.getVm().getHost().getDatacenter().getId(),
+                    (int) cloudlet.getPesNumber(),
+                    cloudlet.getLength(),
+                    cloudlet.getActualCpuTime(),
+                    cloudlet.getExecStartTime(),
+                    cloudlet.getFinishTime(),
+                    cloudlet.getStatus().toString()
+            );
+            return;
+        }
+        rows.add(new CloudletStats(
+                cloudlet.getId(),
+                cloudlet.getVm().getId(),
+                cloudlet.getVm().getHost().getDatacenter().getId(),
+                (int) cloudlet.getPesNumber(),
+                cloudlet.getLength(),
+                cloudlet.getActualCpuTime(),
+                cloudlet.getExecStartTime(),
+                cloudlet.getFinishTime(),
+                cloudlet.getStatus().toString()
+        ));
+    }
+
+    List<CloudletStats> getStats() {
+        return table != null ? table.build() : rows;
+    }
+
+    CloudletSummaryAggregator getAggregator() {
+        return aggregator;
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.simulation;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.vms.Vm;
+import org.example.model.result.Distribution;
+import org.example.util.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Accumulates the per-cloudlet measures of a run in one pass and fixed memory:
+ * execution time, wait time (start minus submission) and turnaround time
+ * (finish minus submission), plus the run's makespan and the work done by each VM.
+ */
+final class CloudletSummaryAggregator {
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private final LatencyHistogram waitTime = new LatencyHistogram();
+    private final LatencyHistogram turnaroundTime = new LatencyHistogram();
+    private double makespan;
+    /** Completed MI per VM, indexed by VM id. */
+    private double[] vmWork = new double[16];
+
+    /**
+     * @param submitted Simulated time the cloudlet was submitted at
+     */
+    void add(Cloudlet cloudlet, double submitted) {
+        double finished = cloudlet.getFinishTime();
+        executionTime.record(cloudlet.getActualCpuTime());
+        waitTime.record(cloudlet.getExecStartTime() - submitted);
+        turnaroundTime.record(finished - submitted);
+        makespan = Math.max(makespan, finished);
+
+        int vmId = (int) cloudlet.getVm().getId();
+        if (vmId >= vmWork.length) {
+            vmWork = Arrays.copyOf(vmWork, Math.max(vmWork.length * 2, vmId + 1));
+        }
+        vmWork[vmId] += cloudlet.getTotalLength();
+    }
+
+    int getCount() {
+        return (int) executionTime.getCount();
+    }
+
+    Distribution getExecutionTime() {
+        return Distribution.of(executionTime);
+    }
+
+    Distribution getWaitTime() {
+        return Distribution.of(waitTime);
+    }
+
+    Distribution getTurnaroundTime() {
+        return Distribution.of(turnaroundTime);
+    }
+
+    double getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * @param vms Every VM of the run, including those that got no cloudlet
+     * @return (max - min) / mean of the VMs' busy time, the work they completed over their MIPS
+     */
+    double getVmLoadImbalance(List<Vm> vms) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = 0;
+        double sum = 0;
+        for (Vm vm : vms) {
+            int vmId = (int) vm.getId();
+            double busyTime = vmId < vmWork.length ? vmWork[vmId] / vm.getTotalMipsCapacity() : 0;
+            min = Math.min(min, busyTime);
+            max = Math.max(max, busyTime);
+            sum += busyTime;
+        }
+        return sum > 0 ? (max - min) / (sum / vms.size()) : 0;
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.simulation;
+
+import org.example.model.result.SimulationMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Collects the timing and memory figures of one {@link CloudSimPlusSimulator#run()}.
+ * Used only from the simulation thread.
+ */
+final class RunInstrumentation {
+    // Used heap is sampled every this many events while the event loop runs
+    private static final int HEAP_SAMPLE_EVENT_INTERVAL = 4096;
+
+    private static final Runtime RUNTIME = Runtime.getRuntime();
+
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final ThreadMXBean cpuBean;
+    private long startAllocatedBytes = -1;
+    private long startCpuNanos = -1;
+    private long baselineHeap;
+    private long peakHeap;
+
+    private long phaseStart;
+    private long datacentersNanos;
+    private long vmsNanos;
+    private long cloudletsNanos;
+    private long simulationNanos;
+    private long collectionNanos;
+    private long eventsProcessed;
+
+    RunInstrumentation() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        this.allocationBean = threadBean instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()
+                ? bean : null;
+        this.cpuBean = threadBean.isCurrentThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled()
+                ? threadBean : null;
+    }
+
+    void begin() {
+        if (allocationBean != null) {
+            startAllocatedBytes = allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        if (cpuBean != null) {
+            startCpuNanos = cpuBean.getCurrentThreadCpuTime();
+        }
+        baselineHeap = usedHeap();
+        peakHeap = baselineHeap;
+        phaseStart = System.nanoTime();
+    }
+
+    void endDatacenters() { datacentersNanos += lap(); }
+    void endVms() { vmsNanos += lap(); }
+    void endCloudlets() { cloudletsNanos += lap(); }
+    void endSimulation() { simulationNanos += lap(); }
+    void endCollection() { collectionNanos += lap(); }
+
+    void onEventProcessed() {
+        if (++eventsProcessed % HEAP_SAMPLE_EVENT_INTERVAL == 0) {
+            sampleHeap();
+        }
+    }
+
+    long getEventsProcessed() {
+        return eventsProcessed;
+    }
+
+    SimulationMetrics toMetrics(int finishedCloudlets) {
+        long totalNanos = datacentersNanos + vmsNanos + cloudletsNanos + simulationNanos + collectionNanos;
+        long allocated = allocationBean != null && startAllocatedBytes >= 0
+                ? allocationBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes
+                : -1;
+        double cpuMillis = cpuBean != null && startCpuNanos >= 0
+                ? millis(cpuBean.getCurrentThreadCpuTime() - startCpuNanos)
+                : -1;
+        return new SimulationMetrics(
+                millis(datacentersNanos),
+                millis(vmsNanos),
+                millis(cloudletsNanos),
+                millis(simulationNanos),
+                millis(collectionNanos),
+                eventsProcessed,
+                allocated,
+                Math.max(0, peakHeap - baselineHeap),
+                totalNanos > 0 ? finishedCloudlets * 1e9 / totalNanos : 0,
+                cpuMillis
+        );
+    }
+
+    private long lap() {
+        sampleHeap();
+        long now = System.nanoTime();
+        long elapsed = now - phaseStart;
+        phaseStart = now;
+        return elapsed;
+    }
+
+    private void sampleHeap() {
+        peakHeap = Math.max(peakHeap, usedHeap());
+    }
+
+    private static long usedHeap() {
+        return RUNTIME.totalMemory() - RUNTIME.freeMemory();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
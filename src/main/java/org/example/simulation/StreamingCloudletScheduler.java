@@ -0,0 +1,33 @@
+package org.example.simulation;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletExecution;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
+
+import java.util.List;
+
+/**
+ * A time-shared scheduler that forgets cloudlets once they finish. The stock scheduler keeps
+ * every finished cloudlet for the life of the VM, which for long streaming runs means holding
+ * the whole workload; the simulator records each cloudlet's stats as it finishes instead.
+ */
+final class StreamingCloudletScheduler extends CloudletSchedulerTimeShared {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void cloudletFinish(CloudletExecution cle) {
+        super.cloudletFinish(cle);
+        // It was just appended, so this is the last element
+        List<CloudletExecution> finished = getCloudletFinishedList();
+        if (!finished.isEmpty() && finished.get(finished.size() - 1) == cle) {
+            finished.remove(finished.size() - 1);
+        } else {
+            finished.remove(cle);
+        }
+    }
+
+    @Override
+    public void addCloudletToReturnedList(Cloudlet cloudlet) {
+        // Only ever written, never read: the cloudlet itself records that it was returned
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.simulation;
+
+import org.cloudsimplus.datacenters.Datacenter;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.vms.Vm;
+import org.example.model.stats.UtilizationSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Samples the utilization of every host and VM at a fixed interval of simulated time.
+ * <p>
+ * Called on every clock tick, before the events of the new time are processed, so the entities
+ * still show the state they were in since the previous tick; every sampling instant in between
+ * gets that state. The entities are only read when at least one instant has passed.
+ */
+final class UtilizationRecorder {
+    private final double interval;
+    private final List<Host> hosts;
+    private final List<Vm> vms;
+    private final UtilizationSeries.Builder series;
+    private final float[] cpu;
+    private final float[] ram;
+    private final float[] bandwidth;
+    // Index of the next sampling instant, at nextSample * interval
+    private long nextSample;
+
+    UtilizationRecorder(double interval, int maxBuckets, List<Datacenter> datacenters, List<Vm> vms) {
+        this.interval = interval;
+        this.hosts = new ArrayList<>();
+        List<Long> datacenterIds = new ArrayList<>();
+        for (Datacenter datacenter : datacenters) {
+            for (Host host : datacenter.getHostList()) {
+                hosts.add(host);
+                datacenterIds.add(datacenter.getId());
+            }
+        }
+        this.vms = vms;
+
+        long[] hostIds = new long[hosts.size()];
+        long[] hostDatacenterIds = new long[hosts.size()];
+        for (int i = 0; i < hostIds.length; i++) {
+            hostIds[i] = hosts.get(i).getId();
+            hostDatacenterIds[i] = datacenterIds.get(i);
+        }
+        long[] vmIds = new long[vms.size()];
+        for (int i = 0; i < vmIds.length; i++) {
+            vmIds[i] = vms.get(i).getId();
+        }
+
+        this.series = new UtilizationSeries.Builder(interval, maxBuckets, hostIds, hostDatacenterIds, vmIds);
+        int entities = hostIds.length + vmIds.length;
+        this.cpu = new float[entities];
+        this.ram = new float[entities];
+        this.bandwidth = new float[entities];
+    }
+
+    /**
+     * Records the sampling instants before the given time.
+     */
+    void advanceTo(double clock) {
+        long due = (long) Math.ceil(clock / interval);
+        if (due <= nextSample) {
+            return;
+        }
+        int entity = 0;
+        for (Host host : hosts) {
+            cpu[entity] = (float) host.getCpuPercentUtilization();
+            ram[entity] = (float) host.getRam().getPercentUtilization();
+            bandwidth[entity] = (float) host.getBw().getPercentUtilization();
+            entity++;
+        }
+        for (Vm vm : vms) {
+            cpu[entity] = (float) vm.getCpuPercentUtilization();
+            ram[entity] = (float) vm.getRam().getPercentUtilization();
+            bandwidth[entity] = (float) vm.getBw().getPercentUtilization();
+            entity++;
+        }
+        series.add(cpu, ram, bandwidth, due - nextSample);
+        nextSample = due;
+    }
+
+    UtilizationSeries getSeries() {
+        return series.build();
+    }
+}
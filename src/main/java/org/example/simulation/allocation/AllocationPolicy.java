@@ -0,0 +1,27 @@
+package org.example.simulation.allocation;
+
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicyBestFit;
+
+/**
+ * How each datacenter chooses the host of a VM.
+ */
+public enum AllocationPolicy {
+    /** CloudSim Plus best fit: scans every host for each VM, preferring the fewest free PEs. */
+    BEST_FIT,
+    /**
+     * Best fit over an index of hosts ordered by available MIPS: the suitable host with the
+     * least MIPS left is found without scanning the hosts that cannot take the VM.
+     */
+    INDEXED_BEST_FIT;
+
+    /**
+     * @return A new policy instance; policies hold per-datacenter state and cannot be shared
+     */
+    public VmAllocationPolicy create() {
+        return switch (this) {
+            case BEST_FIT -> new VmAllocationPolicyBestFit();
+            case INDEXED_BEST_FIT -> new VmAllocationPolicyIndexedBestFit();
+        };
+    }
+}
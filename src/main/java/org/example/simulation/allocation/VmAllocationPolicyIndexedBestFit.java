@@ -0,0 +1,93 @@
+package org.example.simulation.allocation;
+
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicyAbstract;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Best-fit VM allocation backed by an index of the hosts ordered by available MIPS. A lookup
+ * starts at the VM's total MIPS and walks up to the first suitable host, so placement costs
+ * O(log n) instead of a scan of every host. Unlike VmAllocationPolicyBestFit, which prefers the
+ * host with the fewest free PEs, this picks the tightest fit on CPU capacity.
+ */
+public class VmAllocationPolicyIndexedBestFit extends VmAllocationPolicyAbstract {
+    /** Slack on the MIPS bound, so rounding in the schedulers' sums never excludes a host. */
+    private static final double MIPS_TOLERANCE = 1e-6;
+
+    private final NavigableSet<HostEntry> index = new TreeSet<>();
+    /** Entry currently in the index for each host, needed to remove it once its MIPS change. */
+    private final Map<Host, HostEntry> entries = new IdentityHashMap<>();
+
+    @Override
+    protected Optional<Host> defaultFindHostForVm(Vm vm) {
+        ensureIndexed();
+        HostEntry lowerBound = new HostEntry(vm.getTotalMipsCapacity() - MIPS_TOLERANCE, -1, null);
+        for (HostEntry entry : index.tailSet(lowerBound, true)) {
+            if (entry.host().isSuitableForVm(vm)) {
+                return Optional.of(entry.host());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public HostSuitability allocateHostForVm(Vm vm, Host host) {
+        HostSuitability suitability = super.allocateHostForVm(vm, host);
+        update(host);
+        return suitability;
+    }
+
+    @Override
+    public void deallocateHostForVm(Vm vm) {
+        Host host = vm.getHost();
+        super.deallocateHostForVm(vm);
+        update(host);
+    }
+
+    /**
+     * (Re)builds the index when hosts were added to the datacenter since it was last built.
+     */
+    private void ensureIndexed() {
+        List<Host> hosts = getHostList();
+        if (entries.size() == hosts.size()) {
+            return;
+        }
+        index.clear();
+        entries.clear();
+        for (int i = 0; i < hosts.size(); i++) {
+            HostEntry entry = new HostEntry(hosts.get(i).getTotalAvailableMips(), i, hosts.get(i));
+            index.add(entry);
+            entries.put(entry.host(), entry);
+        }
+    }
+
+    private void update(Host host) {
+        HostEntry current = entries.get(host);
+        if (current == null) {
+            return;
+        }
+        double availableMips = host.getTotalAvailableMips();
+        if (availableMips != current.availableMips()) {
+            HostEntry updated = new HostEntry(availableMips, current.position(), host);
+            index.remove(current);
+            index.add(updated);
+            entries.put(host, updated);
+        }
+    }
+
+    private record HostEntry(double availableMips, int position, Host host) implements Comparable<HostEntry> {
+        @Override
+        public int compareTo(HostEntry other) {
+            int byMips = Double.compare(availableMips, other.availableMips);
+            return byMips != 0 ? byMips : Integer.compare(position, other.position);
+        }
+    }
+}
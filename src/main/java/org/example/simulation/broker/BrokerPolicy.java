@@ -0,0 +1,22 @@
+package org.example.simulation.broker;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+
+/**
+ * How the broker chooses the VM each cloudlet runs on.
+ */
+public enum BrokerPolicy {
+    /** CloudSim Plus default: cloudlets go to the running VMs in turn, whatever their size. */
+    ROUND_ROBIN,
+    /** Each cloudlet goes to the VM expected to finish its queued work first. */
+    LEAST_LOADED;
+
+    public DatacenterBroker create(CloudSimPlus simulation) {
+        return switch (this) {
+            case ROUND_ROBIN -> new DatacenterBrokerSimple(simulation);
+            case LEAST_LOADED -> new DatacenterBrokerLeastLoaded(simulation);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.simulation.broker;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Broker that sends each cloudlet to the VM expected to be done with its work first: the
+ * length of the cloudlets sent to it over its total MIPS. VMs sit in a priority queue by that
+ * estimate, so a placement costs O(log n); ties go to the VM with the most MIPS.
+ */
+public class DatacenterBrokerLeastLoaded extends DatacenterBrokerSimple {
+    private static final Comparator<VmLoad> BY_COMPLETION = Comparator
+            .comparingDouble(VmLoad::completionTime)
+            .thenComparing(Comparator.comparingDouble(VmLoad::capacity).reversed())
+            .thenComparingLong(load -> load.vm().getId());
+
+    private final PriorityQueue<VmLoad> queue = new PriorityQueue<>(BY_COMPLETION);
+    /** Current load of each VM in the queue, kept when the queue is rebuilt. */
+    private final Map<Vm, VmLoad> loads = new IdentityHashMap<>();
+
+    public DatacenterBrokerLeastLoaded(CloudSimPlus simulation) {
+        super(simulation);
+    }
+
+    @Override
+    protected Vm defaultVmMapper(Cloudlet cloudlet) {
+        if (cloudlet.isBoundToVm()) {
+            return cloudlet.getVm();
+        }
+        List<Vm> running = getVmExecList();
+        if (running.isEmpty()) {
+            return Vm.NULL;
+        }
+        if (loads.size() != running.size() || !queue.peek().vm().isCreated()) {
+            rebuild(running);
+        }
+
+        VmLoad least = queue.poll();
+        double start = Math.max(least.completionTime(), getSimulation().clock());
+        VmLoad charged = new VmLoad(least.vm(), least.capacity(),
+                start + cloudlet.getTotalLength() / least.capacity());
+        queue.add(charged);
+        loads.put(charged.vm(), charged);
+        return charged.vm();
+    }
+
+    /**
+     * Re-reads the running VMs after some were created or destroyed, keeping the estimates of
+     * the ones already known.
+     */
+    private void rebuild(List<Vm> running) {
+        Map<Vm, VmLoad> previous = new IdentityHashMap<>(loads);
+        loads.clear();
+        queue.clear();
+        for (Vm vm : running) {
+            VmLoad load = previous.get(vm);
+            if (load == null) {
+                load = new VmLoad(vm, vm.getTotalMipsCapacity(), 0);
+            }
+            loads.put(vm, load);
+            queue.add(load);
+        }
+    }
+
+    private record VmLoad(Vm vm, double capacity, double completionTime) {
+    }
+}
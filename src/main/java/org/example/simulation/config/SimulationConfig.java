@@ -1,7 +1,15 @@
 package org.example.simulation.config;
 
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.broker.BrokerPolicy;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadType;
+
+import java.util.Objects;
+
 /**
- * Configuration parameters for the CloudSim simulation.
+ * Configuration parameters for the CloudSim simulation. Equal configs produce equal results,
+ * so they are used as cache keys.
  */
 public class SimulationConfig {
     private final int numberOfDatacenters;
@@ -9,17 +17,37 @@ public class SimulationConfig {
     private final int numberOfVms;
     private final int numberOfCloudlets;
     private final long randomSeed;
+    private final WorkloadType workloadType;
+    private final String traceFile;
+    private final ArrivalProcess arrivalProcess;
+    private final double arrivalRate;
+    private final AllocationPolicy allocationPolicy;
+    private final BrokerPolicy brokerPolicy;
+    private final double simulationTimeLimit;
+    private final double utilizationInterval;
 
     public SimulationConfig(int numberOfDatacenters, int hostsPerDatacenter, int numberOfVms, int numberOfCloudlets) {
         this(numberOfDatacenters, hostsPerDatacenter, numberOfVms, numberOfCloudlets, 42);
     }
 
     public SimulationConfig(int numberOfDatacenters, int hostsPerDatacenter, int numberOfVms, int numberOfCloudlets, long randomSeed) {
-        this.numberOfDatacenters = numberOfDatacenters;
-        this.hostsPerDatacenter = hostsPerDatacenter;
-        this.numberOfVms = numberOfVms;
-        this.numberOfCloudlets = numberOfCloudlets;
-        this.randomSeed = randomSeed;
+        this(new Builder(numberOfDatacenters, hostsPerDatacenter, numberOfVms, numberOfCloudlets).randomSeed(randomSeed).validate());
+    }
+
+    private SimulationConfig(Builder builder) {
+        this.numberOfDatacenters = builder.numberOfDatacenters;
+        this.hostsPerDatacenter = builder.hostsPerDatacenter;
+        this.numberOfVms = builder.numberOfVms;
+        this.numberOfCloudlets = builder.numberOfCloudlets;
+        this.randomSeed = builder.randomSeed;
+        this.workloadType = builder.workloadType;
+        this.traceFile = builder.workloadType == WorkloadType.RANDOM ? null : builder.traceFile;
+        this.arrivalProcess = builder.arrivalProcess;
+        this.arrivalRate = builder.arrivalProcess == ArrivalProcess.BATCH ? 0 : builder.arrivalRate;
+        this.allocationPolicy = builder.allocationPolicy;
+        this.brokerPolicy = builder.brokerPolicy;
+        this.simulationTimeLimit = builder.simulationTimeLimit;
+        this.utilizationInterval = builder.utilizationInterval;
     }
 
     public int getNumberOfDatacenters() {
@@ -34,6 +62,9 @@ public class SimulationConfig {
         return numberOfVms;
     }
 
+    /**
+     * @return Number of random cloudlets, or the maximum number of trace records to replay (0 for all)
+     */
     public int getNumberOfCloudlets() {
         return numberOfCloudlets;
     }
@@ -41,4 +72,218 @@ public class SimulationConfig {
     public long getRandomSeed() {
         return randomSeed;
     }
-}
\ No newline at end of file
+
+    public WorkloadType getWorkloadType() {
+        return workloadType;
+    }
+
+    /**
+     * @return Trace file name relative to the trace directory, or null for random workloads
+     */
+    public String getTraceFile() {
+        return traceFile;
+    }
+
+    public ArrivalProcess getArrivalProcess() {
+        return arrivalProcess;
+    }
+
+    /**
+     * @return Mean cloudlet arrivals per second of simulated time, or 0 for batch arrivals
+     */
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    public AllocationPolicy getAllocationPolicy() {
+        return allocationPolicy;
+    }
+
+    public BrokerPolicy getBrokerPolicy() {
+        return brokerPolicy;
+    }
+
+    /**
+     * @return Simulated time at which the run is stopped, finished or not; 0 for no limit
+     */
+    public double getSimulationTimeLimit() {
+        return simulationTimeLimit;
+    }
+
+    /**
+     * @return Simulated time between host and VM utilization samples; 0 for no sampling
+     */
+    public double getUtilizationInterval() {
+        return utilizationInterval;
+    }
+
+    /**
+     * @return A copy of this config with other sizes and the same settings otherwise
+     */
+    public SimulationConfig resize(int hostsPerDatacenter, int numberOfVms, int numberOfCloudlets) {
+        return new Builder(numberOfDatacenters, hostsPerDatacenter, numberOfVms, numberOfCloudlets)
+                .randomSeed(randomSeed)
+                .workload(workloadType, traceFile)
+                .arrivals(arrivalProcess, arrivalRate)
+                .allocationPolicy(allocationPolicy)
+                .brokerPolicy(brokerPolicy)
+                .simulationTimeLimit(simulationTimeLimit)
+                .utilizationInterval(utilizationInterval)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SimulationConfig that)) return false;
+        return numberOfDatacenters == that.numberOfDatacenters
+                && hostsPerDatacenter == that.hostsPerDatacenter
+                && numberOfVms == that.numberOfVms
+                && numberOfCloudlets == that.numberOfCloudlets
+                && randomSeed == that.randomSeed
+                && workloadType == that.workloadType
+                && Objects.equals(traceFile, that.traceFile)
+                && arrivalProcess == that.arrivalProcess
+                && Double.compare(arrivalRate, that.arrivalRate) == 0
+                && allocationPolicy == that.allocationPolicy
+                && brokerPolicy == that.brokerPolicy
+                && Double.compare(simulationTimeLimit, that.simulationTimeLimit) == 0
+                && Double.compare(utilizationInterval, that.utilizationInterval) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberOfDatacenters, hostsPerDatacenter, numberOfVms, numberOfCloudlets, randomSeed,
+                workloadType, traceFile, arrivalProcess, arrivalRate, allocationPolicy, brokerPolicy, simulationTimeLimit,
+                utilizationInterval);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationConfig{" +
+                "datacenters=" + numberOfDatacenters +
+                ", hostsPerDatacenter=" + hostsPerDatacenter +
+                ", vms=" + numberOfVms +
+                ", cloudlets=" + numberOfCloudlets +
+                ", seed=" + randomSeed +
+                ", workload=" + workloadType +
+                (traceFile != null ? ", trace=" + traceFile : "") +
+                (arrivalProcess != ArrivalProcess.BATCH ? ", arrivals=" + arrivalProcess + "@" + arrivalRate : "") +
+                (allocationPolicy != AllocationPolicy.BEST_FIT ? ", allocation=" + allocationPolicy : "") +
+                (brokerPolicy != BrokerPolicy.ROUND_ROBIN ? ", broker=" + brokerPolicy : "") +
+                (simulationTimeLimit > 0 ? ", simulationTimeLimit=" + simulationTimeLimit : "") +
+                (utilizationInterval > 0 ? ", utilizationInterval=" + utilizationInterval : "") +
+                '}';
+    }
+
+    /**
+     * Builds configs with optional settings; anything not set keeps the default used by /run.
+     */
+    public static class Builder {
+        private final int numberOfDatacenters;
+        private final int hostsPerDatacenter;
+        private final int numberOfVms;
+        private final int numberOfCloudlets;
+        private long randomSeed = 42;
+        private WorkloadType workloadType = WorkloadType.RANDOM;
+        private String traceFile;
+        private ArrivalProcess arrivalProcess = ArrivalProcess.BATCH;
+        private double arrivalRate;
+        private AllocationPolicy allocationPolicy = AllocationPolicy.BEST_FIT;
+        private BrokerPolicy brokerPolicy = BrokerPolicy.ROUND_ROBIN;
+        private double simulationTimeLimit;
+        private double utilizationInterval;
+
+        public Builder(int numberOfDatacenters, int hostsPerDatacenter, int numberOfVms, int numberOfCloudlets) {
+            this.numberOfDatacenters = numberOfDatacenters;
+            this.hostsPerDatacenter = hostsPerDatacenter;
+            this.numberOfVms = numberOfVms;
+            this.numberOfCloudlets = numberOfCloudlets;
+        }
+
+        public Builder randomSeed(long randomSeed) {
+            this.randomSeed = randomSeed;
+            return this;
+        }
+
+        /**
+         * @param traceFile Trace file name relative to the trace directory; ignored for RANDOM
+         */
+        public Builder workload(WorkloadType workloadType, String traceFile) {
+            this.workloadType = Objects.requireNonNull(workloadType);
+            this.traceFile = traceFile;
+            return this;
+        }
+
+        /**
+         * @param arrivalRate Mean arrivals per second of simulated time; ignored for BATCH
+         */
+        public Builder arrivals(ArrivalProcess arrivalProcess, double arrivalRate) {
+            this.arrivalProcess = Objects.requireNonNull(arrivalProcess);
+            this.arrivalRate = arrivalRate;
+            return this;
+        }
+
+        public Builder allocationPolicy(AllocationPolicy allocationPolicy) {
+            this.allocationPolicy = Objects.requireNonNull(allocationPolicy);
+            return this;
+        }
+
+        public Builder brokerPolicy(BrokerPolicy brokerPolicy) {
+            this.brokerPolicy = Objects.requireNonNull(brokerPolicy);
+            return this;
+        }
+
+        /**
+         * @param simulationTimeLimit Simulated time at which the run is stopped; 0 for no limit
+         */
+        public Builder simulationTimeLimit(double simulationTimeLimit) {
+            this.simulationTimeLimit = simulationTimeLimit;
+            return this;
+        }
+
+        /**
+         * @param utilizationInterval Simulated time between samples; 0 for no sampling
+         */
+        public Builder utilizationInterval(double utilizationInterval) {
+            this.utilizationInterval = utilizationInterval;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if there is not at least one datacenter, host and VM, or
+         *                                  one cloudlet for a random workload (0 replays a whole trace),
+         *                                  if an arrival process is combined with a trace or has no
+         *                                  positive rate, or the time limit or sampling interval is negative
+         */
+        public SimulationConfig build() {
+            return new SimulationConfig(validate());
+        }
+
+        private Builder validate() {
+            if (numberOfDatacenters <= 0 || hostsPerDatacenter <= 0 || numberOfVms <= 0) {
+                throw new IllegalArgumentException("Datacenters, hosts and VMs must be positive numbers");
+            }
+            if (numberOfCloudlets < 0 || (numberOfCloudlets == 0 && workloadType == WorkloadType.RANDOM)) {
+                throw new IllegalArgumentException(workloadType == WorkloadType.RANDOM
+                        ? "The number of cloudlets must be a positive number"
+                        : "The number of cloudlets must be a positive number, or 0 for the whole trace");
+            }
+            if (!(simulationTimeLimit >= 0) || Double.isInfinite(simulationTimeLimit)) {
+                throw new IllegalArgumentException("The simulation time limit must be a positive number, or 0 for none");
+            }
+            if (!(utilizationInterval >= 0) || Double.isInfinite(utilizationInterval)) {
+                throw new IllegalArgumentException("The utilization interval must be a positive number, or 0 for none");
+            }
+            if (arrivalProcess != ArrivalProcess.BATCH) {
+                if (workloadType != WorkloadType.RANDOM) {
+                    throw new IllegalArgumentException("Trace workloads use the arrival times of the trace");
+                }
+                if (!(arrivalRate > 0) || Double.isInfinite(arrivalRate)) {
+                    throw new IllegalArgumentException("The arrival rate must be a positive number");
+                }
+            }
+            return this;
+        }
+    }
+}
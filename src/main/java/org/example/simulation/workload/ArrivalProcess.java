@@ -0,0 +1,17 @@
+package org.example.simulation.workload;
+
+/**
+ * When the cloudlets of a random workload arrive. Anything other than {@link #BATCH} makes the
+ * simulator create cloudlets as simulated time reaches their arrival instead of up front.
+ */
+public enum ArrivalProcess {
+    /** Every cloudlet is submitted at time zero. */
+    BATCH,
+    /** Exponential gaps between arrivals, at the configured mean rate. */
+    POISSON,
+    /**
+     * Bursts of several cloudlets arriving together. Bursts start as a Poisson process and their
+     * sizes are geometric, so the mean rate is still the configured one.
+     */
+    BURSTY
+}
@@ -0,0 +1,73 @@
+package org.example.simulation.workload;
+
+import org.example.util.RandomGenerator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Gives the cloudlets of another source arrival times drawn from an {@link ArrivalProcess}.
+ * Arrivals come from a stream of their own, so for a given seed the cloudlets themselves
+ * are the same whatever the arrival process.
+ */
+public class ArrivalWorkloadSource implements WorkloadSource {
+    /** Mean number of cloudlets per burst of the {@link ArrivalProcess#BURSTY} process. */
+    static final double MEAN_BURST_SIZE = 16;
+
+    private final WorkloadSource source;
+    private final ArrivalProcess process;
+    private final double rate;
+    private final RandomGenerator random;
+    private double clock;
+    private int leftInBurst;
+
+    /**
+     * @param rate   Mean arrivals per second of simulated time
+     * @param random Simulation generator; arrivals are drawn from a stream derived from it
+     */
+    public ArrivalWorkloadSource(WorkloadSource source, ArrivalProcess process, double rate, RandomGenerator random) {
+        if (process == ArrivalProcess.BATCH || !(rate > 0)) {
+            throw new IllegalArgumentException("Arrivals need a non-batch process and a positive rate");
+        }
+        this.source = source;
+        this.process = process;
+        this.rate = rate;
+        this.random = random.derive(RandomGenerator.Stream.ARRIVAL, 0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public CloudletSpec next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CloudletSpec spec = source.next();
+        if (process == ArrivalProcess.POISSON) {
+            clock += exponential(rate);
+        } else if (leftInBurst > 0) {
+            leftInBurst--;
+        } else {
+            clock += exponential(rate / MEAN_BURST_SIZE);
+            leftInBurst = geometric(MEAN_BURST_SIZE) - 1;
+        }
+        return spec.withSubmissionDelay(clock);
+    }
+
+    private double exponential(double rate) {
+        return -Math.log(1 - random.nextDouble()) / rate;
+    }
+
+    /** @return A value of at least 1 with the given mean */
+    private int geometric(double mean) {
+        double u = 1 - random.nextDouble();
+        return 1 + (int) Math.min(Integer.MAX_VALUE - 1, Math.floor(Math.log(u) / Math.log(1 - 1 / mean)));
+    }
+
+    @Override
+    public void close() {
+        source.close();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.simulation.workload;
+
+/**
+ * Everything needed to create one cloudlet, independent of the simulation it ends up in.
+ */
+public class CloudletSpec {
+    private final double submissionDelay;
+    private final long length;
+    private final int pes;
+    private final long fileSize;
+    private final long outputSize;
+    private final double maxCpuUtilization;
+    private final double maxRamUtilization;
+    private final double maxBwUtilization;
+
+    public CloudletSpec(double submissionDelay, long length, int pes, long fileSize, long outputSize,
+                        double maxCpuUtilization, double maxRamUtilization, double maxBwUtilization) {
+        this.submissionDelay = submissionDelay;
+        this.length = length;
+        this.pes = pes;
+        this.fileSize = fileSize;
+        this.outputSize = outputSize;
+        this.maxCpuUtilization = maxCpuUtilization;
+        this.maxRamUtilization = maxRamUtilization;
+        this.maxBwUtilization = maxBwUtilization;
+    }
+
+    /** @return The same cloudlet, submitted at another time */
+    public CloudletSpec withSubmissionDelay(double submissionDelay) {
+        return new CloudletSpec(submissionDelay, length, pes, fileSize, outputSize,
+                maxCpuUtilization, maxRamUtilization, maxBwUtilization);
+    }
+
+    // Getters
+    /** Seconds of simulated time after the start at which the cloudlet is submitted. */
+    public double getSubmissionDelay() { return submissionDelay; }
+    public long getLength() { return length; }
+    public int getPes() { return pes; }
+    public long getFileSize() { return fileSize; }
+    public long getOutputSize() { return outputSize; }
+    public double getMaxCpuUtilization() { return maxCpuUtilization; }
+    public double getMaxRamUtilization() { return maxRamUtilization; }
+    public double getMaxBwUtilization() { return maxBwUtilization; }
+}
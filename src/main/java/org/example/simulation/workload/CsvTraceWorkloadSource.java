@@ -0,0 +1,94 @@
+package org.example.simulation.workload;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Replays a CSV trace. The first line is a header naming the columns, in any order
+ * (case, spaces, '_' and '-' are ignored):
+ * <ul>
+ *     <li>arrival time in seconds: arrival, arrivalTime, submit, submitTime or timestamp</li>
+ *     <li>size: length (MI per PE), or runtime (seconds on a {@value #REFERENCE_MIPS} MIPS PE)</li>
+ *     <li>cores: pes, cores, cpus or processors</li>
+ *     <li>optional: fileSize and outputSize in MB</li>
+ * </ul>
+ * Lines starting with '#' are ignored.
+ */
+public class CsvTraceWorkloadSource extends TraceWorkloadSource {
+    private static final List<String> ARRIVAL_COLUMNS = List.of("arrival", "arrivaltime", "submit", "submittime", "timestamp");
+    private static final List<String> LENGTH_COLUMNS = List.of("length", "lengthmi", "mi");
+    private static final List<String> RUNTIME_COLUMNS = List.of("runtime", "duration");
+    private static final List<String> PES_COLUMNS = List.of("pes", "cores", "cpus", "processors");
+    private static final List<String> FILE_SIZE_COLUMNS = List.of("filesize", "inputsize");
+    private static final List<String> OUTPUT_SIZE_COLUMNS = List.of("outputsize");
+
+    private final int arrivalColumn;
+    private final int lengthColumn;
+    private final int runtimeColumn;
+    private final int pesColumn;
+    private final int fileSizeColumn;
+    private final int outputSizeColumn;
+
+    public CsvTraceWorkloadSource(Path file, int limit, int maxPes) throws IOException {
+        super(file, limit, maxPes);
+        String header = readLine();
+        while (header != null && (header.isBlank() || header.startsWith("#"))) {
+            header = readLine();
+        }
+        if (header == null) {
+            close();
+            throw new IllegalArgumentException(file.getFileName() + ": CSV trace has no header line");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        int count = split(header, ',');
+        for (int i = 0; i < count; i++) {
+            columns.putIfAbsent(field(i).toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", ""), i);
+        }
+        this.arrivalColumn = column(columns, ARRIVAL_COLUMNS);
+        this.lengthColumn = column(columns, LENGTH_COLUMNS);
+        this.runtimeColumn = column(columns, RUNTIME_COLUMNS);
+        this.pesColumn = column(columns, PES_COLUMNS);
+        this.fileSizeColumn = column(columns, FILE_SIZE_COLUMNS);
+        this.outputSizeColumn = column(columns, OUTPUT_SIZE_COLUMNS);
+        if (arrivalColumn < 0 || pesColumn < 0 || (lengthColumn < 0 && runtimeColumn < 0)) {
+            close();
+            throw new IllegalArgumentException(file.getFileName()
+                    + ": CSV trace header needs arrival, pes and length or runtime columns");
+        }
+    }
+
+    @Override
+    protected boolean parse(String line, TraceRecord record) {
+        if (line.startsWith("#")) {
+            return false;
+        }
+        split(line, ',');
+        record.arrival = doubleField(arrivalColumn);
+        record.length = lengthColumn >= 0
+                ? longField(lengthColumn)
+                : Math.round(doubleField(runtimeColumn) * REFERENCE_MIPS);
+        record.pes = (int) Math.min(Integer.MAX_VALUE, longField(pesColumn));
+        if (fileSizeColumn >= 0 && !isEmptyField(fileSizeColumn)) {
+            record.fileSize = longField(fileSizeColumn);
+        }
+        if (outputSizeColumn >= 0 && !isEmptyField(outputSizeColumn)) {
+            record.outputSize = longField(outputSizeColumn);
+        }
+        return true;
+    }
+
+    private static int column(Map<String, Integer> columns, List<String> names) {
+        for (String name : names) {
+            Integer column = columns.get(name);
+            if (column != null) {
+                return column;
+            }
+        }
+        return -1;
+    }
+}
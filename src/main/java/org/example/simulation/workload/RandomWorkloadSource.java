@@ -0,0 +1,83 @@
+package org.example.simulation.workload;
+
+import org.example.util.RandomGenerator;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic workload: a fixed number of cloudlets submitted at time zero. Each cloudlet draws
+ * its sizes from a stream of its own, so any cloudlet can be generated independently of the
+ * others and large workloads are generated in parallel.
+ */
+public class RandomWorkloadSource implements WorkloadSource {
+    // Cloudlet resources (representing real workloads)
+    private static final long MIN_CLOUDLET_LENGTH = 50000;  // More realistic task sizes
+    private static final long MAX_CLOUDLET_LENGTH = 5000000;
+    private static final long CLOUDLET_LENGTH_INCREMENT = 50000;
+
+    // Cloudlet file sizes in MB (100MB to 5GB input, 50MB to 2GB output)
+    private static final long MIN_CLOUDLET_FILE_SIZE = 100;
+    private static final long MAX_CLOUDLET_FILE_SIZE = 5 * 1024;
+    private static final long MIN_CLOUDLET_OUTPUT_SIZE = 50;
+    private static final long MAX_CLOUDLET_OUTPUT_SIZE = 2 * 1024;
+
+    private static final int PARALLEL_THRESHOLD = 16_384;
+
+    private final RandomGenerator generator;
+    private final int count;
+    private int produced;
+
+    public RandomWorkloadSource(RandomGenerator random, int count) {
+        this.generator = random;
+        this.count = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return produced < count;
+    }
+
+    @Override
+    public CloudletSpec next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return spec(produced++);
+    }
+
+    @Override
+    public List<CloudletSpec> readAll() {
+        IntStream indexes = IntStream.range(produced, count);
+        if (count - produced >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        List<CloudletSpec> specs = indexes.mapToObj(this::spec).toList();
+        produced = count;
+        return specs;
+    }
+
+    /**
+     * @return The spec of the cloudlet with the given index, the same whenever it is generated
+     */
+    public CloudletSpec spec(int index) {
+        RandomGenerator random = generator.derive(RandomGenerator.Stream.CLOUDLET, index);
+        long length = random.nextLong(MIN_CLOUDLET_LENGTH, MAX_CLOUDLET_LENGTH + 1, CLOUDLET_LENGTH_INCREMENT);
+        int pes = random.nextInt(1, 9);  // Up to 8 cores per task
+        long fileSize = random.nextLong(MIN_CLOUDLET_FILE_SIZE, MAX_CLOUDLET_FILE_SIZE + 1);
+        long outputSize = random.nextLong(MIN_CLOUDLET_OUTPUT_SIZE, MAX_CLOUDLET_OUTPUT_SIZE + 1);
+
+        // More realistic utilization patterns
+        double maxCpu = 0.6 + (random.nextDouble() * 0.4);  // 60-100% max utilization
+        double maxRam = 0.5 + (random.nextDouble() * 0.5);  // 50-100% max utilization
+        double maxBw = 0.4 + (random.nextDouble() * 0.4);   // 40-80% max utilization
+
+        return new CloudletSpec(0, length, pes, fileSize, outputSize, maxCpu, maxRam, maxBw);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}
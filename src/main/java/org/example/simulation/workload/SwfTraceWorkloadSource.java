@@ -0,0 +1,42 @@
+package org.example.simulation.workload;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Replays a job log in the Standard Workload Format: one job per line with 18 whitespace
+ * separated fields, and header comments starting with ';'. Uses the submit time (field 2),
+ * run time (field 4) and allocated processors (field 5, or requested processors, field 8).
+ * Jobs that never ran (run time or processors not positive) are skipped.
+ */
+public class SwfTraceWorkloadSource extends TraceWorkloadSource {
+    private static final int SUBMIT_TIME = 1;
+    private static final int RUN_TIME = 3;
+    private static final int ALLOCATED_PROCESSORS = 4;
+    private static final int REQUESTED_PROCESSORS = 7;
+
+    public SwfTraceWorkloadSource(Path file, int limit, int maxPes) throws IOException {
+        super(file, limit, maxPes);
+    }
+
+    @Override
+    protected boolean parse(String line, TraceRecord record) {
+        if (line.stripLeading().startsWith(";")) {
+            return false;
+        }
+        split(line, -1);
+        double runTime = doubleField(RUN_TIME);
+        long processors = longField(ALLOCATED_PROCESSORS);
+        if (processors <= 0 && !isEmptyField(REQUESTED_PROCESSORS)) {
+            processors = longField(REQUESTED_PROCESSORS);
+        }
+        if (runTime <= 0 || processors <= 0) {
+            return false;
+        }
+
+        record.arrival = doubleField(SUBMIT_TIME);
+        record.length = Math.max(1, Math.round(runTime * REFERENCE_MIPS));
+        record.pes = (int) Math.min(Integer.MAX_VALUE, processors);
+        return true;
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.simulation.workload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of workloads replayed line by line from a trace file. Arrival times are shifted so
+ * the first accepted record arrives at time zero.
+ */
+public abstract class TraceWorkloadSource implements WorkloadSource {
+    /** MIPS of the PE a trace's run times were measured on; run time * MIPS gives the length. */
+    public static final double REFERENCE_MIPS = 3000;
+    protected static final long DEFAULT_FILE_SIZE = 1;
+    protected static final long DEFAULT_OUTPUT_SIZE = 1;
+
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private final Path file;
+    private final BufferedReader reader;
+    private final int limit;
+    private final int maxPes;
+    private final TraceRecord record = new TraceRecord();
+    private long lineNumber;
+    private int produced;
+    private double firstArrival = Double.NaN;
+    private CloudletSpec next;
+    private boolean exhausted;
+
+    // Field boundaries of the current line
+    private String line;
+    private int[] fieldStarts = new int[32];
+    private int[] fieldEnds = new int[32];
+    private int fieldCount;
+
+    /**
+     * @param limit  Maximum number of records to replay, or 0 for the whole trace
+     * @param maxPes Records asking for more PEs are capped to this, so they fit the largest VM
+     */
+    protected TraceWorkloadSource(Path file, int limit, int maxPes) throws IOException {
+        this.file = file;
+        this.reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8),
+                READ_BUFFER_SIZE);
+        this.limit = limit;
+        this.maxPes = Math.max(1, maxPes);
+    }
+
+    /**
+     * @return true if the line described a job, false to skip it (comments, cancelled jobs...)
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    protected abstract boolean parse(String line, TraceRecord record);
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            next = advance();
+            exhausted = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public CloudletSpec next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CloudletSpec spec = next;
+        next = null;
+        return spec;
+    }
+
+    private CloudletSpec advance() {
+        if (limit > 0 && produced >= limit) {
+            return null;
+        }
+        String current;
+        while ((current = readLine()) != null) {
+            if (current.isBlank()) {
+                continue;
+            }
+            record.clear();
+            boolean accepted;
+            try {
+                accepted = parse(current, record);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(file.getFileName() + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+            if (!accepted || record.length <= 0 || record.pes <= 0) {
+                continue;
+            }
+
+            if (Double.isNaN(firstArrival)) {
+                firstArrival = record.arrival;
+            }
+            produced++;
+            return new CloudletSpec(Math.max(0, record.arrival - firstArrival), record.length,
+                    Math.min(record.pes, maxPes), record.fileSize, record.outputSize, 1.0, 1.0, 1.0);
+        }
+        return null;
+    }
+
+    /**
+     * @return The next raw line of the file, or null at its end
+     */
+    protected String readLine() {
+        try {
+            String read = reader.readLine();
+            if (read != null) {
+                lineNumber++;
+            }
+            return read;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read trace " + file.getFileName(), e);
+        }
+    }
+
+    /**
+     * Splits a line into fields without copying it. Separator -1 splits on runs of whitespace.
+     *
+     * @return The number of fields
+     */
+    protected int split(String line, int separator) {
+        this.line = line;
+        fieldCount = 0;
+        int length = line.length();
+        int start = 0;
+        if (separator < 0) {
+            while (start < length) {
+                while (start < length && Character.isWhitespace(line.charAt(start))) {
+                    start++;
+                }
+                if (start == length) {
+                    break;
+                }
+                int end = start;
+                while (end < length && !Character.isWhitespace(line.charAt(end))) {
+                    end++;
+                }
+                addField(start, end);
+                start = end;
+            }
+        } else {
+            for (int i = 0; i <= length; i++) {
+                if (i == length || line.charAt(i) == separator) {
+                    addField(start, i);
+                    start = i + 1;
+                }
+            }
+        }
+        return fieldCount;
+    }
+
+    private void addField(int start, int end) {
+        // Trim spaces and surrounding quotes
+        while (start < end && (line.charAt(start) == ' ' || line.charAt(start) == '"')) {
+            start++;
+        }
+        while (end > start && (line.charAt(end - 1) == ' ' || line.charAt(end - 1) == '"' || line.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    protected String field(int index) {
+        checkField(index);
+        return line.substring(fieldStarts[index], fieldEnds[index]);
+    }
+
+    protected boolean isEmptyField(int index) {
+        return index >= fieldCount || fieldStarts[index] == fieldEnds[index];
+    }
+
+    protected double doubleField(int index) {
+        checkField(index);
+        try {
+            return Double.parseDouble(line.substring(fieldStarts[index], fieldEnds[index]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("field " + (index + 1) + " is not a number: '" + field(index) + "'");
+        }
+    }
+
+    protected long longField(int index) {
+        checkField(index);
+        try {
+            return Long.parseLong(line, fieldStarts[index], fieldEnds[index], 10);
+        } catch (NumberFormatException e) {
+            // Some traces write integers as decimals ("4.0")
+            return (long) doubleField(index);
+        }
+    }
+
+    private void checkField(int index) {
+        if (index >= fieldCount) {
+            throw new IllegalArgumentException("expected at least " + (index + 1) + " fields, found " + fieldCount);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected static final class TraceRecord {
+        /** Arrival time in seconds, on the trace's own time axis. */
+        public double arrival;
+        /** Length in MI per PE. */
+        public long length;
+        public int pes;
+        public long fileSize;
+        public long outputSize;
+
+        void clear() {
+            arrival = 0;
+            length = 0;
+            pes = 0;
+            fileSize = DEFAULT_FILE_SIZE;
+            outputSize = DEFAULT_OUTPUT_SIZE;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.simulation.workload;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A stream of cloudlet specs, pulled one at a time so a workload never has to be held
+ * in memory as a whole. Sources backed by files must be closed.
+ */
+public interface WorkloadSource extends Iterator<CloudletSpec>, AutoCloseable {
+
+    /**
+     * Reads all remaining specs at once, for callers that need the whole workload anyway.
+     * Sources that can generate specs independently of each other do it in parallel.
+     */
+    default List<CloudletSpec> readAll() {
+        List<CloudletSpec> specs = new ArrayList<>();
+        forEachRemaining(specs::add);
+        return specs;
+    }
+
+    @Override
+    void close();
+}
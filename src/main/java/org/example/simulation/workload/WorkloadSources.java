@@ -0,0 +1,67 @@
+package org.example.simulation.workload;
+
+import org.example.simulation.config.SimulationConfig;
+import org.example.util.RandomGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Opens the workload source described by a simulation config.
+ */
+public final class WorkloadSources {
+
+    private WorkloadSources() {
+    }
+
+    /**
+     * @param traceDirectory The only directory trace files may be read from
+     * @param maxPes         PEs of the largest VM; trace jobs asking for more are capped to it
+     */
+    public static WorkloadSource open(SimulationConfig config, RandomGenerator random, Path traceDirectory, int maxPes) {
+        if (config.getWorkloadType() == WorkloadType.RANDOM) {
+            WorkloadSource source = new RandomWorkloadSource(random, config.getNumberOfCloudlets());
+            return config.getArrivalProcess() == ArrivalProcess.BATCH
+                    ? source
+                    : new ArrivalWorkloadSource(source, config.getArrivalProcess(), config.getArrivalRate(), random);
+        }
+
+        Path trace = resolveTrace(traceDirectory, config.getTraceFile());
+        int limit = Math.max(0, config.getNumberOfCloudlets());
+        try {
+            return config.getWorkloadType() == WorkloadType.CSV
+                    ? new CsvTraceWorkloadSource(trace, limit, maxPes)
+                    : new SwfTraceWorkloadSource(trace, limit, maxPes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open trace " + config.getTraceFile(), e);
+        }
+    }
+
+    /**
+     * Resolves a trace file name against the trace directory, refusing anything outside it.
+     *
+     * @throws IllegalArgumentException if the name escapes the directory or the file does not exist
+     */
+    public static Path resolveTrace(Path traceDirectory, String traceFile) {
+        if (traceDirectory == null) {
+            throw new IllegalArgumentException("No trace directory is configured");
+        }
+        if (traceFile == null || traceFile.isBlank()) {
+            throw new IllegalArgumentException("A trace file is required for trace workloads");
+        }
+        Path directory = traceDirectory.toAbsolutePath().normalize();
+        Path trace = directory.resolve(traceFile).normalize();
+        try {
+            // Real paths, so a symbolic link cannot point out of the directory either
+            if (trace.startsWith(directory) && Files.isRegularFile(trace)
+                    && trace.toRealPath().startsWith(directory.toRealPath())) {
+                return trace;
+            }
+        } catch (IOException e) {
+            // Reported as unknown below
+        }
+        throw new IllegalArgumentException("Unknown trace file: " + traceFile);
+    }
+}
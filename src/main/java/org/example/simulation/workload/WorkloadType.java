@@ -0,0 +1,13 @@
+package org.example.simulation.workload;
+
+/**
+ * Where the cloudlets of a simulation come from.
+ */
+public enum WorkloadType {
+    /** Synthetic cloudlets drawn from the simulation's random generator. */
+    RANDOM,
+    /** A CSV trace with a header line (see {@link CsvTraceWorkloadSource}). */
+    CSV,
+    /** A job log in the Standard Workload Format (see {@link SwfTraceWorkloadSource}). */
+    SWF
+}
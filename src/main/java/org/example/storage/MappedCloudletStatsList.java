@@ -0,0 +1,67 @@
+package org.example.storage;
+
+import org.example.model.stats.CloudletStats;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Cloudlet stats read straight from the memory-mapped columns of a {@link ResultArchive}.
+ * Rows are decoded on access, so paging through an archived run only touches the pages read.
+ */
+class MappedCloudletStatsList extends AbstractList<CloudletStats> implements RandomAccess {
+    private final int size;
+    private final ByteBuffer ids;
+    private final ByteBuffer vmIds;
+    private final ByteBuffer datacenterIds;
+    private final ByteBuffer lengths;
+    private final ByteBuffer executionTimes;
+    private final ByteBuffer startTimes;
+    private final ByteBuffer finishTimes;
+    private final ByteBuffer pes;
+    private final ByteBuffer statusCodes;
+    private final String[] statusDictionary;
+
+    MappedCloudletStatsList(int size, ByteBuffer ids, ByteBuffer vmIds, ByteBuffer datacenterIds,
+                            ByteBuffer lengths, ByteBuffer executionTimes, ByteBuffer startTimes,
+                            ByteBuffer finishTimes, ByteBuffer pes, ByteBuffer statusCodes,
+                            String[] statusDictionary) {
+        this.size = size;
+        this.ids = ids;
+        this.vmIds = vmIds;
+        this.datacenterIds = datacenterIds;
+        this.lengths = lengths;
+        this.executionTimes = executionTimes;
+        this.startTimes = startTimes;
+        this.finishTimes = finishTimes;
+        this.pes = pes;
+        this.statusCodes = statusCodes;
+        this.statusDictionary = statusDictionary;
+    }
+
+    @Override
+    public CloudletStats get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return new CloudletStats(getId(row), getVmId(row), getDatacenterId(row), getPes(row), getLength(row),
+                getExecutionTime(row), getStartTime(row), getFinishTime(row), getStatus(row));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Column accessors; absolute reads, so the buffers can be shared between threads
+    public long getId(int row) { return ids.getLong(row * 8); }
+    public long getVmId(int row) { return vmIds.getLong(row * 8); }
+    public long getDatacenterId(int row) { return datacenterIds.getLong(row * 8); }
+    public long getLength(int row) { return lengths.getLong(row * 8); }
+    public double getExecutionTime(int row) { return executionTimes.getDouble(row * 8); }
+    public double getStartTime(int row) { return startTimes.getDouble(row * 8); }
+    public double getFinishTime(int row) { return finishTimes.getDouble(row * 8); }
+    public int getPes(int row) { return pes.getInt(row * 4); }
+    public String getStatus(int row) { return statusDictionary[statusCodes.get(row)]; }
+}
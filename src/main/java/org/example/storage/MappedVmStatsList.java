@@ -0,0 +1,51 @@
+package org.example.storage;
+
+import org.example.model.stats.VmStats;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * VM stats read straight from the memory-mapped columns of a {@link ResultArchive}.
+ */
+class MappedVmStatsList extends AbstractList<VmStats> implements RandomAccess {
+    private final int size;
+    private final ByteBuffer ids;
+    private final ByteBuffer hostIds;
+    private final ByteBuffer datacenterIds;
+    private final ByteBuffer ram;
+    private final ByteBuffer storage;
+    private final ByteBuffer bandwidth;
+    private final ByteBuffer mips;
+    private final ByteBuffer pes;
+
+    MappedVmStatsList(int size, ByteBuffer ids, ByteBuffer hostIds, ByteBuffer datacenterIds, ByteBuffer ram,
+                      ByteBuffer storage, ByteBuffer bandwidth, ByteBuffer mips, ByteBuffer pes) {
+        this.size = size;
+        this.ids = ids;
+        this.hostIds = hostIds;
+        this.datacenterIds = datacenterIds;
+        this.ram = ram;
+        this.storage = storage;
+        this.bandwidth = bandwidth;
+        this.mips = mips;
+        this.pes = pes;
+    }
+
+    @Override
+    public VmStats get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        int wide = row * 8;
+        return new VmStats(ids.getLong(wide), hostIds.getLong(wide), datacenterIds.getLong(wide),
+                pes.getInt(row * 4), mips.getDouble(wide), ram.getLong(wide), storage.getLong(wide),
+                bandwidth.getLong(wide));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
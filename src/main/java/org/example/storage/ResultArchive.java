@@ -0,0 +1,603 @@
+package org.example.storage;
+
+import org.example.model.result.Distribution;
+import org.example.model.result.SimulationMetrics;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.result.TerminationReason;
+import org.example.model.stats.CloudletStatsTable;
+import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.UtilizationSeries;
+import org.example.model.stats.VmStatsTable;
+import org.example.simulation.allocation.AllocationPolicy;
+import org.example.simulation.broker.BrokerPolicy;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Binary on-disk format for a simulation result.
+ * <pre>
+ * magic "CSRA" | version | header length | reserved          4 ints, big-endian
+ * header: config (key/value pairs), summary,                 DataOutput encoding
+ *         datacenter stats, row counts,
+ *         cloudlet status dictionary
+ * cloudlet columns (from the next 8-byte boundary):          little-endian, fixed width
+ *   id, vmId, datacenterId, length, executionTime, startTime, finishTime  8 bytes * rows each
+ *   pes                                                      4 bytes * rows
+ *   status code                                              1 byte * rows
+ * VM columns (from the next 8-byte boundary):
+ *   id, hostId, datacenterId, ram, storage, bandwidth, mips  8 bytes * rows each
+ *   pes                                                      4 bytes * rows
+ * utilization, if sampled (from the next 8-byte boundary):
+ *   host id, host datacenterId                               8 bytes * hosts each
+ *   VM id                                                    8 bytes * VMs
+ *   cpu, cpuPeak, ram, bandwidth                             4 bytes * (hosts + VMs) * buckets each
+ * </pre>
+ * Columns are read back memory-mapped, so an opened archive keeps only the header on the heap.
+ */
+public final class ResultArchive {
+    static final int MAGIC = 0x43535241;
+    static final int VERSION = 1;
+    private static final int PREAMBLE_BYTES = 16;
+    private static final int CLOUDLET_WIDE_COLUMNS = 7;
+    private static final int VM_WIDE_COLUMNS = 7;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final SimulationConfig config;
+    private final SimulationResult result;
+    private final long sizeBytes;
+
+    private ResultArchive(SimulationConfig config, SimulationResult result, long sizeBytes) {
+        this.config = config;
+        this.result = result;
+        this.sizeBytes = sizeBytes;
+    }
+
+    public SimulationConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return The result, with VM and cloudlet stats backed by the mapped file
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Writes the result to a temporary file next to the target and moves it into place,
+     * so readers never see a partially written archive.
+     */
+    public static void write(Path file, SimulationConfig config, SimulationResult result) throws IOException {
+        CloudletStatsTable cloudlets = CloudletStatsTable.of(result.getCloudletStats());
+        VmStatsTable vms = VmStatsTable.of(result.getVmStats());
+        byte[] header = encodeHeader(config, result, cloudlets, vms);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer preamble = ByteBuffer.allocate(PREAMBLE_BYTES)
+                    .putInt(MAGIC).putInt(VERSION).putInt(header.length).putInt(0);
+            writeFully(channel, preamble.flip());
+            writeFully(channel, ByteBuffer.wrap(header));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int rows = cloudlets.size();
+            pad(channel, buffer);
+            writeLongs(channel, buffer, rows, cloudlets::getId);
+            writeLongs(channel, buffer, rows, cloudlets::getVmId);
+            writeLongs(channel, buffer, rows, cloudlets::getDatacenterId);
+            writeLongs(channel, buffer, rows, cloudlets::getLength);
+            writeDoubles(channel, buffer, rows, cloudlets::getExecutionTime);
+            writeDoubles(channel, buffer, rows, cloudlets::getStartTime);
+            writeDoubles(channel, buffer, rows, cloudlets::getFinishTime);
+            writeInts(channel, buffer, rows, cloudlets::getPes);
+            writeBytes(channel, buffer, rows, cloudlets::getStatusCode);
+
+            rows = vms.size();
+            pad(channel, buffer);
+            writeLongs(channel, buffer, rows, vms::getId);
+            writeLongs(channel, buffer, rows, vms::getHostId);
+            writeLongs(channel, buffer, rows, vms::getDatacenterId);
+            writeLongs(channel, buffer, rows, vms::getRam);
+            writeLongs(channel, buffer, rows, vms::getStorage);
+            writeLongs(channel, buffer, rows, vms::getBandwidth);
+            writeDoubles(channel, buffer, rows, vms::getMips);
+            writeInts(channel, buffer, rows, vms::getPes);
+
+            UtilizationSeries utilization = result.getUtilization();
+            if (utilization != null) {
+                pad(channel, buffer);
+                writeLongs(channel, buffer, utilization.getHostCount(), utilization::getHostId);
+                writeLongs(channel, buffer, utilization.getHostCount(), utilization::getHostDatacenterId);
+                writeLongs(channel, buffer, utilization.getVmCount(), utilization::getVmId);
+                writeFloats(channel, buffer, utilization, utilization::getCpu);
+                writeFloats(channel, buffer, utilization, utilization::getCpuPeak);
+                writeFloats(channel, buffer, utilization, utilization::getRam);
+                writeFloats(channel, buffer, utilization, utilization::getBandwidth);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps an archive written by {@link #write}. The file can be deleted or replaced afterwards;
+     * the mapping stays valid until the returned result is garbage collected.
+     *
+     * @throws IOException if the file is not an archive of this version, or is truncated or corrupt
+     */
+    public static ResultArchive open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer preamble = ByteBuffer.allocate(PREAMBLE_BYTES);
+            if (fileSize < PREAMBLE_BYTES || readFully(channel, preamble, 0) < PREAMBLE_BYTES) {
+                throw new IOException("Not a result archive: " + file);
+            }
+            preamble.flip();
+            if (preamble.getInt() != MAGIC) {
+                throw new IOException("Not a result archive: " + file);
+            }
+            int version = preamble.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported result archive version " + version + ": " + file);
+            }
+            int headerLength = preamble.getInt();
+            if (headerLength < 0 || headerLength > fileSize - PREAMBLE_BYTES) {
+                throw new IOException("Corrupt result archive header length " + headerLength + ": " + file);
+            }
+            ByteBuffer headerBuffer = ByteBuffer.allocate(headerLength);
+            if (readFully(channel, headerBuffer, PREAMBLE_BYTES) < headerLength) {
+                throw new IOException("Truncated result archive: " + file);
+            }
+            Header header;
+            try {
+                header = decodeHeader(headerBuffer.array());
+            } catch (IllegalArgumentException | NegativeArraySizeException e) {
+                throw new IOException("Corrupt result archive header: " + file, e);
+            }
+
+            long offset = align(PREAMBLE_BYTES + (long) headerLength);
+            int rows = header.cloudletRows;
+            long cloudletEnd = offset + (8L * CLOUDLET_WIDE_COLUMNS + 4 + 1) * rows;
+            long vmOffset = align(cloudletEnd);
+            long vmEnd = vmOffset + (8L * VM_WIDE_COLUMNS + 4) * header.vmRows;
+            long utilizationOffset = align(vmEnd);
+            long utilizationEnd = header.utilization == null ? vmEnd
+                    : utilizationOffset + 8L * (2 * header.utilization.hosts + header.utilization.vms)
+                    + 4L * 4 * header.utilization.values();
+            if (utilizationEnd > fileSize) {
+                throw new IOException("Truncated result archive: " + file);
+            }
+
+            MappedCloudletStatsList cloudlets = new MappedCloudletStatsList(rows,
+                    map(channel, offset, rows, 8), map(channel, offset + 8L * rows, rows, 8),
+                    map(channel, offset + 16L * rows, rows, 8), map(channel, offset + 24L * rows, rows, 8),
+                    map(channel, offset + 32L * rows, rows, 8), map(channel, offset + 40L * rows, rows, 8),
+                    map(channel, offset + 48L * rows, rows, 8), map(channel, offset + 56L * rows, rows, 4),
+                    map(channel, offset + 60L * rows, rows, 1), header.statusDictionary);
+
+            rows = header.vmRows;
+            MappedVmStatsList vms = new MappedVmStatsList(rows,
+                    map(channel, vmOffset, rows, 8), map(channel, vmOffset + 8L * rows, rows, 8),
+                    map(channel, vmOffset + 16L * rows, rows, 8), map(channel, vmOffset + 24L * rows, rows, 8),
+                    map(channel, vmOffset + 32L * rows, rows, 8), map(channel, vmOffset + 40L * rows, rows, 8),
+                    map(channel, vmOffset + 48L * rows, rows, 8), map(channel, vmOffset + 56L * rows, rows, 4));
+
+            SimulationResult result = new SimulationResult(header.datacenterStats, vms, cloudlets, header.summary);
+            if (header.utilization != null) {
+                result.setUtilization(mapUtilization(channel, utilizationOffset, header.utilization));
+            }
+            return new ResultArchive(header.config, result, fileSize);
+        }
+    }
+
+    /**
+     * Reads the entity ids onto the heap and maps the values, which make up the bulk of the series.
+     */
+    private static UtilizationSeries mapUtilization(FileChannel channel, long offset, UtilizationHeader header)
+            throws IOException {
+        long[] hostIds = readLongs(map(channel, offset, header.hosts, 8), header.hosts);
+        long[] hostDatacenterIds = readLongs(map(channel, offset + 8L * header.hosts, header.hosts, 8), header.hosts);
+        long[] vmIds = readLongs(map(channel, offset + 16L * header.hosts, header.vms, 8), header.vms);
+        long valuesOffset = offset + 8L * (2 * header.hosts + header.vms);
+        int values = header.values();
+        return new UtilizationSeries(header.sampleInterval, header.samplesPerBucket, header.buckets, header.samples,
+                hostIds, hostDatacenterIds, vmIds,
+                map(channel, valuesOffset, values, 4).asFloatBuffer(),
+                map(channel, valuesOffset + 4L * values, values, 4).asFloatBuffer(),
+                map(channel, valuesOffset + 8L * values, values, 4).asFloatBuffer(),
+                map(channel, valuesOffset + 12L * values, values, 4).asFloatBuffer());
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int rows) {
+        long[] values = new long[rows];
+        buffer.asLongBuffer().get(values);
+        return values;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, int rows, int width) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, (long) rows * width);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static byte[] encodeHeader(SimulationConfig config, SimulationResult result,
+                                       CloudletStatsTable cloudlets, VmStatsTable vms) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        Map<String, String> configValues = new LinkedHashMap<>();
+        configValues.put("datacenters", Integer.toString(config.getNumberOfDatacenters()));
+        configValues.put("hostsPerDatacenter", Integer.toString(config.getHostsPerDatacenter()));
+        configValues.put("vms", Integer.toString(config.getNumberOfVms()));
+        configValues.put("cloudlets", Integer.toString(config.getNumberOfCloudlets()));
+        configValues.put("seed", Long.toString(config.getRandomSeed()));
+        configValues.put("workload", config.getWorkloadType().name());
+        if (config.getTraceFile() != null) {
+            configValues.put("trace", config.getTraceFile());
+        }
+        if (config.getArrivalProcess() != ArrivalProcess.BATCH) {
+            configValues.put("arrivals", config.getArrivalProcess().name());
+            configValues.put("arrivalRate", Double.toString(config.getArrivalRate()));
+        }
+        if (config.getAllocationPolicy() != AllocationPolicy.BEST_FIT) {
+            configValues.put("allocation", config.getAllocationPolicy().name());
+        }
+        if (config.getBrokerPolicy() != BrokerPolicy.ROUND_ROBIN) {
+            configValues.put("broker", config.getBrokerPolicy().name());
+        }
+        if (config.getSimulationTimeLimit() > 0) {
+            configValues.put("simulationTimeLimit", Double.toString(config.getSimulationTimeLimit()));
+        }
+        if (config.getUtilizationInterval() > 0) {
+            configValues.put("utilizationInterval", Double.toString(config.getUtilizationInterval()));
+        }
+        out.writeInt(configValues.size());
+        for (Map.Entry<String, String> entry : configValues.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+
+        SimulationSummary summary = result.getSummary();
+        out.writeBoolean(summary != null);
+        if (summary != null) {
+            out.writeInt(summary.getNumDatacenters());
+            out.writeInt(summary.getNumHosts());
+            out.writeInt(summary.getNumVms());
+            out.writeInt(summary.getTotalCloudlets());
+            out.writeInt(summary.getCompletedCloudlets());
+            out.writeDouble(summary.getAvgExecutionTime());
+            out.writeDouble(summary.getAvgWaitTime());
+            out.writeDouble(summary.getMakespan());
+            out.writeDouble(summary.getVmLoadImbalance());
+            out.writeUTF(summary.getTerminationReason().name());
+            writeDistribution(out, summary.getExecutionTime());
+            writeDistribution(out, summary.getWaitTime());
+            writeDistribution(out, summary.getTurnaroundTime());
+            SimulationMetrics metrics = summary.getMetrics();
+            out.writeBoolean(metrics != null);
+            if (metrics != null) {
+                out.writeDouble(metrics.getDatacentersMillis());
+                out.writeDouble(metrics.getVmsMillis());
+                out.writeDouble(metrics.getCloudletsMillis());
+                out.writeDouble(metrics.getSimulationMillis());
+                out.writeDouble(metrics.getCollectionMillis());
+                out.writeLong(metrics.getEventsProcessed());
+                out.writeLong(metrics.getAllocatedBytes());
+                out.writeLong(metrics.getPeakHeapDeltaBytes());
+                out.writeDouble(metrics.getCloudletsPerSecond());
+                out.writeDouble(metrics.getCpuMillis());
+            }
+        }
+
+        List<DatacenterStats> datacenters = result.getDatacenterStats();
+        out.writeInt(datacenters.size());
+        for (DatacenterStats dc : datacenters) {
+            out.writeInt(dc.getId());
+            out.writeInt(dc.getNumHosts());
+            out.writeInt(dc.getTotalPes());
+            out.writeLong(dc.getTotalRam());
+            out.writeLong(dc.getTotalStorage());
+            out.writeLong(dc.getTotalBandwidth());
+        }
+
+        out.writeInt(cloudlets.size());
+        out.writeInt(vms.size());
+        String[] statuses = cloudlets.getStatusDictionary();
+        out.writeInt(statuses.length);
+        for (String status : statuses) {
+            out.writeUTF(status);
+        }
+
+        UtilizationSeries utilization = result.getUtilization();
+        out.writeBoolean(utilization != null);
+        if (utilization != null) {
+            out.writeDouble(utilization.getSampleInterval());
+            out.writeLong(utilization.getSamplesPerBucket());
+            out.writeInt(utilization.getBuckets());
+            out.writeLong(utilization.getSamples());
+            out.writeInt(utilization.getHostCount());
+            out.writeInt(utilization.getVmCount());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if a count or name in the header is invalid
+     */
+    private static Header decodeHeader(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        Header header = new Header();
+        header.config = readConfig(in);
+
+        if (in.readBoolean()) {
+            int numDatacenters = in.readInt();
+            int numHosts = in.readInt();
+            int numVms = in.readInt();
+            int totalCloudlets = in.readInt();
+            int completedCloudlets = in.readInt();
+            double avgExecutionTime = in.readDouble();
+            double avgWaitTime = in.readDouble();
+            double makespan = in.readDouble();
+            double vmLoadImbalance = in.readDouble();
+            TerminationReason terminationReason = TerminationReason.valueOf(in.readUTF());
+            Distribution executionTime = readDistribution(in);
+            Distribution waitTime = readDistribution(in);
+            Distribution turnaroundTime = readDistribution(in);
+            header.summary = executionTime != null && waitTime != null && turnaroundTime != null
+                    ? new SimulationSummary(numDatacenters, numHosts, numVms, totalCloudlets, completedCloudlets,
+                            executionTime, waitTime, turnaroundTime, makespan)
+                    : new SimulationSummary(numDatacenters, numHosts, numVms, totalCloudlets, completedCloudlets,
+                            avgExecutionTime, avgWaitTime);
+            header.summary.setVmLoad(header.config.getBrokerPolicy(), vmLoadImbalance);
+            header.summary.setTerminationReason(terminationReason);
+            if (in.readBoolean()) {
+                header.summary.setMetrics(new SimulationMetrics(in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble(), in.readLong(), in.readLong(), in.readLong(),
+                        in.readDouble(), in.readDouble()));
+            }
+        }
+
+        int datacenters = in.readInt();
+        header.datacenterStats = new ArrayList<>(datacenters);
+        for (int i = 0; i < datacenters; i++) {
+            header.datacenterStats.add(new DatacenterStats(in.readInt(), in.readInt(), in.readInt(),
+                    in.readLong(), in.readLong(), in.readLong()));
+        }
+
+        header.cloudletRows = requireCount(in.readInt());
+        header.vmRows = requireCount(in.readInt());
+        header.statusDictionary = new String[in.readInt()];
+        for (int i = 0; i < header.statusDictionary.length; i++) {
+            header.statusDictionary[i] = in.readUTF();
+        }
+
+        if (in.readBoolean()) {
+            UtilizationHeader utilization = new UtilizationHeader();
+            utilization.sampleInterval = in.readDouble();
+            utilization.samplesPerBucket = in.readLong();
+            utilization.buckets = requireCount(in.readInt());
+            utilization.samples = in.readLong();
+            utilization.hosts = requireCount(in.readInt());
+            utilization.vms = requireCount(in.readInt());
+            try {
+                Math.multiplyExact(Math.addExact(utilization.hosts, utilization.vms), utilization.buckets);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Utilization series too large", e);
+            }
+            header.utilization = utilization;
+        }
+        return header;
+    }
+
+    private static int requireCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the key/value config. Settings left at their defaults are not written, so missing
+     * keys keep their defaults.
+     */
+    private static SimulationConfig readConfig(DataInputStream in) throws IOException {
+        Map<String, String> values = new HashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            values.put(in.readUTF(), in.readUTF());
+        }
+        try {
+            return new SimulationConfig.Builder(
+                    Integer.parseInt(values.getOrDefault("datacenters", "0")),
+                    Integer.parseInt(values.getOrDefault("hostsPerDatacenter", "0")),
+                    Integer.parseInt(values.getOrDefault("vms", "0")),
+                    Integer.parseInt(values.getOrDefault("cloudlets", "0")))
+                    .randomSeed(Long.parseLong(values.getOrDefault("seed", "42")))
+                    .workload(WorkloadType.valueOf(values.getOrDefault("workload", WorkloadType.RANDOM.name())),
+                            values.get("trace"))
+                    .arrivals(ArrivalProcess.valueOf(values.getOrDefault("arrivals", ArrivalProcess.BATCH.name())),
+                            Double.parseDouble(values.getOrDefault("arrivalRate", "0")))
+                    .allocationPolicy(AllocationPolicy.valueOf(
+                            values.getOrDefault("allocation", AllocationPolicy.BEST_FIT.name())))
+                    .brokerPolicy(BrokerPolicy.valueOf(
+                            values.getOrDefault("broker", BrokerPolicy.ROUND_ROBIN.name())))
+                    .simulationTimeLimit(Double.parseDouble(values.getOrDefault("simulationTimeLimit", "0")))
+                    .utilizationInterval(Double.parseDouble(values.getOrDefault("utilizationInterval", "0")))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt config in result archive header", e);
+        }
+    }
+
+    private static void writeDistribution(DataOutputStream out, Distribution distribution) throws IOException {
+        out.writeBoolean(distribution != null);
+        if (distribution != null) {
+            out.writeLong(distribution.getCount());
+            out.writeDouble(distribution.getMean());
+            out.writeDouble(distribution.getMin());
+            out.writeDouble(distribution.getMax());
+            out.writeDouble(distribution.getStdDev());
+            out.writeDouble(distribution.getP50());
+            out.writeDouble(distribution.getP90());
+            out.writeDouble(distribution.getP99());
+        }
+    }
+
+    private static Distribution readDistribution(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new Distribution(in.readLong(), in.readDouble(), in.readDouble(), in.readDouble(),
+                in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    private static void writeLongs(FileChannel channel, ByteBuffer buffer, int rows, IntToLongFunction column)
+            throws IOException {
+        for (int row = 0; row < rows; row++) {
+            if (buffer.remaining() < Long.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putLong(column.applyAsLong(row));
+        }
+        drain(channel, buffer);
+    }
+
+    private static void writeDoubles(FileChannel channel, ByteBuffer buffer, int rows, IntToDoubleFunction column)
+            throws IOException {
+        for (int row = 0; row < rows; row++) {
+            if (buffer.remaining() < Double.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putDouble(column.applyAsDouble(row));
+        }
+        drain(channel, buffer);
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int rows, IntUnaryOperator column)
+            throws IOException {
+        for (int row = 0; row < rows; row++) {
+            if (buffer.remaining() < Integer.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putInt(column.applyAsInt(row));
+        }
+        drain(channel, buffer);
+    }
+
+    private static void writeFloats(FileChannel channel, ByteBuffer buffer, UtilizationSeries series,
+                                    BucketValue value) throws IOException {
+        for (int entity = 0; entity < series.getEntityCount(); entity++) {
+            for (int bucket = 0; bucket < series.getBuckets(); bucket++) {
+                if (buffer.remaining() < Float.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putFloat(value.get(entity, bucket));
+            }
+        }
+        drain(channel, buffer);
+    }
+
+    @FunctionalInterface
+    private interface BucketValue {
+        float get(int entity, int bucket);
+    }
+
+    private static void writeBytes(FileChannel channel, ByteBuffer buffer, int rows, IntUnaryOperator column)
+            throws IOException {
+        for (int row = 0; row < rows; row++) {
+            if (!buffer.hasRemaining()) {
+                drain(channel, buffer);
+            }
+            buffer.put((byte) column.applyAsInt(row));
+        }
+        drain(channel, buffer);
+    }
+
+    private static void pad(FileChannel channel, ByteBuffer buffer) throws IOException {
+        long position = channel.position();
+        for (long i = position; i < align(position); i++) {
+            buffer.put((byte) 0);
+        }
+        drain(channel, buffer);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static long align(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    private static final class Header {
+        SimulationConfig config;
+        SimulationSummary summary;
+        List<DatacenterStats> datacenterStats;
+        int cloudletRows;
+        int vmRows;
+        String[] statusDictionary;
+        UtilizationHeader utilization;
+    }
+
+    private static final class UtilizationHeader {
+        double sampleInterval;
+        long samplesPerBucket;
+        int buckets;
+        long samples;
+        int hosts;
+        int vms;
+
+        int values() {
+            return (hosts + vms) * buckets;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.util;
+
+/**
+ * Fixed-memory histogram with logarithmic buckets, plus exact count, min, max, mean and standard
+ * deviation. Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a
+ * reported percentile is within about 1.6% of the true value.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = -20;
+    private static final int MAX_EXPONENT = 60;
+    private static final int MANTISSA_BITS = 52;
+
+    private final long[] counts = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS + 1];
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    // Welford's running mean and sum of squared deviations
+    private double mean;
+    private double m2;
+
+    /**
+     * Negative values are counted as zero in the buckets, but exactly in min, max and mean.
+     */
+    public void record(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            counts[bucketOf(value)]++;
+        }
+    }
+
+    private static int bucketOf(double value) {
+        int exponent = Math.getExponent(value);
+        if (exponent < MIN_EXPONENT) {
+            return 0;
+        }
+        if (exponent > MAX_EXPONENT) {
+            return (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+        }
+        int subBucket = (int) (Double.doubleToRawLongBits(value) >>> (MANTISSA_BITS - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return Midpoint of a bucket's value range
+     */
+    private static double bucketMidpoint(int bucket) {
+        int exponent = bucket / SUB_BUCKETS + MIN_EXPONENT;
+        int subBucket = bucket % SUB_BUCKETS;
+        return Math.scalb(1.0 + (subBucket + 0.5) / SUB_BUCKETS, exponent);
+    }
+
+    /**
+     * Returns the value at the given percentile, approximated by its bucket and clamped
+     * to the exact min and max.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Approximate value at the percentile, or 0 if nothing was recorded
+     */
+    public double percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = zeroCount;
+        if (seen >= rank) {
+            return Math.max(min, Math.min(0, max));
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(bucketMidpoint(bucket), max));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+    public double getMin() { return count == 0 ? 0 : min; }
+    public double getMax() { return count == 0 ? 0 : max; }
+    public double getMean() { return mean; }
+
+    public double getStdDev() {
+        return count < 2 ? 0 : Math.sqrt(m2 / count);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.util;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a line series (Steinarsson, 2013), which keeps
+ * the peaks and dips that every-n-th sampling or bucket averages would flatten.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * @param size      Number of points, ordered by x
+     * @param x         x of the i-th point
+     * @param y         y of the i-th point
+     * @param threshold Number of points to keep
+     * @return Positions of the kept points, ascending; all positions if there are no more than threshold
+     * @throws IllegalArgumentException if the threshold is below 3
+     */
+    public static int[] downsample(int size, IntToDoubleFunction x, IntToDoubleFunction y, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("At least 3 points are needed, got " + threshold);
+        }
+        if (threshold >= size) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        selected[0] = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket; the last point stands in for the bucket after the last one
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            if (bucket == threshold - 3) {
+                nextStart = size - 1;
+                nextEnd = size;
+            }
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x.applyAsDouble(i);
+                avgY += y.applyAsDouble(i);
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double previousX = x.applyAsDouble(previous);
+            double previousY = y.applyAsDouble(previous);
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; the factor does not change which point wins
+                double area = Math.abs((previousX - avgX) * (y.applyAsDouble(i) - previousY)
+                        - (previousX - x.applyAsDouble(i)) * (avgY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[bucket + 1] = chosen;
+            previous = chosen;
+        }
+
+        selected[threshold - 1] = size - 1;
+        return selected;
+    }
+}
@@ -1,15 +1,59 @@
 package org.example.util;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Utility class for generating random values with specified ranges.
+ * <p>
+ * Generators are not meant to be shared: every entity of a simulation draws from its own
+ * stream, derived from the simulation seed, the kind of entity and its index with
+ * {@link #derive(Stream, long)}. Values therefore do not depend on the order entities are
+ * generated in, so generation can run in parallel, and adding hosts does not change the
+ * values drawn for VMs or cloudlets.
  */
 public class RandomGenerator {
-    private final Random random;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The independent streams a simulation draws from.
+     */
+    public enum Stream {
+        DATACENTER,
+        HOST,
+        VM,
+        CLOUDLET,
+        ARRIVAL
+    }
+
+    private final long seed;
+    private final SplittableRandom random;
 
     public RandomGenerator(long seed) {
-        this.random = new Random(seed);
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the generator of one entity. The result only depends on this generator's seed,
+     * the stream and the index, never on values drawn before, and derived generators can be
+     * derived from again (for instance hosts within a datacenter).
+     *
+     * @param stream Kind of entity
+     * @param index  Index of the entity within its kind
+     * @return A new generator for the entity
+     */
+    public RandomGenerator derive(Stream stream, long index) {
+        long streamSeed = mix64(seed + GOLDEN_GAMMA * (stream.ordinal() + 1));
+        return new RandomGenerator(mix64(streamSeed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads consecutive inputs over unrelated outputs.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
@@ -20,7 +64,7 @@ public class RandomGenerator {
      * @return Random integer within the specified range
      */
     public int nextInt(int min, int max) {
-        return min + random.nextInt(max - min);
+        return random.nextInt(min, max);
     }
 
     /**
@@ -44,7 +88,7 @@ public class RandomGenerator {
      * @return Random long within the specified range
      */
     public long nextLong(long min, long max) {
-        return min + (long)(random.nextDouble() * (max - min));
+        return random.nextLong(min, max);
     }
 
     /**
@@ -57,7 +101,7 @@ public class RandomGenerator {
      */
     public long nextLong(long min, long max, long step) {
         long range = (max - min) / step;
-        return min + (random.nextInt((int)range) * step);
+        return min + (random.nextLong(range) * step);
     }
 
     /**
@@ -77,6 +121,6 @@ public class RandomGenerator {
      * @return Random double within the specified range
      */
     public double nextDouble(double min, double max) {
-        return min + (random.nextDouble() * (max - min));
+        return random.nextDouble(min, max);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package org.example.util;
+
+import org.example.model.result.SimulationResult;
+import org.example.model.stats.CloudletStatsIndex;
+import org.example.model.stats.CloudletStatsTable;
+import org.example.model.stats.VmStatsTable;
+
+import java.util.List;
+
+/**
+ * Rough retained-heap estimates for simulation results, used to keep in-memory
+ * caches within a byte budget rather than an entry count.
+ * Figures assume a 64-bit JVM with compressed oops.
+ */
+public final class ResultSizeEstimator {
+    // Object header + fields, rounded to 8-byte alignment, plus the list slot referencing the row
+    private static final long CLOUDLET_STATS_BYTES = 80 + 4;
+    private static final long VM_STATS_BYTES = 72 + 4;
+    private static final long DATACENTER_STATS_BYTES = 56 + 4;
+    private static final long FIXED_OVERHEAD_BYTES = 256;
+
+    private ResultSizeEstimator() {
+    }
+
+    /**
+     * Estimates the heap retained by a result, including the cloudlet index it builds on first query.
+     *
+     * @param result Simulation result
+     * @return Estimated size in bytes
+     */
+    public static long estimateBytes(SimulationResult result) {
+        if (result == null) {
+            return 0;
+        }
+        long vmBytes = result.getVmStats() instanceof VmStatsTable table
+                ? table.estimateSizeBytes()
+                : sizeOf(result.getVmStats()) * VM_STATS_BYTES;
+        long cloudletBytes = result.getCloudletStats() instanceof CloudletStatsTable table
+                ? table.estimateSizeBytes()
+                : sizeOf(result.getCloudletStats()) * CLOUDLET_STATS_BYTES;
+
+        long indexBytes = result.getCloudletStats() != null
+                ? CloudletStatsIndex.estimateSizeBytes(result.getCloudletStats(),
+                        sizeOf(result.getVmStats()), sizeOf(result.getDatacenterStats()))
+                : 0;
+        long utilizationBytes = result.getUtilization() != null ? result.getUtilization().estimateSizeBytes() : 0;
+
+        return FIXED_OVERHEAD_BYTES
+                + sizeOf(result.getDatacenterStats()) * DATACENTER_STATS_BYTES
+                + vmBytes
+                + cloudletBytes
+                + indexBytes
+                + utilizationBytes;
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+}
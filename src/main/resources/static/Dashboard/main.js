@@ -1,30 +1,46 @@
 // Constants
 const API_BASE_URL = 'http://localhost:8080/api/cloudsim';
 const PRICING_API_URL = 'http://localhost:8080/pricing';
+// Column-oriented result formats, see ColumnarResultEncoder on the server
+const COLUMNAR_JSON = 'application/vnd.cloudsim.columnar+json';
+const COLUMNAR_BINARY = 'application/vnd.cloudsim.columnar';
+// Points plotted in the execution chart and bins of the histogram; the server downsamples to these
+const SERIES_POINTS = 500;
+const HISTOGRAM_BINS = 30;
+// Cloudlet table: rows are fetched in pages and only the visible ones are rendered
+const TABLE_PAGE_SIZE = 200;
+const TABLE_ROW_HEIGHT = 36;
+const TABLE_OVERSCAN = 10;
+const TABLE_COLUMNS = 9;
 
 // Chart instances
 let resourceChart = null;
 let executionChart = null;
+let histogramChart = null;
+let loadChart = null;
 let priceChart = null;
 
-// Cloudlet stats for pricing use
-let cloudletStats = [];
-let allPricing = {};
+// Job currently running on the server, if any
+let currentJobId = null;
 
-// Pricing definitions (defaults)
-const pricing = {
-  aws: { peCost: 0.05, ramCost: 0.01, timeUnit: 3600 },
-  azure: { peCost: 0.045, ramCost: 0.012, timeUnit: 3600 },
-  gcp: { peCost: 0.043, ramCost: 0.0095, timeUnit: 3600 },
-  ibm: { peCost: 0.04, ramCost: 0.011, timeUnit: 3600 }
-};
+// Cost of the displayed run on every provider, computed by the server
+let costReport = null;
+
+// Per-datacenter and per-VM totals of the displayed run, computed by the server
+let aggregates = null;
+
+// Pages of the cloudlet table fetched so far; replaced whenever another run is displayed
+let cloudletTable = { query: '', total: 0, pages: new Map(), pending: new Set() };
 
 // Initialization
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('runBtn').addEventListener('click', runSimulation);
+  document.getElementById('cancelBtn').addEventListener('click', cancelSimulation);
+  document.getElementById('loadSelect').addEventListener('change', updateLoadChart);
+  document.getElementById('cloudletTableContainer').addEventListener('scroll', renderCloudletRows);
   initCharts();
-  loadPricingAndStats();
+  fetchAndUpdateStats();
 });
 
 function initCharts() {
@@ -42,6 +58,20 @@ function initCharts() {
     options: getLineChartOptions('Execution Time (s)')
   });
 
+  const histogramCtx = document.getElementById('histogramChart').getContext('2d');
+  histogramChart = new Chart(histogramCtx, {
+    type: 'bar',
+    data: { labels: [], datasets: getHistogramDatasets() },
+    options: getBarChartOptions('Execution Time Distribution')
+  });
+
+  const loadCtx = document.getElementById('loadChart').getContext('2d');
+  loadChart = new Chart(loadCtx, {
+    type: 'bar',
+    data: { labels: [], datasets: getLoadDatasets() },
+    options: getBarChartOptions('Load')
+  });
+
   const priceChartCtx = document.getElementById('priceChart').getContext('2d');
   priceChart = new Chart(priceChartCtx, {
     type: 'bar',
@@ -69,6 +99,28 @@ function getExecutionDatasets() {
   ];
 }
 
+function getHistogramDatasets() {
+  return [
+    {
+      label: 'Cloudlets', backgroundColor: 'rgba(255, 159, 64, 0.5)', borderColor: 'rgba(255, 159, 64, 1)', borderWidth: 1, data: []
+    }
+  ];
+}
+
+function getLoadDatasets() {
+  return [
+    {
+      label: 'Cloudlets', backgroundColor: 'rgba(54, 162, 235, 0.5)', borderColor: 'rgba(54, 162, 235, 1)', borderWidth: 1, data: []
+    },
+    {
+      label: 'Completed', backgroundColor: 'rgba(75, 192, 192, 0.5)', borderColor: 'rgba(75, 192, 192, 1)', borderWidth: 1, data: []
+    },
+    {
+      label: 'PE-hours', backgroundColor: 'rgba(255, 99, 132, 0.5)', borderColor: 'rgba(255, 99, 132, 1)', borderWidth: 1, data: []
+    }
+  ];
+}
+
 function getPriceDatasets() {
   return [
     {
@@ -95,7 +147,9 @@ function getPriceChartOptions() {
       legend: { display: false },
       tooltip: {
         callbacks: {
-          label: (context) => `$${context.parsed.y.toFixed(2)}`
+          label: (context) => context.dataset.label === 'Cloudlets'
+            ? `${context.parsed.y} cloudlets`
+            : `$${context.parsed.y.toFixed(2)}`
         }
       }
     },
@@ -109,19 +163,69 @@ function getPriceChartOptions() {
 }
 
 async function runSimulation() {
-  document.getElementById('loadingIndicator').classList.remove('hidden');
+  const loadingIndicator = document.getElementById('loadingIndicator');
+  loadingIndicator.textContent = 'Running simulation, please wait...';
+  loadingIndicator.classList.remove('hidden');
+  document.getElementById('cancelBtn').classList.remove('hidden');
   const params = getSimulationParams();
 
   try {
-    const response = await fetch(`${API_BASE_URL}/run?datacenters=${params.datacenters}&hostsPerDc=${params.hostsPerDc}&vms=${params.vms}&cloudlets=${params.cloudlets}`);
+    const response = await fetch(`${API_BASE_URL}/jobs?datacenters=${params.datacenters}&hostsPerDatacenter=${params.hostsPerDc}&vms=${params.vms}&cloudlets=${params.cloudlets}`, { method: 'POST' });
     if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`);
-    const result = await response.json();
-    updateUI(result);
-    await fetchAndUpdateStats();
+    const job = await response.json();
+    currentJobId = job.id;
+
+    const finishedJob = await followJobProgress(job.id);
+    if (finishedJob.status !== 'COMPLETED') {
+      console.warn(`Simulation ${finishedJob.status.toLowerCase()}`, finishedJob.errorMessage || '');
+      return;
+    }
+
+    await fetchAndUpdateStats(job.id);
   } catch (error) {
     console.error('Simulation failed:', error);
   } finally {
-    document.getElementById('loadingIndicator').classList.add('hidden');
+    currentJobId = null;
+    loadingIndicator.classList.add('hidden');
+    document.getElementById('cancelBtn').classList.add('hidden');
+  }
+}
+
+// Shows live progress from the job's event stream and resolves with the job once it finishes
+function followJobProgress(jobId) {
+  return new Promise((resolve, reject) => {
+    const events = new EventSource(`${API_BASE_URL}/jobs/${jobId}/progress`);
+
+    events.addEventListener('progress', (event) => showProgress(JSON.parse(event.data)));
+    events.addEventListener('status', (event) => {
+      const job = JSON.parse(event.data);
+      if (job.progress) showProgress(job.progress);
+      if (['COMPLETED', 'FAILED', 'CANCELLED'].includes(job.status)) {
+        events.close();
+        resolve(job);
+      }
+    });
+    events.onerror = () => {
+      // The stream closes once the job is done; ask for the final state directly
+      events.close();
+      fetch(`${API_BASE_URL}/jobs/${jobId}`).then(res => res.json()).then(resolve).catch(reject);
+    };
+  });
+}
+
+function showProgress(progress) {
+  document.getElementById('loadingIndicator').textContent =
+    `Simulated time ${progress.clock.toFixed(1)}s \u2014 ` +
+    `${progress.finishedCloudlets}/${progress.totalCloudlets} cloudlets (${progress.percentComplete.toFixed(0)}%) \u2014 ` +
+    `avg exec ${progress.avgExecutionTime.toFixed(2)}s, avg wait ${progress.avgWaitTime.toFixed(2)}s`;
+}
+
+async function cancelSimulation() {
+  if (!currentJobId) return;
+  try {
+    await fetch(`${API_BASE_URL}/jobs/${currentJobId}`, { method: 'DELETE' });
+  } catch (error) {
+    console.error('Failed to cancel simulation:', error);
   }
 }
 
@@ -134,24 +238,129 @@ function getSimulationParams() {
   };
 }
 
-async function fetchAndUpdateStats() {
+// Loads the details of a run by its job ID, or of the last run on the server when none is given.
+// Only chart-ready data is fetched here; cloudlet rows are fetched page by page as the table scrolls.
+async function fetchAndUpdateStats(runId) {
+  const query = runId ? `?runId=${encodeURIComponent(runId)}` : '';
+  const runParam = runId ? `&runId=${encodeURIComponent(runId)}` : '';
   try {
-    const [datacenterStats, clStats, summary] = await Promise.all([
-      fetch(`${API_BASE_URL}/datacenter-stats`).then(res => res.json()),
-      fetch(`${API_BASE_URL}/cloudlet-stats`).then(res => res.json()),
-      fetch(`${API_BASE_URL}/summary`).then(res => res.json())
+    const [summary, datacenterStats, series, histogram, runAggregates] = await Promise.all([
+      fetchJson(`${API_BASE_URL}/summary${query}`),
+      fetchJson(`${API_BASE_URL}/datacenter-stats${query}`),
+      fetchJson(`${API_BASE_URL}/charts/series?x=id&y=executionTime&points=${SERIES_POINTS}${runParam}`),
+      fetchJson(`${API_BASE_URL}/charts/histogram?field=executionTime&bins=${HISTOGRAM_BINS}${runParam}`),
+      fetchJson(`${API_BASE_URL}/charts/aggregates${query}`)
     ]);
+    aggregates = runAggregates;
 
-    cloudletStats = clStats;
     updateUI(summary);
-    updateCharts(datacenterStats, clStats);
-    populateTables(datacenterStats, clStats);
-    updatePriceChart();
+    updateCharts(datacenterStats, series, histogram);
+    updateLoadChart();
+    populateDatacenterTable(datacenterStats);
+    // Runs stopped early have fewer rows than cloudlets; the first page corrects this if needed
+    resetCloudletTable(runParam, summary.completedCloudlets || 0);
+    await fetchCost(query);
   } catch (error) {
     console.error('Failed to fetch stats:', error);
   }
 }
 
+async function fetchJson(url) {
+  const response = await fetch(url);
+  if (!response.ok) throw new Error(`HTTP error! status: ${response.status}`);
+  return response.json();
+}
+
+// Reads a result in any of the formats the server sends, into the shape of the regular JSON
+async function decodeResult(response) {
+  const contentType = response.headers.get('Content-Type') || '';
+  if (contentType.startsWith(COLUMNAR_JSON)) {
+    const result = await response.json();
+    return {
+      ...result,
+      vmStats: tableToRows(result.vmStats, name => result.vmStats.columns[name]),
+      cloudletStats: tableToRows(result.cloudletStats, name => result.cloudletStats.columns[name])
+    };
+  }
+  if (contentType.startsWith(COLUMNAR_BINARY)) {
+    return decodeBinaryResult(await response.arrayBuffer());
+  }
+  return response.json();
+}
+
+// Binary layout: 16-byte preamble (magic, version, header length), JSON header, then the
+// VM and cloudlet columns in header order, each little-endian and 8-byte aligned
+function decodeBinaryResult(buffer) {
+  const view = new DataView(buffer);
+  const headerLength = view.getUint32(8, true);
+  const header = JSON.parse(new TextDecoder().decode(new Uint8Array(buffer, 16, headerLength)));
+  let offset = 16 + headerLength;
+
+  const readTable = table => {
+    const columns = {};
+    for (const column of table.columns) {
+      offset = Math.ceil(offset / 8) * 8;
+      const values = typedColumn(buffer, offset, column.type, table.rows);
+      columns[column.name] = values;
+      offset += values.byteLength;
+    }
+    return tableToRows(table, name => columns[name]);
+  };
+  // The VM columns come first
+  const vmStats = readTable(header.vmStats);
+  const cloudletStats = readTable(header.cloudletStats);
+  return { ...header, vmStats, cloudletStats };
+}
+
+function typedColumn(buffer, offset, type, rows) {
+  switch (type) {
+    case 'int64': return new BigInt64Array(buffer, offset, rows);
+    case 'int32': return new Int32Array(buffer, offset, rows);
+    case 'float64': return new Float64Array(buffer, offset, rows);
+    case 'uint8': return new Uint8Array(buffer, offset, rows);
+    default: throw new Error(`Unknown column type ${type}`);
+  }
+}
+
+// Turns a columnar table into row objects, resolving dictionary-encoded columns
+function tableToRows(table, column) {
+  const names = Array.isArray(table.columns) ? table.columns.map(c => c.name) : Object.keys(table.columns);
+  const dictionaries = table.dictionaries || {};
+  const rows = new Array(table.rows);
+  for (let i = 0; i < table.rows; i++) {
+    const row = {};
+    for (const name of names) {
+      const value = column(name)[i];
+      row[name] = dictionaries[name] ? dictionaries[name][value] : Number(value);
+    }
+    rows[i] = row;
+  }
+  return rows;
+}
+
+async function fetchCost(query) {
+  try {
+    costReport = await fetch(`${API_BASE_URL}/cost${query}`).then(res => res.json());
+    populateProviderSelect(costReport.providers);
+    updatePriceChart();
+  } catch (error) {
+    console.error('Failed to fetch cost:', error);
+  }
+}
+
+function populateProviderSelect(providers) {
+  const select = document.getElementById('providerSelect');
+  const selected = select.value;
+  select.innerHTML = '<option value="">All providers</option>';
+  providers.forEach(p => {
+    const option = document.createElement('option');
+    option.value = p.provider;
+    option.textContent = p.provider;
+    select.appendChild(option);
+  });
+  select.value = providers.some(p => p.provider === selected) ? selected : '';
+}
+
 function updateUI(summary) {
   if (!summary || summary.avgExecutionTime === undefined) {
     console.error("Summary data is incomplete", summary);
@@ -168,25 +377,40 @@ function updateUI(summary) {
   document.getElementById('summaryContainer').classList.remove('hidden');
 }
 
-function updateCharts(datacenterStats, clStats) {
+function updateCharts(datacenterStats, series, histogram) {
   resourceChart.data.labels = datacenterStats.map(dc => `Datacenter ${dc.id}`);
   resourceChart.data.datasets[0].data = datacenterStats.map(dc => dc.totalPes);
   resourceChart.data.datasets[1].data = datacenterStats.map(dc => dc.totalRam / (1024 * 1024));
   resourceChart.update();
 
-  executionChart.data.labels = clStats.map(c => `Cloudlet ${c.id}`);
-  executionChart.data.datasets[0].data = clStats.map(c => c.executionTime);
+  // At most SERIES_POINTS points, whatever the number of cloudlets
+  executionChart.data.labels = series.x.map(id => `Cloudlet ${id}`);
+  executionChart.data.datasets[0].data = series.y;
   executionChart.update();
+
+  const width = histogram.binWidth;
+  histogramChart.data.labels = histogram.counts.map((_, i) =>
+    `${(histogram.min + i * width).toFixed(2)}-${(histogram.min + (i + 1) * width).toFixed(2)}s`);
+  histogramChart.data.datasets[0].data = histogram.counts;
+  histogramChart.update();
 }
 
-function populateTables(datacenterStats, clStats) {
-  const dcTable = document.getElementById('datacenterTableBody');
-  const clTable = document.getElementById('cloudletTableBody');
-  dcTable.innerHTML = '';
-  clTable.innerHTML = '';
+// Shows the cloudlet totals per datacenter or per VM, as chosen in the select
+function updateLoadChart() {
+  if (!aggregates) {
+    return;
+  }
+  const byVm = document.getElementById('loadSelect').value === 'vm';
+  const groups = byVm ? aggregates.vms : aggregates.datacenters;
+  loadChart.data.labels = groups.map(g => `${byVm ? 'VM' : 'Datacenter'} ${g.id}`);
+  loadChart.data.datasets[0].data = groups.map(g => g.cloudlets);
+  loadChart.data.datasets[1].data = groups.map(g => g.completed);
+  loadChart.data.datasets[2].data = groups.map(g => g.peSeconds / 3600);
+  loadChart.update();
+}
 
-  datacenterStats.forEach(dc => {
-    dcTable.innerHTML += `
+function populateDatacenterTable(datacenterStats) {
+  document.getElementById('datacenterTableBody').innerHTML = datacenterStats.map(dc => `
       <tr>
         <td>${dc.id}</td>
         <td>${dc.numHosts}</td>
@@ -194,12 +418,37 @@ function populateTables(datacenterStats, clStats) {
         <td>${(dc.totalRam / (1024 * 1024) * 10).toFixed(2)}</td>
         <td>${(dc.totalStorage / (1024 * 1024 * 1024) * 90000).toFixed(2)}</td>
         <td>${(dc.totalBandwidth / (1024 * 1024)).toFixed(2)}</td>
-      </tr>`;
-  });
+      </tr>`).join('');
+}
 
-  clStats.forEach(cl => {
-    clTable.innerHTML += `
-      <tr>
+// Starts the cloudlet table over for another run
+function resetCloudletTable(runParam, total) {
+  cloudletTable = { query: runParam, total, pages: new Map(), pending: new Set() };
+  document.getElementById('cloudletTableContainer').scrollTop = 0;
+  // Fetched even for an empty table, since its total is the one to trust
+  fetchCloudletPage(0);
+  renderCloudletRows();
+}
+
+// Renders the rows in view plus a margin, with spacer rows standing in for the rest so the
+// scrollbar covers the whole table. Rows of pages not fetched yet show as placeholders.
+function renderCloudletRows() {
+  const container = document.getElementById('cloudletTableContainer');
+  const { total } = cloudletTable;
+  const first = Math.max(0, Math.floor(container.scrollTop / TABLE_ROW_HEIGHT) - TABLE_OVERSCAN);
+  const visible = Math.ceil(container.clientHeight / TABLE_ROW_HEIGHT) + 2 * TABLE_OVERSCAN;
+  const last = Math.min(total, first + visible);
+
+  for (let page = Math.floor(first / TABLE_PAGE_SIZE); page * TABLE_PAGE_SIZE < last; page++) {
+    fetchCloudletPage(page);
+  }
+
+  const rows = [spacerRow(first * TABLE_ROW_HEIGHT)];
+  for (let i = first; i < last; i++) {
+    const page = cloudletTable.pages.get(Math.floor(i / TABLE_PAGE_SIZE));
+    const cl = page && page[i % TABLE_PAGE_SIZE];
+    rows.push(cl ? `
+      <tr style="height: ${TABLE_ROW_HEIGHT}px">
         <td>${cl.id}</td>
         <td>${cl.vmId}</td>
         <td>${cl.datacenterId}</td>
@@ -209,41 +458,55 @@ function populateTables(datacenterStats, clStats) {
         <td>${cl.finishTime.toFixed(2)}</td>
         <td>${cl.executionTime.toFixed(2)}</td>
         <td>${cl.status}</td>
-      </tr>`;
-  });
+      </tr>` : `<tr style="height: ${TABLE_ROW_HEIGHT}px"><td colspan="${TABLE_COLUMNS}">\u2026</td></tr>`);
+  }
+  rows.push(spacerRow((total - last) * TABLE_ROW_HEIGHT));
+  document.getElementById('cloudletTableBody').innerHTML = rows.join('');
 }
 
-function updatePriceChart() {
-  const provider = document.getElementById("providerSelect").value;
-  const rates = allPricing[provider] || pricing[provider];
-
-  const prices = cloudletStats.map(cl => {
-    const execTime = cl.executionTime || cl.execTime || 0;
-    const ramGb = cl.ramGb || cl.ram || 0;
-    const peCost = cl.pes * (rates.peCost * (execTime / rates.timeUnit));
-    const ramCost = ramGb * (rates.ramCost * (execTime / rates.timeUnit));
-    return peCost + ramCost;
-  });
-
-  priceChart.data.labels = cloudletStats.map(cl => `Cloudlet ${cl.id}`);
-  priceChart.data.datasets[0].data = prices;
-  priceChart.update();
+function spacerRow(height) {
+  return height > 0 ? `<tr style="height: ${height}px"><td colspan="${TABLE_COLUMNS}"></td></tr>` : '';
 }
 
-async function loadPricingAndStats() {
+async function fetchCloudletPage(page) {
+  const table = cloudletTable;
+  if (table.pages.has(page) || table.pending.has(page)) {
+    return;
+  }
+  table.pending.add(page);
   try {
-    const pricingResponse = await fetch(PRICING_API_URL);
-    const pricingList = await pricingResponse.json();
-    pricingList.forEach(p => {
-      allPricing[p.provider] = {
-        peCost: p.peCost,
-        ramCost: p.ramCost,
-        timeUnit: 3600
-      };
-    });
-  } catch (e) {
-    console.warn("Could not load pricing from API, using defaults.", e);
+    const result = await fetchJson(`${API_BASE_URL}/cloudlet-stats/query?page=${page}&size=${TABLE_PAGE_SIZE}${table.query}`);
+    table.pages.set(page, result.content);
+    // The server knows how many rows the run has, which the summary may not
+    table.total = result.totalElements;
+    // Another run may have been displayed meanwhile
+    if (table === cloudletTable) {
+      renderCloudletRows();
+    }
+  } catch (error) {
+    console.error('Failed to fetch cloudlets:', error);
+  } finally {
+    table.pending.delete(page);
+  }
+}
+
+// Shows the total cost per provider, or the per-cloudlet cost histogram of the selected provider
+function updatePriceChart() {
+  if (!costReport) {
+    return;
   }
+  const providerName = document.getElementById('providerSelect').value;
+  const provider = costReport.providers.find(p => p.provider === providerName);
 
-  await fetchAndUpdateStats();
-}
\ No newline at end of file
+  if (provider) {
+    const width = provider.histogram.binWidth;
+    priceChart.data.labels = provider.histogram.counts.map((_, i) => `$${(i * width).toFixed(2)}-${((i + 1) * width).toFixed(2)}`);
+    priceChart.data.datasets[0].label = 'Cloudlets';
+    priceChart.data.datasets[0].data = provider.histogram.counts;
+  } else {
+    priceChart.data.labels = costReport.providers.map(p => p.provider);
+    priceChart.data.datasets[0].label = 'Price Consumed ($)';
+    priceChart.data.datasets[0].data = costReport.providers.map(p => p.totalCost);
+  }
+  priceChart.update();
+}
@@ -0,0 +1,106 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.service.AdmissionService;
+import org.example.service.ChartService;
+import org.example.service.CloudSimService;
+import org.example.service.CostService;
+import org.example.service.SimulationJobService;
+import org.example.service.SimulationResultCache;
+import org.example.service.SimulationResultStore;
+import org.example.service.UtilizationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CloudSimControllerTest {
+    // More than one flush interval, so the output crosses a flush
+    private static final int ROWS = 2_500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CloudSimService cloudSimService;
+    private CloudSimController controller;
+
+    @BeforeEach
+    void setUp() {
+        cloudSimService = mock(CloudSimService.class);
+        controller = new CloudSimController(cloudSimService, mock(SimulationJobService.class),
+                mock(AdmissionService.class), mock(SimulationResultCache.class), mock(SimulationResultStore.class),
+                mock(CostService.class), mock(ChartService.class), mock(UtilizationService.class), objectMapper);
+        when(cloudSimService.findResult("run-1")).thenReturn(Optional.of(result(ROWS)));
+        when(cloudSimService.findResult("gone")).thenReturn(Optional.empty());
+        when(cloudSimService.findResult(null)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void streamsOneRecordPerLineAsNdjson() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = controller.streamCloudletStatsNdjson("run-1");
+
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), response.getHeaders().getContentType());
+        String[] lines = write(response).split("\n", -1);
+        // Every record is terminated by a newline, including the last one
+        assertEquals(ROWS + 1, lines.length);
+        assertEquals("", lines[ROWS]);
+        for (int i = 0; i < ROWS; i++) {
+            JsonNode row = objectMapper.readTree(lines[i]);
+            assertEquals(i, row.get("id").asLong());
+        }
+    }
+
+    @Test
+    void streamsAJsonArray() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = controller.streamCloudletStatsJson("run-1");
+
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        JsonNode rows = objectMapper.readTree(write(response));
+        assertTrue(rows.isArray());
+        assertEquals(ROWS, rows.size());
+        assertEquals(ROWS - 1, rows.get(ROWS - 1).get("id").asLong());
+        assertEquals("SUCCESS", rows.get(0).get("status").asText());
+    }
+
+    @Test
+    void answersNotFoundForAnUnknownRun() {
+        assertEquals(HttpStatus.NOT_FOUND, controller.streamCloudletStatsNdjson("gone").getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.streamCloudletStatsJson("gone").getStatusCode());
+    }
+
+    @Test
+    void streamsNothingBeforeTheFirstRun() throws IOException {
+        assertEquals("\n", write(controller.streamCloudletStatsNdjson(null)));
+        assertEquals("[]", write(controller.streamCloudletStatsJson(null)));
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static SimulationResult result(int rows) {
+        List<CloudletStats> cloudlets = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            cloudlets.add(new CloudletStats(i, i % 4, 0, 1, 10_000, 10, i, i + 10, "SUCCESS"));
+        }
+        return new SimulationResult(List.of(), List.of(), cloudlets, new SimulationSummary());
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.model.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PricingRateTableTest {
+    private static final List<PricingRate> RATES = List.of(
+            new PricingRate(1L, 0.05, "vCPU-hour", 10L, "AWS", 100L, "Compute"),
+            new PricingRate(2L, 0.01, "GB-hour", 20L, "Azure", 101L, "Memory"),
+            new PricingRate(3L, 0.006, "GB-hour", 10L, "aws", 101L, "Memory"),
+            new PricingRate(4L, 1.0, "unit", null, null, null, null));
+
+    @Test
+    void groupsRatesByProviderIgnoringCase() {
+        PricingRateTable table = new PricingRateTable(RATES);
+
+        assertEquals(List.of(1L, 3L), ids(table.getRatesForProvider("AWS")));
+        assertEquals(List.of(1L, 3L), ids(table.getRatesForProvider(" aws ")));
+        assertEquals(List.of(2L), ids(table.getRatesForProvider("AZURE")));
+        assertEquals(List.of(), table.getRatesForProvider("GCP"));
+    }
+
+    @Test
+    void listsProvidersInOrderOfFirstAppearance() {
+        PricingRateTable table = new PricingRateTable(RATES);
+
+        assertEquals(List.of("AWS", "Azure"), table.getProviderNames());
+        // Rows without a provider are kept in the full list only
+        assertEquals(4, table.getRates().size());
+    }
+
+    @Test
+    void isImmutable() {
+        PricingRateTable table = new PricingRateTable(RATES);
+
+        assertThrows(UnsupportedOperationException.class, () -> table.getRates().clear());
+        assertThrows(UnsupportedOperationException.class, () -> table.getRatesForProvider("aws").clear());
+    }
+
+    private static List<Long> ids(List<PricingRate> rates) {
+        return rates.stream().map(PricingRate::getId).toList();
+    }
+}
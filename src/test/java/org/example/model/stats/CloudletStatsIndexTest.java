@@ -0,0 +1,100 @@
+package org.example.model.stats;
+
+import org.example.model.result.CloudletPage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CloudletStatsIndexTest {
+    // Cloudlet i runs on VM i % 3 in datacenter i % 2, starts at i and finishes at 2i + 1;
+    // lengths decrease with the id, and the last cloudlet failed
+    private static final int ROWS = 10;
+    private final CloudletStatsIndex index = new CloudletStatsIndex(rows());
+
+    @Test
+    void pagesInIdOrderByDefault() {
+        CloudletPage page = index.query(new CloudletQuery().setSize(4).setPage(1));
+
+        assertArrayEquals(new long[]{4, 5, 6, 7}, ids(page));
+        assertEquals(ROWS, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    void lastPageIsPartial() {
+        CloudletPage page = index.query(new CloudletQuery().setSize(4).setPage(2));
+
+        assertArrayEquals(new long[]{8, 9}, ids(page));
+    }
+
+    @Test
+    void pageOutOfRangeIsEmpty() {
+        CloudletPage page = index.query(new CloudletQuery().setSize(4).setPage(3));
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(ROWS, page.getTotalElements());
+    }
+
+    @Test
+    void pageWhoseOffsetOverflowsAnIntIsEmpty() {
+        CloudletPage unfiltered = index.query(new CloudletQuery().setSize(10_000).setPage(214_749));
+        CloudletPage filtered = index.query(new CloudletQuery().setVmId(1L).setSize(10_000).setPage(Integer.MAX_VALUE));
+
+        assertTrue(unfiltered.getContent().isEmpty());
+        assertTrue(filtered.getContent().isEmpty());
+        assertEquals(3, filtered.getTotalElements());
+    }
+
+    @Test
+    void sortsByFieldInBothDirections() {
+        CloudletQuery ascending = new CloudletQuery().setSortKey(CloudletSortKey.LENGTH).setSize(3);
+        CloudletQuery descending = new CloudletQuery().setSortKey(CloudletSortKey.LENGTH).setDescending(true).setSize(3);
+
+        assertArrayEquals(new long[]{9, 8, 7}, ids(index.query(ascending)));
+        assertArrayEquals(new long[]{0, 1, 2}, ids(index.query(descending)));
+    }
+
+    @Test
+    void filtersByEqualityAndTimeRange() {
+        assertArrayEquals(new long[]{1, 4, 7}, ids(index.query(new CloudletQuery().setVmId(1L))));
+        assertArrayEquals(new long[]{4}, ids(index.query(new CloudletQuery().setVmId(1L).setDatacenterId(0L))));
+        assertArrayEquals(new long[]{9}, ids(index.query(new CloudletQuery().setStatus("failed"))));
+        assertArrayEquals(new long[]{3, 4, 5}, ids(index.query(new CloudletQuery().setStartFrom(3.0).setStartTo(5.0))));
+        assertArrayEquals(new long[]{0, 1, 2}, ids(index.query(new CloudletQuery().setFinishTo(5.0))));
+        assertEquals(0, index.query(new CloudletQuery().setStatus("CANCELED")).getTotalElements());
+    }
+
+    @Test
+    void sortsAndPagesFilteredRows() {
+        CloudletQuery query = new CloudletQuery().setDatacenterId(1L)
+                .setSortKey(CloudletSortKey.FINISH_TIME).setDescending(true).setSize(2).setPage(1);
+
+        CloudletPage page = index.query(query);
+
+        assertArrayEquals(new long[]{5, 3}, ids(page));
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void sortedRowsBreakTiesByRowNumber() {
+        assertArrayEquals(new int[]{0, 3, 6, 9, 1, 4, 7, 2, 5, 8}, index.rowsSortedBy(CloudletSortKey.VM_ID));
+    }
+
+    private static List<CloudletStats> rows() {
+        List<CloudletStats> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new CloudletStats(i, i % 3, i % 2, 1, 1000L * (ROWS - i),
+                    i + 1, i, 2 * i + 1, i == ROWS - 1 ? "FAILED" : "SUCCESS"));
+        }
+        return rows;
+    }
+
+    private static long[] ids(CloudletPage page) {
+        return page.getContent().stream().mapToLong(CloudletStats::getId).toArray();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.model.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CloudletStatsTableTest {
+
+    @Test
+    void storesRowsColumnWise() {
+        List<CloudletStats> rows = rows(1_000);
+
+        CloudletStatsTable table = CloudletStatsTable.of(rows);
+
+        assertEquals(rows.size(), table.size());
+        for (int row = 0; row < rows.size(); row++) {
+            CloudletStats expected = rows.get(row);
+            CloudletStats actual = table.get(row);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getVmId(), table.getVmId(row));
+            assertEquals(expected.getDatacenterId(), actual.getDatacenterId());
+            assertEquals(expected.getPes(), actual.getPes());
+            assertEquals(expected.getLength(), actual.getLength());
+            assertEquals(expected.getExecutionTime(), actual.getExecutionTime());
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getFinishTime(), table.getFinishTime(row));
+            assertEquals(expected.getStatus(), table.getStatus(row));
+        }
+    }
+
+    @Test
+    void encodesStatusesInOrderOfFirstUse() {
+        CloudletStatsTable table = CloudletStatsTable.of(rows(3));
+
+        assertArrayEquals(new String[] {"SUCCESS", "FAILED", "CANCELED"}, table.getStatusDictionary());
+        assertEquals(1, table.getStatusCode(1));
+    }
+
+    @Test
+    void serializesLikeAListOfRows() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<CloudletStats> rows = rows(20);
+
+        assertEquals(mapper.writeValueAsString(rows), mapper.writeValueAsString(CloudletStatsTable.of(rows)));
+    }
+
+    @Test
+    void reusesRowsThatAreAlreadyATable() {
+        CloudletStatsTable table = CloudletStatsTable.of(rows(5));
+
+        assertSame(table, CloudletStatsTable.of(table));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(5));
+    }
+
+    private static List<CloudletStats> rows(int count) {
+        String[] statuses = {"SUCCESS", "FAILED", "CANCELED"};
+        List<CloudletStats> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new CloudletStats(i, i % 7, i % 3, 1 + i % 8, 50_000L * (i + 1), i * 0.5, i, i * 1.5,
+                    statuses[i % statuses.length]));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.model.stats;
+
+import org.example.model.stats.UtilizationSeries.Entity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UtilizationSeriesTest {
+    private static final long[] ONE_HOST = {7};
+    private static final long[] ONE_DATACENTER = {2};
+    private static final long[] NO_VMS = {};
+
+    @Test
+    void keepsOneSamplePerBucketUntilFull() {
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(1.0, 4, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        for (float cpu : new float[]{0.1f, 0.2f, 0.3f, 0.4f}) {
+            add(builder, cpu, 1);
+        }
+
+        UtilizationSeries series = builder.build();
+
+        assertEquals(4, series.getBuckets());
+        assertEquals(1, series.getSamplesPerBucket());
+        assertEquals(4, series.getSamples());
+        assertEquals(1.0, series.getBucketInterval());
+        assertEquals(0.3f, series.getCpu(0, 2));
+        assertEquals(0.15f, series.getRam(0, 2));
+        assertEquals(0.075f, series.getBandwidth(0, 2));
+    }
+
+    @Test
+    void mergesBucketsPairwiseOnceFull() {
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(0.5, 4, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        for (float cpu : new float[]{0.1f, 0.3f, 0.6f, 0.2f, 0.9f}) {
+            add(builder, cpu, 1);
+        }
+
+        UtilizationSeries series = builder.build();
+
+        assertEquals(3, series.getBuckets());
+        assertEquals(2, series.getSamplesPerBucket());
+        assertEquals(1.0, series.getBucketInterval());
+        assertEquals(0.2f, series.getCpu(0, 0), 1e-6);
+        assertEquals(0.3f, series.getCpuPeak(0, 0));
+        assertEquals(0.4f, series.getCpu(0, 1), 1e-6);
+        assertEquals(0.6f, series.getCpuPeak(0, 1));
+        assertEquals(0.9f, series.getCpu(0, 2));
+    }
+
+    @Test
+    void averagesAPartialBucketByWeight() {
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(1.0, 2, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        add(builder, 0.5f, 4);
+        add(builder, 0.2f, 1);
+        add(builder, 0.8f, 3);
+
+        UtilizationSeries series = builder.build();
+
+        // 8 samples in 2 buckets of 4: {0.5 x4} and {0.2, 0.8 x3}
+        assertEquals(2, series.getBuckets());
+        assertEquals(4, series.getSamplesPerBucket());
+        assertEquals(8, series.getSamples());
+        assertEquals(0.5f, series.getCpu(0, 0), 1e-6);
+        assertEquals(0.65f, series.getCpu(0, 1), 1e-6);
+        assertEquals(0.8f, series.getCpuPeak(0, 1));
+    }
+
+    @Test
+    void memoryStaysBoundedOverLongRuns() {
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(1.0, 10, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        add(builder, 0.5f, 1_000_000);
+
+        UtilizationSeries series = builder.build();
+
+        assertEquals(1_000_000, series.getSamples());
+        assertEquals(8, series.getBuckets());
+        assertEquals(131_072, series.getSamplesPerBucket());
+        assertEquals(0.5f, series.getCpu(0, series.getBuckets() - 1));
+    }
+
+    @Test
+    void roundsCapacityUpToAnEvenNumberOfAtLeastTwo() {
+        UtilizationSeries.Builder odd = new UtilizationSeries.Builder(1.0, 3, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        add(odd, 0.1f, 4);
+        assertEquals(4, odd.build().getBuckets());
+
+        UtilizationSeries.Builder none = new UtilizationSeries.Builder(1.0, 0, ONE_HOST, ONE_DATACENTER, NO_VMS);
+        add(none, 0.1f, 2);
+        assertEquals(2, none.build().getBuckets());
+    }
+
+    @Test
+    void placesVmsAfterHosts() {
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(1.0, 2,
+                new long[]{7, 8}, new long[]{0, 1}, new long[]{42});
+        builder.add(new float[]{0.1f, 0.2f, 0.9f}, new float[]{0, 0, 0.5f}, new float[]{0, 0, 0.25f}, 1);
+
+        UtilizationSeries series = builder.build();
+
+        assertEquals(2, series.getHostCount());
+        assertEquals(1, series.getVmCount());
+        assertEquals(3, series.getEntityCount());
+        assertEquals(8, series.getHostId(1));
+        assertEquals(1, series.getHostDatacenterId(1));
+        assertEquals(42, series.getVmId(0));
+        assertEquals(0.9f, series.getCpu(2, 0));
+        assertEquals(0.5f, series.getRam(2, 0));
+        assertEquals(0.25f, series.getBandwidth(2, 0));
+    }
+
+    @Test
+    void parsesEntityNames() {
+        assertEquals(Entity.HOST, Entity.fromName("host"));
+        assertEquals(Entity.VM, Entity.fromName(" VM "));
+        assertThrows(IllegalArgumentException.class, () -> Entity.fromName("disk"));
+        assertThrows(IllegalArgumentException.class, () -> Entity.fromName(null));
+    }
+
+    private static void add(UtilizationSeries.Builder builder, float cpu, long count) {
+        builder.add(new float[]{cpu}, new float[]{cpu / 2}, new float[]{cpu / 4}, count);
+    }
+}
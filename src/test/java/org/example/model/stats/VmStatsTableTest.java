@@ -0,0 +1,50 @@
+package org.example.model.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class VmStatsTableTest {
+
+    @Test
+    void storesRowsColumnWise() {
+        List<VmStats> rows = rows(100);
+
+        VmStatsTable table = VmStatsTable.of(rows);
+
+        assertEquals(rows.size(), table.size());
+        for (int row = 0; row < rows.size(); row++) {
+            VmStats expected = rows.get(row);
+            assertEquals(expected.getId(), table.getId(row));
+            assertEquals(expected.getHostId(), table.getHostId(row));
+            assertEquals(expected.getDatacenterId(), table.getDatacenterId(row));
+            assertEquals(expected.getPes(), table.getPes(row));
+            assertEquals(expected.getMips(), table.getMips(row));
+            assertEquals(expected.getRam(), table.getRam(row));
+            assertEquals(expected.getStorage(), table.getStorage(row));
+            assertEquals(expected.getBandwidth(), table.get(row).getBandwidth());
+        }
+        assertSame(table, VmStatsTable.of(table));
+    }
+
+    @Test
+    void serializesLikeAListOfRows() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        List<VmStats> rows = rows(10);
+
+        assertEquals(mapper.writeValueAsString(rows), mapper.writeValueAsString(VmStatsTable.of(rows)));
+    }
+
+    private static List<VmStats> rows(int count) {
+        List<VmStats> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new VmStats(i, i / 4, i / 20, 1 + i % 32, 2000 + i * 25.5, 1024L * (i + 1), 20_480L * i, 1000L + i));
+        }
+        return rows;
+    }
+}
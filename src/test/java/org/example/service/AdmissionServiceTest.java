@@ -0,0 +1,136 @@
+package org.example.service;
+
+import org.example.model.admission.AdmissionAction;
+import org.example.model.admission.AdmissionDecision;
+import org.example.model.admission.CostEstimate;
+import org.example.model.result.SimulationMetrics;
+import org.example.model.result.SimulationSummary;
+import org.example.model.result.TerminationReason;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionServiceTest {
+    private static final long HEAP_LIMIT = 1L << 30;
+    private static final double CPU_LIMIT = 60;
+    // Large enough for both its heap and its CPU time to calibrate the model
+    private static final SimulationConfig CALIBRATION_CONFIG = new SimulationConfig(1, 2, 4, 10_000);
+
+    @Test
+    void admitsConfigsWithinTheLimits() {
+        AdmissionService service = newService("reject");
+        SimulationConfig config = new SimulationConfig(1, 2, 4, 100);
+
+        AdmissionDecision decision = service.admit(config);
+
+        assertEquals(AdmissionAction.ADMITTED, decision.getAction());
+        assertSame(config, decision.getConfig());
+    }
+
+    @Test
+    void rejectsConfigsOverTheLimits() {
+        AdmissionService service = newService("reject");
+
+        assertThrows(IllegalArgumentException.class, () -> service.admit(new SimulationConfig(1, 2, 4, 5000)));
+    }
+
+    @Test
+    void downscalesToTheLargestConfigThatFits() {
+        AdmissionService service = newService("downscale");
+        SimulationConfig requested = new SimulationConfig(2, 10, 20, 5000);
+
+        AdmissionDecision decision = service.admit(requested);
+
+        assertEquals(AdmissionAction.DOWNSCALED, decision.getAction());
+        assertSame(requested, decision.getRequestedConfig());
+        assertEquals(2, decision.getConfig().getNumberOfDatacenters());
+        assertTrue(decision.getConfig().getNumberOfCloudlets() < 5000);
+        assertTrue(decision.getEstimate().getCpuSeconds() <= CPU_LIMIT);
+        assertTrue(decision.getRequestedEstimate().getCpuSeconds() > CPU_LIMIT);
+
+        // A config twice as large would not have fit
+        SimulationConfig larger = requested.resize(decision.getConfig().getHostsPerDatacenter() * 2,
+                decision.getConfig().getNumberOfVms() * 2, decision.getConfig().getNumberOfCloudlets() * 2);
+        assertTrue(service.estimate(larger).getCpuSeconds() > CPU_LIMIT);
+    }
+
+    @Test
+    void costsArrivalsByTheCloudletsInFlight() {
+        AdmissionService service = newService("reject");
+        SimulationConfig batch = new SimulationConfig(1, 2, 4, 5000);
+        SimulationConfig trickle = new SimulationConfig.Builder(1, 2, 4, 5000)
+                .arrivals(ArrivalProcess.POISSON, 0.01)
+                .build();
+        SimulationConfig flood = new SimulationConfig.Builder(1, 2, 4, 5000)
+                .arrivals(ArrivalProcess.POISSON, 1000)
+                .build();
+
+        double batchSeconds = service.estimate(batch).getCpuSeconds();
+
+        assertTrue(service.estimate(trickle).getCpuSeconds() < batchSeconds / 100);
+        // Arrivals faster than cloudlets finish put them all in flight, like a batch
+        assertEquals(batchSeconds, service.estimate(flood).getCpuSeconds(), 1e-9);
+        assertEquals(AdmissionAction.ADMITTED, service.admit(trickle).getAction());
+    }
+
+    @Test
+    void tracksTheHeapOfRunsInFlight() throws InterruptedException {
+        AdmissionService service = newService("reject");
+        CostEstimate estimate = new CostEstimate(1 << 20, 1);
+
+        service.acquire(estimate);
+        service.acquire(estimate);
+        assertEquals(2 << 20, service.getInFlightHeapBytes());
+
+        service.release(estimate);
+        service.release(estimate);
+        assertEquals(0, service.getInFlightHeapBytes());
+    }
+
+    @Test
+    void calibratesCpuFromThreadCpuTimeNotWallClock() {
+        AdmissionService service = newService("reject");
+        double cpuSeconds = service.estimate(CALIBRATION_CONFIG).getCpuSeconds();
+
+        // Ten times the estimate in wall-clock time, as on a busy server, but the estimate in CPU time
+        service.calibrate(CALIBRATION_CONFIG, completed(10 * cpuSeconds * 1000, cpuSeconds * 1000, 0));
+
+        assertEquals(cpuSeconds, service.estimate(CALIBRATION_CONFIG).getCpuSeconds(), 1e-6);
+    }
+
+    @Test
+    void calibratesHeapOnlyFromRunsThatRanAlone() throws InterruptedException {
+        AdmissionService service = newService("reject");
+        long heapBytes = service.estimate(CALIBRATION_CONFIG).getHeapBytes();
+        CostEstimate other = new CostEstimate(1 << 20, 1);
+
+        service.acquire(other);
+        service.acquire(other);
+        service.calibrate(CALIBRATION_CONFIG, completed(1000, -1, 5 * heapBytes));
+        service.release(other);
+        assertEquals(heapBytes, service.estimate(CALIBRATION_CONFIG).getHeapBytes());
+        // Alone now, but the other run overlapped the last second
+        service.calibrate(CALIBRATION_CONFIG, completed(1000, -1, 5 * heapBytes));
+        assertEquals(heapBytes, service.estimate(CALIBRATION_CONFIG).getHeapBytes());
+
+        service.calibrate(CALIBRATION_CONFIG, completed(0, -1, 5 * heapBytes));
+        assertTrue(service.estimate(CALIBRATION_CONFIG).getHeapBytes() > heapBytes);
+        service.release(other);
+    }
+
+    private static SimulationSummary completed(double wallMillis, double cpuMillis, long peakHeapDeltaBytes) {
+        SimulationSummary summary = new SimulationSummary();
+        summary.setTerminationReason(TerminationReason.COMPLETED);
+        summary.setMetrics(new SimulationMetrics(0, 0, 0, wallMillis, 0, 0, -1, peakHeapDeltaBytes, 0, cpuMillis));
+        return summary;
+    }
+
+    private static AdmissionService newService(String overLimit) {
+        return new AdmissionService(true, HEAP_LIMIT, 2 * HEAP_LIMIT, CPU_LIMIT, overLimit, "traces", 256);
+    }
+}
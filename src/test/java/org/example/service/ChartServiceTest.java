@@ -0,0 +1,108 @@
+package org.example.service;
+
+import org.example.model.chart.ChartAggregates;
+import org.example.model.chart.ChartSeries;
+import org.example.model.chart.Histogram;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletSortKey;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.VmStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChartServiceTest {
+
+    @Test
+    void downsamplesTheSeriesInSortOrder() {
+        List<CloudletStats> rows = new ArrayList<>();
+        // Ids in reverse, so the series has to be ordered by the index
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(cloudlet(999 - i, 0, 0, i == 500 ? 1_000 : 10, "SUCCESS"));
+        }
+
+        ChartSeries series = ChartService.computeSeries(result(rows), CloudletSortKey.ID, CloudletSortKey.EXECUTION_TIME, 20);
+
+        assertEquals(1_000, series.getTotalPoints());
+        assertEquals(20, series.getX().length);
+        assertEquals(0, series.getX()[0]);
+        assertEquals(999, series.getX()[19]);
+        assertEquals(1_000, maxOf(series.getY()));
+    }
+
+    @Test
+    void aggregatesPerDatacenterAndVmIncludingIdleOnes() {
+        List<CloudletStats> rows = List.of(
+                cloudlet(0, 0, 0, 10, "SUCCESS"),
+                cloudlet(1, 0, 0, 30, "SUCCESS"),
+                cloudlet(2, 1, 0, 5, "FAILED"));
+
+        ChartAggregates aggregates = ChartService.computeAggregates(result(rows));
+
+        assertEquals(2, aggregates.getDatacenters().size());
+        assertEquals(3, aggregates.getDatacenters().get(0).getCloudlets());
+        assertEquals(2, aggregates.getDatacenters().get(0).getCompleted());
+        assertEquals(0, aggregates.getDatacenters().get(1).getCloudlets());
+        assertEquals(3, aggregates.getVms().size());
+        assertEquals(20, aggregates.getVms().get(0).getMeanExecutionTime());
+        assertEquals(30, aggregates.getVms().get(0).getMaxExecutionTime());
+        // Two PEs per cloudlet
+        assertEquals(80, aggregates.getVms().get(0).getPeSeconds());
+        assertEquals(0, aggregates.getVms().get(2).getCloudlets());
+    }
+
+    @Test
+    void binsFromMinToMax() {
+        List<CloudletStats> rows = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            rows.add(cloudlet(i, 0, 0, i, "SUCCESS"));
+        }
+
+        Histogram histogram = ChartService.computeHistogram(result(rows), CloudletSortKey.EXECUTION_TIME, 4);
+
+        assertEquals(101, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(25, histogram.getBinWidth());
+        // The maximum falls in the last bin
+        assertArrayEquals(new long[] {25, 25, 25, 26}, histogram.getCounts());
+    }
+
+    @Test
+    void putsEqualValuesInOneBin() {
+        Histogram histogram = ChartService.computeHistogram(
+                result(List.of(cloudlet(0, 0, 0, 7, "SUCCESS"), cloudlet(1, 0, 0, 7, "SUCCESS"))),
+                CloudletSortKey.EXECUTION_TIME, 3);
+
+        assertArrayEquals(new long[] {2, 0, 0}, histogram.getCounts());
+    }
+
+    private static CloudletStats cloudlet(long id, long vmId, long datacenterId, double executionTime, String status) {
+        return new CloudletStats(id, vmId, datacenterId, 2, 1_000, executionTime, 0, executionTime, status);
+    }
+
+    private static SimulationResult result(List<CloudletStats> rows) {
+        List<DatacenterStats> datacenters = List.of(
+                new DatacenterStats(0, 1, 8, 1024, 1024, 1000),
+                new DatacenterStats(1, 1, 8, 1024, 1024, 1000));
+        List<VmStats> vms = List.of(
+                new VmStats(0, 0, 0, 2, 1000, 512, 512, 100),
+                new VmStats(1, 0, 0, 2, 1000, 512, 512, 100),
+                new VmStats(2, 1, 1, 2, 1000, 512, 512, 100));
+        return new SimulationResult(datacenters, vms, rows, new SimulationSummary());
+    }
+
+    private static double maxOf(double[] values) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+}
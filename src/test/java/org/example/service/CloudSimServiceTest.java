@@ -0,0 +1,48 @@
+package org.example.service;
+
+import org.example.model.result.SimulationResult;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CloudSimServiceTest {
+    private final SimulationConfig config = new SimulationConfig(1, 2, 2, 10);
+
+    private SimulationHistoryService historyService;
+    private SimulationMetricsRecorder metricsRecorder;
+    private SimulationResultStore resultStore;
+    private CloudSimService cloudSimService;
+
+    @BeforeEach
+    void setUp() {
+        historyService = mock(SimulationHistoryService.class);
+        metricsRecorder = mock(SimulationMetricsRecorder.class);
+        resultStore = new SimulationResultStore(1L << 30, 3600, "");
+        cloudSimService = new CloudSimService(new SimulationResultCache(true, 1L << 30, "traces"), resultStore,
+                metricsRecorder, historyService, new AdmissionService(true, 0, 0, 0, "reject", "traces", 256),
+                false, 600, 256, "traces");
+    }
+
+    @Test
+    void storesAndRecordsRunsUnderTheirRunId() {
+        SimulationResult first = cloudSimService.runSimulation("run-1", cloudSimService.createSimulator(config));
+        // Answered from the result cache
+        SimulationResult second = cloudSimService.runSimulation("run-2", cloudSimService.createSimulator(config));
+
+        assertSame(first, second);
+        assertSame(first, cloudSimService.findResult("run-1").orElseThrow());
+        assertSame(second, cloudSimService.findResult("run-2").orElseThrow());
+        assertSame(second, cloudSimService.findResult(null).orElseThrow());
+        verify(historyService).record(eq("run-1"), eq(config), eq(first));
+        verify(historyService).record(eq("run-2"), eq(config), eq(second));
+        // Only the run that actually executed is measured
+        verify(metricsRecorder, times(1)).record(any());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.service;
+
+import org.example.model.pricing.CostReport;
+import org.example.model.pricing.ProviderCost;
+import org.example.model.pricing.ProviderRates;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.VmStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CostServiceTest {
+    private final CostService costService = new CostService(null, null);
+
+    @Test
+    void chargesPeSecondsAndRamShare() {
+        // A 2-PE VM with 2 GB; one cloudlet uses 1 PE for 10 s, so it holds 1 GB for 10 s
+        SimulationResult result = result(
+                List.of(new VmStats(0, 0, 0, 2, 1000, 2048, 0, 0)),
+                List.of(new CloudletStats(0, 0, 0, 1, 1000, 10, 0, 10, "SUCCESS")));
+
+        CostReport report = costService.computeCost(result, List.of(new ProviderRates("a", 0.5, 0.25)), 10);
+        ProviderCost cost = report.getProviders().get(0);
+
+        assertEquals(5.0, cost.getCpuCost(), 1e-12);
+        assertEquals(2.5, cost.getRamCost(), 1e-12);
+        assertEquals(7.5, cost.getMaxCloudletCost(), 1e-12);
+    }
+
+    @Test
+    void binsCloudletCostsPerProvider() {
+        List<CloudletStats> cloudlets = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            cloudlets.add(new CloudletStats(i, 0, 0, 1, 1000, i, 0, i, "SUCCESS"));
+        }
+        SimulationResult result = result(List.of(new VmStats(0, 0, 0, 1, 1000, 0, 0, 0)), cloudlets);
+
+        CostReport report = costService.computeCost(result, List.of(new ProviderRates("a", 1, 0)), 4);
+
+        // Costs 1, 2, 3 and 4 over bins of width 1; the maximum falls in the last bin
+        assertArrayEquals(new long[]{0, 1, 1, 2}, report.getProviders().get(0).getHistogram().getCounts());
+    }
+
+    @Test
+    void negativeRatesCountInFirstBin() {
+        SimulationResult result = result(
+                List.of(new VmStats(0, 0, 0, 1, 1000, 1024, 0, 0)),
+                List.of(new CloudletStats(0, 0, 0, 1, 1000, 10, 0, 10, "SUCCESS")));
+
+        CostReport report = costService.computeCost(result, List.of(new ProviderRates("a", -1, 0)), 5);
+        ProviderCost cost = report.getProviders().get(0);
+
+        assertEquals(-10, cost.getTotalCost(), 1e-12);
+        assertArrayEquals(new long[]{1, 0, 0, 0, 0}, cost.getHistogram().getCounts());
+    }
+
+    @Test
+    void skipsVmsThatWereNeverCreated() {
+        // The uncreated VM keeps id -1; the cloudlet ran on VM 0
+        SimulationResult result = result(
+                List.of(new VmStats(-1, -1, -1, 1, 1000, 1024, 0, 0), new VmStats(0, 0, 0, 1, 1000, 1024, 0, 0)),
+                List.of(new CloudletStats(0, 0, 0, 1, 1000, 10, 0, 10, "SUCCESS")));
+
+        CostReport report = costService.computeCost(result, List.of(new ProviderRates("a", 0, 1)), 5);
+
+        assertEquals(10, report.getProviders().get(0).getRamCost(), 1e-12);
+    }
+
+    private static SimulationResult result(List<VmStats> vms, List<CloudletStats> cloudlets) {
+        return new SimulationResult(List.of(), vms, cloudlets, new SimulationSummary());
+    }
+}
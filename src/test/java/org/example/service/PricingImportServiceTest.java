@@ -0,0 +1,134 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.model.pricing.CloudProvider;
+import org.example.model.pricing.PricingImportResult;
+import org.example.model.pricing.PricingImportRow;
+import org.example.model.pricing.PricingInfo;
+import org.example.model.pricing.ServiceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PricingImportServiceTest {
+    private PricingService pricingService;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private ServiceType compute;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pricingService = mock(PricingService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        entityManager = mock(EntityManager.class);
+
+        compute = new ServiceType();
+        compute.setName("Compute");
+        TypedQuery<CloudProvider> providers = mock(TypedQuery.class);
+        when(providers.getResultList()).thenReturn(List.of());
+        TypedQuery<ServiceType> serviceTypes = mock(TypedQuery.class);
+        when(serviceTypes.getResultList()).thenReturn(List.of(compute));
+        when(entityManager.createQuery(anyString(), eq(CloudProvider.class))).thenReturn(providers);
+        when(entityManager.createQuery(anyString(), eq(ServiceType.class))).thenReturn(serviceTypes);
+    }
+
+    @Test
+    void importsCsvWithQuotedFieldsInAnyColumnOrder() {
+        String csv = """
+                unit,Provider,service_type,unitPrice
+                vCPU-hour,"Acme, Inc.",compute,0.05
+
+                GB-hour,"acme, inc.",Memory,0.006
+                "GB \"\"hot\"\"\","ACME, INC.",Storage,0.02
+                """;
+
+        PricingImportResult result = newService(500).importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getProvidersCreated());
+        assertEquals(2, result.getServiceTypesCreated());
+
+        ArgumentCaptor<Object> persisted = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, atLeastOnce()).persist(persisted.capture());
+        List<PricingInfo> rows = persisted.getAllValues().stream()
+                .filter(PricingInfo.class::isInstance).map(PricingInfo.class::cast).toList();
+        assertEquals(3, rows.size());
+        assertEquals("Acme, Inc.", rows.get(0).getProvider().getName());
+        assertSame(rows.get(0).getProvider(), rows.get(2).getProvider());
+        assertSame(compute, rows.get(0).getServiceType());
+        assertEquals(0.006, rows.get(1).getUnitPrice());
+        assertEquals("GB \"hot\"", rows.get(2).getUnit());
+        verify(pricingService).invalidate();
+    }
+
+    @Test
+    void flushesEveryBatch() {
+        List<PricingImportRow> rows = List.of(
+                new PricingImportRow("AWS", "Compute", 1, "h"),
+                new PricingImportRow("AWS", "Compute", 2, "h"),
+                new PricingImportRow("AWS", "Compute", 3, "h"),
+                new PricingImportRow("AWS", "Compute", 4, "h"),
+                new PricingImportRow("AWS", "Compute", 5, "h"));
+
+        newService(2).importRows(rows);
+
+        // After rows 2 and 4, then once at the end
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void rejectsInvalidRowsAndRollsBack() {
+        PricingImportService service = newService(500);
+
+        IllegalArgumentException badPrice = assertThrows(IllegalArgumentException.class,
+                () -> service.importCsv(new StringReader("provider,serviceType,unitPrice\nAWS,Compute,0.1\nAWS,Compute,cheap\n")));
+        assertTrue(badPrice.getMessage().startsWith("Line 3"), badPrice.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.importRows(List.of(new PricingImportRow("AWS", " ", 1, "h"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.importRows(List.of(new PricingImportRow("AWS", "Compute", -1, "h"))));
+
+        verify(transactionManager, times(3)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(pricingService, times(3)).invalidate();
+    }
+
+    @Test
+    void requiresTheHeaderColumns() {
+        PricingImportService service = newService(500);
+
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("")));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.importCsv(new StringReader("provider,unitPrice\nAWS,1\n")));
+    }
+
+    private PricingImportService newService(int batchSize) {
+        PricingImportService service = new PricingImportService(pricingService, transactionManager,
+                mock(JdbcTemplate.class), batchSize);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        return service;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.service;
+
+import org.example.model.pricing.PricingInfo;
+import org.example.model.pricing.PricingRate;
+import org.example.model.pricing.PricingRateTable;
+import org.example.repository.PricingInfoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PricingServiceTest {
+
+    @Test
+    void loadsTheRateTableOnce() {
+        PricingInfoRepository repository = mock(PricingInfoRepository.class);
+        when(repository.findAllRates()).thenReturn(List.of(rate(1L)));
+        PricingService service = new PricingService(repository);
+
+        PricingRateTable first = service.getRateTable();
+        PricingRateTable second = service.getRateTable();
+
+        assertSame(first, second);
+        assertEquals(1, first.getRates().size());
+        verify(repository, times(1)).findAllRates();
+    }
+
+    @Test
+    void reloadsAfterAWrite() {
+        PricingInfoRepository repository = mock(PricingInfoRepository.class);
+        when(repository.findAllRates())
+                .thenReturn(List.of(rate(1L)))
+                .thenReturn(List.of(rate(1L), rate(2L)));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        PricingService service = new PricingService(repository);
+
+        PricingRateTable before = service.getRateTable();
+        service.createPricing(new PricingInfo());
+        PricingRateTable after = service.getRateTable();
+
+        assertNotSame(before, after);
+        assertEquals(2, after.getRates().size());
+        verify(repository, times(2)).findAllRates();
+    }
+
+    private static PricingRate rate(Long id) {
+        return new PricingRate(id, 0.05, "vCPU-hour", 10L, "AWS", 100L, "Compute");
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.example.model.history.SimulationRun;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.VmStats;
+import org.example.repository.SimulationRunRepository;
+import org.example.simulation.config.SimulationConfig;
+import org.example.util.ResultSizeEstimator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SimulationHistoryServiceTest {
+    private static final long RESULT_BYTES = ResultSizeEstimator.estimateBytes(result());
+
+    private EntityManager entityManager;
+    private PreparedStatement statement;
+    private DataSource dataSource;
+    private SimpleMeterRegistry registry;
+    private SimulationHistoryService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        entityManager = mock(EntityManager.class);
+        statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void ignoresRunsWhenDisabled() {
+        service = create(false, 4 * RESULT_BYTES);
+
+        assertFalse(service.isEnabled());
+        assertFalse(service.record("run-1", config(), result()));
+        assertEquals(0, service.getQueuedRunCount());
+    }
+
+    @Test
+    void writesRunsWithTheirRowsInTheBackground() throws SQLException {
+        service = create(true, 4 * RESULT_BYTES);
+
+        assertTrue(service.record("run-1", config(), result()));
+        awaitCount("written", 1);
+
+        ArgumentCaptor<SimulationRun> run = ArgumentCaptor.forClass(SimulationRun.class);
+        verify(entityManager).persist(run.capture());
+        assertEquals("run-1", run.getValue().getId());
+        assertEquals(2, run.getValue().getVms());
+        assertEquals(3, run.getValue().getCloudlets());
+        assertTrue(run.getValue().getSummaryJson().startsWith("{"));
+        // Without PostgreSQL's COPY, the two VM and three cloudlet rows are inserted one by one
+        verify(statement, times(5)).setString(1, "run-1");
+        verify(statement, times(5)).executeUpdate();
+    }
+
+    @Test
+    void keepsWritingAfterAFailedTransaction() {
+        doThrow(new IllegalStateException("constraint violation"))
+                .doNothing()
+                .when(entityManager).persist(any());
+        service = create(true, 4 * RESULT_BYTES);
+
+        service.record("run-1", config(), result());
+        awaitCount("failed", 1);
+        service.record("run-2", config(), result());
+        awaitCount("written", 1);
+    }
+
+    @Test
+    void dropsRunsWhenTheQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(entityManager).persist(any());
+        service = create(true, 2 * RESULT_BYTES);
+
+        assertTrue(service.record("run-1", config(), result()));
+        // run-1 counts until the writer is done with it, so the budget has room for exactly one more
+        await(() -> service.getQueuedRunCount() == 0);
+        assertTrue(service.record("run-2", config(), result()));
+        assertFalse(service.record("run-3", config(), result()));
+        assertEquals(1.0, registry.get("cloudsim.history.runs").tag("result", "dropped").functionCounter().count());
+
+        release.countDown();
+        awaitCount("written", 2);
+    }
+
+    @Test
+    void repeatedResultRefersToTheRowsOfItsFirstRun() throws SQLException {
+        service = create(true, 4 * RESULT_BYTES);
+        SimulationResult result = result();
+
+        service.record("run-1", config(), result);
+        service.record("run-2", config(), result);
+        awaitCount("written", 2);
+
+        ArgumentCaptor<SimulationRun> runs = ArgumentCaptor.forClass(SimulationRun.class);
+        verify(entityManager, times(2)).persist(runs.capture());
+        assertNull(runs.getAllValues().get(0).getSourceRunId());
+        assertEquals("run-1", runs.getAllValues().get(1).getSourceRunId());
+        verify(statement, times(5)).setString(1, "run-1");
+        verify(statement, never()).setString(1, "run-2");
+        await(() -> service.getQueuedBytes() == 0);
+    }
+
+    @Test
+    void stopsAcceptingRunsOnShutdown() throws InterruptedException {
+        service = create(true, 4 * RESULT_BYTES);
+
+        service.shutdown();
+
+        assertFalse(service.record("run-1", config(), result()));
+    }
+
+    private SimulationHistoryService create(boolean enabled, long maxQueuedBytes) {
+        SimulationHistoryService created = new SimulationHistoryService(mock(SimulationRunRepository.class),
+                new ObjectMapper(), mock(PlatformTransactionManager.class), dataSource, enabled, maxQueuedBytes, 16);
+        ReflectionTestUtils.setField(created, "entityManager", entityManager);
+        created.bindTo(registry);
+        return created;
+    }
+
+    private void awaitCount(String result, double expected) {
+        await(() -> registry.get("cloudsim.history.runs").tag("result", result).functionCounter().count() == expected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for the history writer");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static SimulationConfig config() {
+        return new SimulationConfig(1, 2, 2, 3);
+    }
+
+    private static SimulationResult result() {
+        List<VmStats> vms = List.of(
+                new VmStats(0, 0, 0, 2, 1000, 2048, 10_000, 1000),
+                new VmStats(1, 1, 0, 1, 1000, 1024, 10_000, 1000));
+        List<CloudletStats> cloudlets = List.of(
+                new CloudletStats(0, 0, 0, 1, 10_000, 10, 0, 10, "SUCCESS"),
+                new CloudletStats(1, 1, 0, 1, 10_000, 10, 0, 10, "SUCCESS"),
+                new CloudletStats(2, 0, 0, 1, 10_000, 10, 10, 20, "SUCCESS"));
+        return new SimulationResult(List.of(), vms, cloudlets, new SimulationSummary());
+    }
+}
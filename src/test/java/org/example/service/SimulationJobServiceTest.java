@@ -0,0 +1,181 @@
+package org.example.service;
+
+import org.example.model.admission.CostEstimate;
+import org.example.model.job.JobStatus;
+import org.example.model.job.SimulationJob;
+import org.example.model.job.SimulationProgress;
+import org.example.model.result.SimulationResult;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SimulationJobServiceTest {
+    private static final long BUDGET = 1L << 30;
+    private static final SimulationConfig CONFIG = new SimulationConfig(1, 1, 1, 1);
+
+    private CloudSimService cloudSimService;
+    private AdmissionService admissionService;
+    private SimulationJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        cloudSimService = mock(CloudSimService.class);
+        when(cloudSimService.createSimulator(any()))
+                .thenAnswer(invocation -> new CloudSimPlusSimulator(invocation.getArgument(0)));
+        admissionService = new AdmissionService(true, BUDGET, BUDGET, 0, "reject", "traces", 256);
+        jobService = new SimulationJobService(cloudSimService, admissionService, 1, 1, 10, 250);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void completesJobAndReleasesBudget() throws Exception {
+        when(cloudSimService.runSimulation(any(), any())).thenReturn(new SimulationResult(List.of(), List.of(), List.of(), null));
+
+        SimulationJob job = jobService.submit(CONFIG);
+        job.getFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertSame(job, jobService.getJob(job.getId()).orElseThrow());
+        // The result is stored under the job ID; a finished job drops its own reference to it
+        verify(cloudSimService).runSimulation(eq(job.getId()), any());
+        await(() -> admissionService.getInFlightHeapBytes() == 0);
+    }
+
+    @Test
+    void reportsFailedJob() {
+        when(cloudSimService.runSimulation(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        SimulationJob job = jobService.submit(CONFIG);
+
+        assertThrows(ExecutionException.class, () -> job.getFuture().get(10, TimeUnit.SECONDS));
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals("boom", job.getErrorMessage());
+    }
+
+    @Test
+    void rejectsJobsOnceWorkersAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(cloudSimService.runSimulation(any(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return new SimulationResult(List.of(), List.of(), List.of(), null);
+        });
+        SimulationJob running = jobService.submit(CONFIG);
+        await(() -> jobService.getActiveJobCount() == 1);
+        SimulationJob queued = jobService.submit(CONFIG);
+
+        assertThrows(RejectedExecutionException.class, () -> jobService.submit(CONFIG));
+
+        jobService.cancel(queued.getId());
+        assertEquals(JobStatus.CANCELLED, queued.getStatus());
+        release.countDown();
+        running.getFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void forgetsTheOldestFinishedJobs() throws Exception {
+        jobService.shutdown();
+        jobService = new SimulationJobService(cloudSimService, admissionService, 1, 10, 1, 250);
+        when(cloudSimService.runSimulation(any(), any())).thenReturn(new SimulationResult(List.of(), List.of(), List.of(), null));
+
+        SimulationJob first = jobService.submit(CONFIG);
+        first.getFuture().get(10, TimeUnit.SECONDS);
+        SimulationJob second = jobService.submit(CONFIG);
+        second.getFuture().get(10, TimeUnit.SECONDS);
+
+        await(() -> jobService.getJob(first.getId()).isEmpty());
+        assertTrue(jobService.getJob(second.getId()).isPresent());
+    }
+
+    @Test
+    void cancellingJobWaitingForBudgetFreesItsWorker() throws Exception {
+        CostEstimate running = new CostEstimate(BUDGET, 0);
+        admissionService.acquire(running);
+        SimulationJob job = jobService.submit(CONFIG);
+        await(() -> jobService.getActiveJobCount() == 1);
+
+        jobService.cancel(job.getId());
+
+        assertEquals(JobStatus.CANCELLED, job.getStatus());
+        await(() -> jobService.getActiveJobCount() == 0);
+        assertEquals(BUDGET, admissionService.getInFlightHeapBytes());
+        verify(cloudSimService, never()).runSimulation(any(), any());
+        admissionService.release(running);
+    }
+
+    @Test
+    void shutdownFinishesJobWaitingForBudget() throws Exception {
+        CostEstimate running = new CostEstimate(BUDGET, 0);
+        admissionService.acquire(running);
+        SimulationJob job = jobService.submit(CONFIG);
+        await(() -> jobService.getActiveJobCount() == 1);
+
+        jobService.shutdown();
+
+        await(() -> job.getStatus().isFinished());
+        assertTrue(job.getFuture().isDone());
+        admissionService.release(running);
+    }
+
+    @Test
+    void keepsTheLastProgressSnapshotOfARun() throws Exception {
+        SimulationConfig config = new SimulationConfig(1, 2, 2, 20, 42L);
+        when(cloudSimService.runSimulation(any(), any())).thenAnswer(invocation -> {
+            CloudSimPlusSimulator simulator = invocation.getArgument(1);
+            simulator.run();
+            return simulator.getResults();
+        });
+
+        SimulationJob job = jobService.submit(config);
+        job.getFuture().get(10, TimeUnit.SECONDS);
+
+        SimulationProgress progress = job.getProgress();
+        assertEquals(20, progress.getTotalCloudlets());
+        assertEquals(20, progress.getFinishedCloudlets());
+        assertEquals(100.0, progress.getPercentComplete());
+        assertTrue(progress.getClock() > 0);
+    }
+
+    @Test
+    void progressStreamsAreOnlyOpenedForKnownJobs() throws Exception {
+        when(cloudSimService.runSimulation(any(), any())).thenReturn(new SimulationResult(List.of(), List.of(), List.of(), null));
+        SimulationJob job = jobService.submit(CONFIG);
+        job.getFuture().get(10, TimeUnit.SECONDS);
+        await(() -> job.getStatus().isFinished());
+
+        assertTrue(jobService.subscribe("unknown").isEmpty());
+        // A finished job still answers with its status, then the stream ends
+        assertTrue(jobService.subscribe(job.getId()).isPresent());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.sleep(10);
+        }
+    }
+}
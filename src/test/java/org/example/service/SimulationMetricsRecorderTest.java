@@ -0,0 +1,60 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.model.result.SimulationMetrics;
+import org.example.model.result.SimulationSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationMetricsRecorderTest {
+
+    @Test
+    void recordsEveryPhaseAndFigureOfARun() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationMetricsRecorder recorder = new SimulationMetricsRecorder(registry);
+
+        recorder.record(summary(new SimulationMetrics(1.5, 2, 3, 40, 5, 1_000, 4_096, 2_048, 250, 45)));
+
+        assertEquals(1.0, registry.get("cloudsim.simulation.runs").counter().count());
+        assertEquals(1.5, registry.get("cloudsim.simulation.phase").tag("phase", "datacenters")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(40.0, registry.get("cloudsim.simulation.phase").tag("phase", "simulation")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1_000.0, registry.get("cloudsim.simulation.events").summary().totalAmount());
+        assertEquals(4_096.0, registry.get("cloudsim.simulation.allocated").summary().totalAmount());
+        assertEquals(2_048.0, registry.get("cloudsim.simulation.heap.peak.delta").summary().totalAmount());
+        assertEquals(250.0, registry.get("cloudsim.simulation.throughput").summary().totalAmount());
+    }
+
+    @Test
+    void skipsAllocationWhenTheJvmCannotMeasureIt() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationMetricsRecorder recorder = new SimulationMetricsRecorder(registry);
+
+        recorder.record(summary(new SimulationMetrics(1, 1, 1, 1, 1, 10, -1, 0, 5, -1)));
+
+        assertEquals(1.0, registry.get("cloudsim.simulation.runs").counter().count());
+        assertEquals(0, registry.get("cloudsim.simulation.allocated").summary().count());
+        assertEquals(1, registry.get("cloudsim.simulation.events").summary().count());
+    }
+
+    @Test
+    void ignoresRunsWithoutMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SimulationMetricsRecorder recorder = new SimulationMetricsRecorder(registry);
+
+        recorder.record(new SimulationSummary());
+        recorder.record(null);
+
+        assertEquals(0.0, registry.get("cloudsim.simulation.runs").counter().count());
+    }
+
+    private static SimulationSummary summary(SimulationMetrics metrics) {
+        SimulationSummary summary = new SimulationSummary();
+        summary.setMetrics(metrics);
+        return summary;
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.service;
+
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.result.TerminationReason;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.WorkloadType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SimulationResultCacheTest {
+    // Every empty result is estimated at the fixed overhead of 256 bytes
+    private static final long TWO_RESULTS = 2 * 256;
+
+    @TempDir
+    Path traceDirectory;
+
+    @Test
+    void answersRepeatedConfigFromCache() {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        AtomicInteger runs = new AtomicInteger();
+        SimulationConfig config = new SimulationConfig(1, 2, 3, 4);
+
+        SimulationResult first = cache.get(config, c -> countedResult(runs));
+        SimulationResult second = cache.get(new SimulationConfig(1, 2, 3, 4), c -> countedResult(runs));
+
+        assertSame(first, second);
+        assertEquals(1, runs.get());
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverBudget() {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        AtomicInteger runs = new AtomicInteger();
+        SimulationConfig a = new SimulationConfig(1, 1, 1, 1);
+        SimulationConfig b = new SimulationConfig(1, 1, 1, 2);
+        SimulationConfig c = new SimulationConfig(1, 1, 1, 3);
+
+        cache.get(a, config -> countedResult(runs));
+        cache.get(b, config -> countedResult(runs));
+        cache.get(a, config -> countedResult(runs));
+        cache.get(c, config -> countedResult(runs));
+        assertEquals(3, runs.get());
+        assertEquals(1, cache.getStats().getEvictions());
+
+        // b was the least recently used
+        cache.get(a, config -> countedResult(runs));
+        assertEquals(3, runs.get());
+        cache.get(b, config -> countedResult(runs));
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    void doesNotCacheCancelledOrWallClockLimitedRuns() {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        SimulationConfig config = new SimulationConfig(1, 1, 1, 1);
+
+        assertNull(cache.get(config, c -> null));
+        SimulationResult limited = result();
+        limited.getSummary().setTerminationReason(TerminationReason.WALL_CLOCK_LIMIT);
+        assertSame(limited, cache.get(config, c -> limited));
+
+        SimulationResult complete = result();
+        assertSame(complete, cache.get(config, c -> complete));
+        assertEquals(3, cache.getStats().getMisses());
+    }
+
+    @Test
+    void coalescesConcurrentRequestsForSameConfig() throws Exception {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        SimulationConfig config = new SimulationConfig(1, 1, 1, 1);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<SimulationResult> leader = CompletableFuture.supplyAsync(() -> cache.get(config, c -> {
+            leaderStarted.countDown();
+            await(release);
+            return countedResult(runs);
+        }));
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        CompletableFuture<SimulationResult> follower = CompletableFuture.supplyAsync(
+                () -> cache.get(config, c -> countedResult(runs)));
+        // Let the follower reach the in-flight run before it finishes
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(leader.get(10, TimeUnit.SECONDS), follower.get(10, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1, cache.getStats().getCoalesced());
+    }
+
+    @Test
+    void cancellingFollowerEndsItsWait() throws Exception {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        SimulationConfig config = new SimulationConfig(1, 1, 1, 1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean followerCancelled = new AtomicBoolean();
+
+        CompletableFuture<SimulationResult> leader = CompletableFuture.supplyAsync(() -> cache.get(config, c -> {
+            leaderStarted.countDown();
+            await(release);
+            return result();
+        }));
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        CompletableFuture<SimulationResult> follower = CompletableFuture.supplyAsync(
+                () -> cache.get(config, followerCancelled::get, c -> result()));
+        Thread.sleep(100);
+        followerCancelled.set(true);
+
+        assertNull(follower.get(10, TimeUnit.SECONDS));
+        assertFalse(leader.isDone());
+        release.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void followersOfWallClockLimitedRunRunThemselves() throws Exception {
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        SimulationConfig config = new SimulationConfig(1, 1, 1, 1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimulationResult limited = result();
+        limited.getSummary().setTerminationReason(TerminationReason.WALL_CLOCK_LIMIT);
+        SimulationResult own = result();
+
+        CompletableFuture<SimulationResult> leader = CompletableFuture.supplyAsync(() -> cache.get(config, c -> {
+            leaderStarted.countDown();
+            await(release);
+            return limited;
+        }));
+        leaderStarted.await(10, TimeUnit.SECONDS);
+        CompletableFuture<SimulationResult> follower = CompletableFuture.supplyAsync(() -> cache.get(config, c -> own));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(limited, leader.get(10, TimeUnit.SECONDS));
+        assertSame(own, follower.get(10, TimeUnit.SECONDS));
+        assertEquals(0, cache.getStats().getCoalesced());
+    }
+
+    @Test
+    void replacingTraceFileInvalidatesItsResults() throws Exception {
+        Path trace = traceDirectory.resolve("jobs.csv");
+        Files.writeString(trace, "submit,length,pes\n0,1000,1\n");
+        SimulationResultCache cache = newCache(TWO_RESULTS);
+        SimulationConfig config = new SimulationConfig.Builder(1, 1, 1, 0)
+                .workload(WorkloadType.CSV, "jobs.csv")
+                .build();
+
+        SimulationResult before = cache.get(config, c -> result());
+        assertSame(before, cache.get(config, c -> result()));
+
+        Files.writeString(trace, "submit,length,pes\n0,1000,1\n5,2000,2\n");
+        assertNotSame(before, cache.get(config, c -> result()));
+    }
+
+    private SimulationResultCache newCache(long maxBytes) {
+        return new SimulationResultCache(true, maxBytes, traceDirectory.toString());
+    }
+
+    private static SimulationResult countedResult(AtomicInteger runs) {
+        runs.incrementAndGet();
+        return result();
+    }
+
+    private static SimulationResult result() {
+        return new SimulationResult(List.of(), List.of(), List.of(), new SimulationSummary());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
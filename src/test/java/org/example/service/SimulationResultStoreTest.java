@@ -0,0 +1,145 @@
+package org.example.service;
+
+import org.example.model.result.SimulationResult;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+import org.example.util.ResultSizeEstimator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationResultStoreTest {
+    private static SimulationConfig config;
+    private static SimulationResult result;
+    private static long twoResults;
+
+    @TempDir
+    Path spillDirectory;
+
+    @BeforeAll
+    static void runSimulation() {
+        config = new SimulationConfig.Builder(1, 2, 2, 20).randomSeed(3).build();
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(config);
+        simulator.run();
+        result = simulator.getResults();
+        twoResults = 2 * ResultSizeEstimator.estimateBytes(result);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverBudget() {
+        SimulationResultStore store = new SimulationResultStore(twoResults, 600, "");
+
+        store.put("a", config, result);
+        store.put("b", config, result);
+        store.get("a");
+        store.put("c", config, result);
+
+        assertTrue(store.get("a").isPresent());
+        assertFalse(store.get("b").isPresent());
+        assertTrue(store.get("c").isPresent());
+        assertEquals("c", store.getLatest().orElseThrow().runId());
+        assertEquals(1, store.getStats().getEvictions());
+        assertEquals(twoResults, store.getStats().getSizeBytes());
+    }
+
+    @Test
+    void dropsRunsNotReadForTheTtl() {
+        SimulationResultStore store = new SimulationResultStore(twoResults, 0, "");
+
+        store.put("a", config, result);
+
+        assertFalse(store.get("a").isPresent());
+        assertEquals(1, store.getStats().getExpirations());
+        assertEquals(0, store.getStats().getSizeBytes());
+    }
+
+    @Test
+    void spillsEvictedRunsAndReadsThemBack() throws IOException {
+        SimulationResultStore store = newSpillingStore();
+        store.put("a", config, result);
+        store.put("b", config, result);
+        store.put("c", config, result);
+        assertEquals(1, store.getStats().getSpilledEntries());
+        assertEquals(1, spillFiles().size());
+
+        SimulationResult read = store.get("a").orElseThrow().result();
+
+        assertEquals(result.getCloudletStats().size(), read.getCloudletStats().size());
+        assertEquals(result.getSummary().getMakespan(), read.getSummary().getMakespan());
+        assertEquals(config, store.get("a").orElseThrow().config());
+    }
+
+    @Test
+    void readmitsSpilledRunsUnderTheBudget() throws IOException {
+        SimulationResultStore store = newSpillingStore();
+        store.put("a", config, result);
+        store.put("b", config, result);
+        store.put("c", config, result);
+
+        // Reading "a" brings it back into memory, evicting "b", the least recently used
+        SimulationResult first = store.get("a").orElseThrow().result();
+        SimulationResult second = store.get("a").orElseThrow().result();
+
+        assertSame(first, second);
+        assertEquals(2, store.getStats().getEntries());
+        assertEquals(1, store.getStats().getSpilledEntries());
+        assertTrue(store.getStats().getSizeBytes() <= twoResults);
+        assertEquals(2, store.getStats().getSpills());
+
+        // Evicting "a" again goes back to its file without writing it a second time
+        store.put("d", config, result);
+        store.put("e", config, result);
+        assertEquals(3, store.getStats().getSpills());
+        assertEquals(3, store.getStats().getSpilledEntries());
+        assertEquals(3, spillFiles().size());
+    }
+
+    @Test
+    void dropsCorruptSpillFiles() throws IOException {
+        SimulationResultStore store = newSpillingStore();
+        store.put("a", config, result);
+        store.put("b", config, result);
+        store.put("c", config, result);
+        Path file = spillFiles().get(0);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        assertFalse(store.get("a").isPresent());
+        assertEquals(0, store.getStats().getSpilledEntries());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void closeDeletesSpillFiles() throws IOException {
+        SimulationResultStore store = newSpillingStore();
+        store.put("a", config, result);
+        store.put("b", config, result);
+        store.put("c", config, result);
+        store.get("a");
+
+        store.close();
+
+        assertEquals(List.of(), spillFiles());
+        assertEquals(0, store.getStats().getEntries());
+    }
+
+    private SimulationResultStore newSpillingStore() {
+        return new SimulationResultStore(twoResults, 600, spillDirectory.toString());
+    }
+
+    private List<Path> spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.model.sweep.SweepRequest;
+import org.example.model.sweep.SweepResult;
+import org.example.model.sweep.SweepRow;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SweepServiceTest {
+    private final CountDownLatch firstPointStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstPoint = new CountDownLatch(1);
+
+    private CloudSimService cloudSimService;
+    private SweepService sweepService;
+
+    @BeforeEach
+    void setUp() {
+        cloudSimService = mock(CloudSimService.class);
+        when(cloudSimService.createSimulator(any()))
+                .thenAnswer(invocation -> new CloudSimPlusSimulator(invocation.getArgument(0)));
+        sweepService = newService(2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sweepService.shutdown();
+    }
+
+    @Test
+    void expandsEveryCombinationInOrder() {
+        SweepRequest request = new SweepRequest();
+        request.setDatacenters(List.of(1, 2));
+        request.setVms(List.of(3, 4, 5));
+        request.setSeeds(List.of(7L, 8L));
+
+        List<SimulationConfig> grid = SweepService.expandGrid(request, 100);
+
+        assertEquals(12, grid.size());
+        assertPoint(grid.get(0), 1, 5, 3, 30, 7);
+        assertPoint(grid.get(1), 1, 5, 3, 30, 8);
+        assertPoint(grid.get(11), 2, 5, 5, 30, 8);
+    }
+
+    @Test
+    void rejectsOversizedGridBeforeExpandingIt() {
+        SweepRequest request = new SweepRequest();
+        List<Integer> values = IntStream.rangeClosed(1, 10_000).boxed().toList();
+        request.setDatacenters(values);
+        request.setHostsPerDatacenter(values);
+        request.setVms(values);
+        request.setCloudlets(values);
+        request.setSeeds(Collections.nCopies(10_000, 1L));
+
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(1),
+                () -> assertThrows(IllegalArgumentException.class, () -> SweepService.expandGrid(request, 10_000)));
+    }
+
+    @Test
+    void rejectsSizesThatAreNotPositive() {
+        SweepRequest zero = new SweepRequest();
+        zero.setVms(List.of(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> SweepService.expandGrid(zero, 100));
+
+        SweepRequest missing = new SweepRequest();
+        missing.setCloudlets(Arrays.asList(10, null));
+        assertThrows(IllegalArgumentException.class, () -> SweepService.expandGrid(missing, 100));
+    }
+
+    @Test
+    void runsEveryPointInGridOrder() throws Exception {
+        SweepRequest request = new SweepRequest();
+        request.setDatacenters(List.of(1));
+        request.setHostsPerDatacenter(List.of(2));
+        request.setVms(List.of(2));
+        request.setCloudlets(List.of(4, 8, 16));
+
+        SweepResult result = sweepService.runSweep(request).get(60, TimeUnit.SECONDS);
+
+        assertEquals(3, result.getPoints());
+        assertEquals(2, result.getParallelism());
+        for (int i = 0; i < 3; i++) {
+            SweepRow row = result.getRows().get(i);
+            assertEquals(4 << i, row.getCloudlets());
+            assertNull(row.getError());
+            assertNotNull(row.getSummary());
+        }
+    }
+
+    @Test
+    void reportsAnErrorInOnePointOnItsRow() throws Exception {
+        doThrow(new StackOverflowError("too deep"))
+                .when(cloudSimService).createSimulator(argThat(config -> config.getNumberOfCloudlets() == 8));
+
+        SweepResult result = sweepService.runSweep(cloudletSweep(4, 8, 16)).get(60, TimeUnit.SECONDS);
+
+        assertNull(result.getRows().get(0).getError());
+        assertEquals("too deep", result.getRows().get(1).getError());
+        assertNull(result.getRows().get(2).getError());
+    }
+
+    @Test
+    void rejectsSweepsOncePendingPointsAreFull() throws Exception {
+        sweepService.shutdown();
+        sweepService = newService(1, 2);
+        blockFirstPoint();
+
+        CompletableFuture<SweepResult> running = sweepService.runSweep(cloudletSweep(4, 8));
+        assertThrows(RejectedExecutionException.class, () -> sweepService.runSweep(cloudletSweep(4)));
+
+        releaseFirstPoint.countDown();
+        running.get(60, TimeUnit.SECONDS);
+        sweepService.runSweep(cloudletSweep(4)).get(60, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void cancellingASweepSkipsPointsNotStarted() throws Exception {
+        sweepService.shutdown();
+        sweepService = newService(1, 3);
+        blockFirstPoint();
+
+        CompletableFuture<SweepResult> sweep = sweepService.runSweep(cloudletSweep(4, 8, 16));
+        assertTrue(firstPointStarted.await(10, TimeUnit.SECONDS));
+        sweep.cancel(false);
+        releaseFirstPoint.countDown();
+
+        verify(cloudSimService, after(500).times(1)).createSimulator(any());
+    }
+
+    private SweepService newService(int parallelism, int maxPendingPoints) {
+        AdmissionService admissionService = new AdmissionService(true, 0, 0, 0, "reject", "traces", 256);
+        return new SweepService(cloudSimService, new SimulationMetricsRecorder(new SimpleMeterRegistry()),
+                admissionService, parallelism, 100, maxPendingPoints);
+    }
+
+    private void blockFirstPoint() {
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                firstPointStarted.countDown();
+                releaseFirstPoint.await(10, TimeUnit.SECONDS);
+            }
+            return new CloudSimPlusSimulator(invocation.getArgument(0));
+        }).when(cloudSimService).createSimulator(any());
+    }
+
+    private static SweepRequest cloudletSweep(Integer... cloudlets) {
+        SweepRequest request = new SweepRequest();
+        request.setDatacenters(List.of(1));
+        request.setHostsPerDatacenter(List.of(2));
+        request.setVms(List.of(2));
+        request.setCloudlets(List.of(cloudlets));
+        return request;
+    }
+
+    private static void assertPoint(SimulationConfig config, int datacenters, int hosts, int vms, int cloudlets, long seed) {
+        assertEquals(datacenters, config.getNumberOfDatacenters());
+        assertEquals(hosts, config.getHostsPerDatacenter());
+        assertEquals(vms, config.getNumberOfVms());
+        assertEquals(cloudlets, config.getNumberOfCloudlets());
+        assertEquals(seed, config.getRandomSeed());
+    }
+}
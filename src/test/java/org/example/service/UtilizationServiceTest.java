@@ -0,0 +1,103 @@
+package org.example.service;
+
+import org.example.model.result.EntityUtilization;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.result.UtilizationPage;
+import org.example.model.stats.UtilizationSeries;
+import org.example.model.stats.UtilizationSeries.Entity;
+import org.example.model.stats.VmStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UtilizationServiceTest {
+
+    @Test
+    void pagesHostsWithTheirBuckets() {
+        SimulationResult result = result();
+
+        UtilizationPage page = UtilizationService.computePage(result, Entity.HOST, null, 1, 1);
+
+        assertEquals("host", page.getEntity());
+        assertEquals(2, page.getTotalElements());
+        assertEquals(2, page.getSamples());
+        assertArrayEquals(new double[]{0.0, 2.0}, page.getTimes());
+        EntityUtilization host = page.getContent().get(0);
+        assertEquals(11, host.getId());
+        assertEquals(1, host.getDatacenterId());
+        assertArrayEquals(new float[]{0.2f, 0.4f}, host.getCpu());
+    }
+
+    @Test
+    void readsVmsAfterTheHostsAndFiltersById() {
+        SimulationResult result = result();
+
+        UtilizationPage page = UtilizationService.computePage(result, Entity.VM, List.of(21L), 0, 10);
+
+        assertEquals("vm", page.getEntity());
+        assertEquals(1, page.getTotalElements());
+        EntityUtilization vm = page.getContent().get(0);
+        assertEquals(21, vm.getId());
+        assertEquals(1, vm.getDatacenterId());
+        assertArrayEquals(new float[]{0.9f, 0.7f}, vm.getCpu());
+        assertArrayEquals(new float[]{0.45f, 0.35f}, vm.getRam());
+    }
+
+    @Test
+    void returnsAnEmptyPageForAnUnsampledRun() {
+        SimulationResult result = new SimulationResult(List.of(), List.of(), List.of(), new SimulationSummary());
+
+        UtilizationPage page = UtilizationService.computePage(result, Entity.HOST, null, 0, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(0, page.getTotalElements());
+    }
+
+    @Test
+    void looksUpTheRun() {
+        CloudSimService cloudSimService = mock(CloudSimService.class);
+        when(cloudSimService.findResult("known")).thenReturn(Optional.of(result()));
+        when(cloudSimService.findResult("gone")).thenReturn(Optional.empty());
+        UtilizationService service = new UtilizationService(cloudSimService);
+
+        assertEquals(3, service.getUtilization("known", Entity.VM, null, 0, 10).orElseThrow().getTotalElements());
+        assertFalse(service.getUtilization("gone", Entity.VM, null, 0, 10).isPresent());
+    }
+
+    /**
+     * Two hosts and three VMs, each sampled twice into two buckets; a VM's CPU is 1.0 minus a
+     * tenth of its index at first and 0.2 lower next; its RAM is half its CPU.
+     */
+    private static SimulationResult result() {
+        long[] hostIds = {10, 11};
+        long[] vmIds = {20, 21, 22};
+        UtilizationSeries.Builder builder = new UtilizationSeries.Builder(2.0, 4, hostIds, new long[]{0, 1}, vmIds);
+        builder.add(new float[]{0.1f, 0.2f, 1.0f, 0.9f, 0.8f}, ram(1.0f, 0.9f, 0.8f), new float[5], 1);
+        builder.add(new float[]{0.3f, 0.4f, 0.8f, 0.7f, 0.6f}, ram(0.8f, 0.7f, 0.6f), new float[5], 1);
+
+        List<VmStats> vms = List.of(
+                new VmStats(20, 10, 0, 1, 1000, 1024, 10_000, 1000),
+                new VmStats(21, 11, 1, 1, 1000, 1024, 10_000, 1000),
+                new VmStats(22, 11, 1, 1, 1000, 1024, 10_000, 1000));
+        SimulationResult result = new SimulationResult(List.of(), vms, List.of(), new SimulationSummary());
+        result.setUtilization(builder.build());
+        return result;
+    }
+
+    private static float[] ram(float... vmCpu) {
+        float[] ram = new float[2 + vmCpu.length];
+        for (int i = 0; i < vmCpu.length; i++) {
+            ram[2 + i] = vmCpu[i] / 2;
+        }
+        return ram;
+    }
+}
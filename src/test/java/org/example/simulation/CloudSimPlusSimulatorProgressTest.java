@@ -0,0 +1,60 @@
+package org.example.simulation;
+
+import org.example.model.job.SimulationProgress;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CloudSimPlusSimulatorProgressTest {
+
+    @Test
+    void publishesMonotonicSnapshotsEndingWithTheFinalOne() {
+        List<SimulationProgress> snapshots = new ArrayList<>();
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(new SimulationConfig(1, 2, 2, 50, 42L))
+                .setProgressListener(snapshots::add, 0);
+
+        simulator.run();
+
+        // With no throttling every clock tick publishes, plus the snapshot at the end
+        assertTrue(snapshots.size() > 2);
+        for (int i = 1; i < snapshots.size(); i++) {
+            SimulationProgress previous = snapshots.get(i - 1);
+            SimulationProgress current = snapshots.get(i);
+            assertTrue(current.getClock() >= previous.getClock());
+            assertTrue(current.getFinishedCloudlets() >= previous.getFinishedCloudlets());
+            assertEquals(50, current.getTotalCloudlets());
+        }
+        SimulationProgress last = snapshots.get(snapshots.size() - 1);
+        assertEquals(simulator.getResults().getSummary().getCompletedCloudlets(), last.getFinishedCloudlets());
+        double avgExecutionTime = simulator.getResults().getSummary().getAvgExecutionTime();
+        // Summed in finish order rather than row order, so only equal up to rounding
+        assertEquals(avgExecutionTime, last.getAvgExecutionTime(), avgExecutionTime * 1e-12);
+    }
+
+    @Test
+    void throttlesSnapshotsByWallClock() {
+        List<SimulationProgress> snapshots = new ArrayList<>();
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(new SimulationConfig(1, 2, 2, 50, 42L))
+                .setProgressListener(snapshots::add, 60_000);
+
+        simulator.run();
+
+        // The first tick publishes; nothing else does within a minute, except the final snapshot
+        assertEquals(2, snapshots.size());
+        assertEquals(50, snapshots.get(1).getFinishedCloudlets());
+    }
+
+    @Test
+    void publishesNothingWithoutAListener() {
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(new SimulationConfig(1, 2, 2, 5, 42L));
+
+        simulator.run();
+
+        assertEquals(5, simulator.getResults().getSummary().getCompletedCloudlets());
+    }
+}
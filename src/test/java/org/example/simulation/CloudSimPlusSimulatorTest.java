@@ -0,0 +1,67 @@
+package org.example.simulation;
+
+import org.example.model.result.SimulationResult;
+import org.example.model.result.TerminationReason;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.VmStats;
+import org.example.simulation.config.SimulationConfig;
+import org.example.simulation.workload.ArrivalProcess;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CloudSimPlusSimulatorTest {
+
+    @Test
+    void reproducesARunFromItsSeed() {
+        SimulationResult first = run(new SimulationConfig(2, 3, 6, 60, 9));
+        SimulationResult second = run(new SimulationConfig(2, 3, 6, 60, 9));
+
+        assertEquals(describeVms(first.getVmStats()), describeVms(second.getVmStats()));
+        assertEquals(describeCloudlets(first.getCloudletStats()), describeCloudlets(second.getCloudletStats()));
+        assertEquals(first.getSummary().getMakespan(), second.getSummary().getMakespan());
+    }
+
+    @Test
+    void drawsOtherValuesForAnotherSeed() {
+        SimulationResult first = run(new SimulationConfig(2, 3, 6, 60, 9));
+        SimulationResult other = run(new SimulationConfig(2, 3, 6, 60, 10));
+
+        assertNotEquals(describeCloudlets(first.getCloudletStats()), describeCloudlets(other.getCloudletStats()));
+    }
+
+    @Test
+    void runsCloudletsArrivingOverTime() {
+        SimulationResult result = run(new SimulationConfig.Builder(1, 2, 4, 50)
+                .arrivals(ArrivalProcess.POISSON, 0.05)
+                .build());
+
+        assertEquals(TerminationReason.COMPLETED, result.getSummary().getTerminationReason());
+        assertEquals(50, result.getSummary().getCompletedCloudlets());
+        double lastStart = result.getCloudletStats().stream().mapToDouble(CloudletStats::getStartTime).max().orElse(0);
+        // At 0.05 per second, 50 arrivals take about 1000 s
+        assertEquals(1000, lastStart, 600);
+    }
+
+    private static SimulationResult run(SimulationConfig config) {
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(config);
+        simulator.run();
+        return simulator.getResults();
+    }
+
+    private static List<String> describeVms(List<VmStats> vms) {
+        return vms.stream()
+                .map(vm -> vm.getId() + "@" + vm.getHostId() + ":" + vm.getPes() + "x" + vm.getMips() + "/" + vm.getRam())
+                .toList();
+    }
+
+    private static List<String> describeCloudlets(List<CloudletStats> cloudlets) {
+        return cloudlets.stream()
+                .map(c -> c.getId() + "@" + c.getVmId() + ":" + c.getLength() + "x" + c.getPes() + "=" + c.getFinishTime())
+                .sorted()
+                .toList();
+    }
+}
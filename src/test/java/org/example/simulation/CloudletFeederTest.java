@@ -0,0 +1,19 @@
+package org.example.simulation;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.example.simulation.workload.WorkloadSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class CloudletFeederTest {
+
+    @Test
+    void rejectsBrokerWhoseFinishedCloudletsCannotBeReleased() {
+        WorkloadSource source = mock(WorkloadSource.class);
+        DatacenterBroker broker = mock(DatacenterBroker.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new CloudletFeeder(source, broker, spec -> null));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.simulation;
+
+import org.example.model.result.SimulationMetrics;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunInstrumentationTest {
+
+    @Test
+    void timesEachPhaseAndCountsEvents() throws InterruptedException {
+        RunInstrumentation instrumentation = new RunInstrumentation();
+        instrumentation.begin();
+        instrumentation.endDatacenters();
+        instrumentation.endVms();
+        instrumentation.endCloudlets();
+        for (int i = 0; i < 10_000; i++) {
+            instrumentation.onEventProcessed();
+        }
+        Thread.sleep(5);
+        instrumentation.endSimulation();
+        instrumentation.endCollection();
+
+        SimulationMetrics metrics = instrumentation.toMetrics(100);
+
+        assertEquals(10_000, metrics.getEventsProcessed());
+        assertTrue(metrics.getSimulationMillis() >= 5);
+        assertEquals(metrics.getDatacentersMillis() + metrics.getVmsMillis() + metrics.getCloudletsMillis()
+                + metrics.getSimulationMillis() + metrics.getCollectionMillis(), metrics.getTotalMillis(), 1e-9);
+        assertEquals(100 / (metrics.getTotalMillis() / 1000), metrics.getCloudletsPerSecond(), 1e-6);
+        assertTrue(metrics.getPeakHeapDeltaBytes() >= 0);
+    }
+
+    @Test
+    void aRunReportsItsMetricsInTheSummary() {
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(new SimulationConfig(1, 2, 2, 10, 42L));
+        simulator.run();
+
+        SimulationMetrics metrics = simulator.getResults().getSummary().getMetrics();
+
+        assertTrue(metrics.getEventsProcessed() > 0);
+        assertTrue(metrics.getTotalMillis() > 0);
+        assertTrue(metrics.getCloudletsPerSecond() > 0);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.simulation.allocation;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VmAllocationPolicyIndexedBestFitTest {
+
+    @Test
+    void picksTheHostWithTheTightestCpuFit() {
+        List<Host> hosts = List.of(host(4, 1000, 8192), host(2, 1000, 8192), host(8, 1000, 8192));
+        VmAllocationPolicyIndexedBestFit policy = policyFor(hosts);
+
+        assertSame(hosts.get(1), policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+        assertSame(hosts.get(0), policy.findHostForVm(vm(3, 1000, 1024)).orElseThrow());
+    }
+
+    @Test
+    void tiesGoToTheFirstHostInTheList() {
+        List<Host> hosts = List.of(host(8, 1000, 8192), host(4, 1000, 8192), host(4, 1000, 8192));
+        VmAllocationPolicyIndexedBestFit policy = policyFor(hosts);
+
+        assertSame(hosts.get(1), policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+    }
+
+    @Test
+    void skipsHostsThatFailTheSuitabilityCheck() {
+        List<Host> hosts = List.of(host(2, 1000, 512), host(4, 1000, 8192));
+        VmAllocationPolicyIndexedBestFit policy = policyFor(hosts);
+
+        assertSame(hosts.get(1), policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+    }
+
+    @Test
+    void returnsEmptyWhenNoHostHasEnoughCapacity() {
+        VmAllocationPolicyIndexedBestFit policy = policyFor(List.of(host(2, 1000, 8192)));
+
+        Optional<Host> host = policy.findHostForVm(vm(2, 2000, 1024));
+
+        assertFalse(host.isPresent());
+    }
+
+    @Test
+    void placementUpdatesTheIndex() {
+        List<Host> hosts = List.of(host(4, 1000, 8192), host(6, 1000, 8192));
+        VmAllocationPolicyIndexedBestFit policy = policyFor(hosts);
+
+        Vm first = vm(4, 1000, 1024);
+        assertTrue(policy.allocateHostForVm(first, hosts.get(0)).fully());
+        assertSame(hosts.get(1), policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+
+        policy.deallocateHostForVm(first);
+        assertSame(hosts.get(0), policy.findHostForVm(vm(4, 1000, 1024)).orElseThrow());
+    }
+
+    @Test
+    void reindexesWhenHostsAreAdded() {
+        List<Host> hosts = new ArrayList<>(List.of(host(8, 1000, 8192)));
+        CloudSimPlus simulation = new CloudSimPlus();
+        VmAllocationPolicyIndexedBestFit policy = new VmAllocationPolicyIndexedBestFit();
+        DatacenterSimple datacenter = new DatacenterSimple(simulation, hosts, policy);
+        assertSame(hosts.get(0), policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+
+        Host tighter = host(2, 1000, 8192);
+        datacenter.addHost(tighter);
+
+        assertEquals(2, policy.getHostList().size());
+        assertSame(tighter, policy.findHostForVm(vm(2, 1000, 1024)).orElseThrow());
+    }
+
+    private static VmAllocationPolicyIndexedBestFit policyFor(List<Host> hosts) {
+        VmAllocationPolicyIndexedBestFit policy = new VmAllocationPolicyIndexedBestFit();
+        new DatacenterSimple(new CloudSimPlus(), new ArrayList<>(hosts), policy);
+        return policy;
+    }
+
+    private static Host host(int pes, int mips, int ram) {
+        List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < pes; i++) {
+            peList.add(new PeSimple(mips));
+        }
+        return new HostSimple(ram, 10_000, 1_000_000, peList).setVmScheduler(new VmSchedulerTimeShared());
+    }
+
+    private static Vm vm(int pes, int mips, int ram) {
+        return new VmSimple(mips, pes).setRam(ram).setBw(1000).setSize(10_000);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.simulation.broker;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatacenterBrokerLeastLoadedTest {
+
+    @Test
+    void sendsMoreWorkToTheFasterVm() {
+        CloudSimPlus simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(host(8)));
+        DatacenterBrokerLeastLoaded broker = new DatacenterBrokerLeastLoaded(simulation);
+        Vm large = vm(4);
+        Vm small = vm(1);
+        broker.submitVmList(List.of(large, small));
+        List<Cloudlet> cloudlets = cloudlets(10);
+        broker.submitCloudletList(cloudlets);
+
+        simulation.start();
+
+        // 4000 MIPS against 1000: the large VM is free again first until it holds four times
+        // the work, and wins ties as the VM with the most capacity.
+        assertEquals(8, cloudlets.stream().filter(c -> c.getVm() == large).count());
+        assertEquals(2, cloudlets.stream().filter(c -> c.getVm() == small).count());
+        assertTrue(cloudlets.stream().allMatch(Cloudlet::isFinished));
+    }
+
+    @Test
+    void spreadsEvenlyAcrossEqualVms() {
+        CloudSimPlus simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(host(8)));
+        DatacenterBrokerLeastLoaded broker = new DatacenterBrokerLeastLoaded(simulation);
+        List<Vm> vms = List.of(vm(2), vm(2), vm(2));
+        broker.submitVmList(vms);
+        List<Cloudlet> cloudlets = cloudlets(9);
+        broker.submitCloudletList(cloudlets);
+
+        simulation.start();
+
+        for (Vm vm : vms) {
+            assertEquals(3, cloudlets.stream().filter(c -> c.getVm() == vm).count());
+        }
+    }
+
+    @Test
+    void keepsCloudletsBoundToAVm() {
+        CloudSimPlus simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, List.of(host(8)));
+        DatacenterBrokerLeastLoaded broker = new DatacenterBrokerLeastLoaded(simulation);
+        Vm large = vm(4);
+        Vm small = vm(1);
+        broker.submitVmList(List.of(large, small));
+        List<Cloudlet> cloudlets = cloudlets(3);
+        broker.submitCloudletList(cloudlets);
+        broker.bindCloudletToVm(cloudlets.get(0), small);
+        broker.bindCloudletToVm(cloudlets.get(1), small);
+
+        simulation.start();
+
+        assertSame(small, cloudlets.get(0).getVm());
+        assertSame(small, cloudlets.get(1).getVm());
+        assertSame(large, cloudlets.get(2).getVm());
+    }
+
+    private static Host host(int pes) {
+        List<Pe> peList = new ArrayList<>();
+        for (int i = 0; i < pes; i++) {
+            peList.add(new PeSimple(1000));
+        }
+        return new HostSimple(16_384, 10_000, 1_000_000, peList).setVmScheduler(new VmSchedulerTimeShared());
+    }
+
+    private static Vm vm(int pes) {
+        return new VmSimple(1000, pes).setRam(1024).setBw(1000).setSize(10_000);
+    }
+
+    private static List<Cloudlet> cloudlets(int count) {
+        List<Cloudlet> cloudlets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cloudlets.add(new CloudletSimple(10_000, 1).setSizes(300));
+        }
+        return cloudlets;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.simulation.config;
+
+import org.example.simulation.workload.ArrivalProcess;
+import org.example.simulation.workload.WorkloadType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulationConfigTest {
+
+    @Test
+    void rejectsSizesBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(0, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, -1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, 1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, -5).build());
+    }
+
+    @Test
+    void replaysTheWholeTraceForZeroCloudlets() {
+        SimulationConfig config = new SimulationConfig.Builder(1, 1, 1, 0)
+                .workload(WorkloadType.SWF, "trace.swf")
+                .build();
+
+        assertEquals(0, config.getNumberOfCloudlets());
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, -1)
+                .workload(WorkloadType.SWF, "trace.swf")
+                .build());
+    }
+
+    @Test
+    void validatesArrivalsAndLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, 1)
+                .arrivals(ArrivalProcess.POISSON, 0)
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, 1)
+                .workload(WorkloadType.CSV, "trace.csv")
+                .arrivals(ArrivalProcess.BURSTY, 1)
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, 1)
+                .simulationTimeLimit(-1)
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig.Builder(1, 1, 1, 1)
+                .utilizationInterval(Double.NaN)
+                .build());
+    }
+
+    @Test
+    void batchConfigsIgnoreTheArrivalRate() {
+        SimulationConfig batch = new SimulationConfig.Builder(1, 1, 1, 1)
+                .arrivals(ArrivalProcess.BATCH, 5)
+                .build();
+
+        assertEquals(new SimulationConfig(1, 1, 1, 1), batch);
+        assertNotEquals(batch, new SimulationConfig(1, 1, 1, 1, 7));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.simulation.workload;
+
+import org.example.util.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrivalWorkloadSourceTest {
+    private static final int CLOUDLETS = 20_000;
+    private static final double RATE = 4;
+
+    @Test
+    void spreadsPoissonArrivalsAtTheMeanRate() {
+        List<CloudletSpec> specs = arrivals(ArrivalProcess.POISSON);
+
+        assertNonDecreasing(specs);
+        double lastArrival = specs.get(specs.size() - 1).getSubmissionDelay();
+        assertEquals(RATE, CLOUDLETS / lastArrival, RATE * 0.05);
+    }
+
+    @Test
+    void groupsBurstyArrivalsAtTheSameMeanRate() {
+        List<CloudletSpec> specs = arrivals(ArrivalProcess.BURSTY);
+
+        assertNonDecreasing(specs);
+        int sharedArrivals = 0;
+        for (int i = 1; i < specs.size(); i++) {
+            if (specs.get(i).getSubmissionDelay() == specs.get(i - 1).getSubmissionDelay()) {
+                sharedArrivals++;
+            }
+        }
+        // About 15 of every 16 cloudlets arrive with the one before
+        assertTrue(sharedArrivals > CLOUDLETS * 0.9, "shared arrivals: " + sharedArrivals);
+        double lastArrival = specs.get(specs.size() - 1).getSubmissionDelay();
+        assertEquals(RATE, CLOUDLETS / lastArrival, RATE * 0.25);
+    }
+
+    @Test
+    void leavesTheCloudletsThemselvesUnchanged() {
+        List<CloudletSpec> batch = new RandomWorkloadSource(new RandomGenerator(5), 100).readAll();
+        List<CloudletSpec> poisson = arrivals(ArrivalProcess.POISSON).subList(0, 100);
+
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).getLength(), poisson.get(i).getLength());
+            assertEquals(batch.get(i).getPes(), poisson.get(i).getPes());
+            assertEquals(batch.get(i).getFileSize(), poisson.get(i).getFileSize());
+        }
+    }
+
+    @Test
+    void rejectsBatchOrNonPositiveRates() {
+        WorkloadSource source = new RandomWorkloadSource(new RandomGenerator(5), 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrivalWorkloadSource(source, ArrivalProcess.BATCH, 1, new RandomGenerator(5)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrivalWorkloadSource(source, ArrivalProcess.POISSON, 0, new RandomGenerator(5)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrivalWorkloadSource(source, ArrivalProcess.POISSON, Double.NaN, new RandomGenerator(5)));
+    }
+
+    private static List<CloudletSpec> arrivals(ArrivalProcess process) {
+        RandomGenerator random = new RandomGenerator(5);
+        List<CloudletSpec> specs = new ArrayList<>(CLOUDLETS);
+        try (WorkloadSource source = new ArrivalWorkloadSource(new RandomWorkloadSource(random, CLOUDLETS),
+                process, RATE, random)) {
+            while (source.hasNext()) {
+                specs.add(source.next());
+            }
+        }
+        return specs;
+    }
+
+    private static void assertNonDecreasing(List<CloudletSpec> specs) {
+        for (int i = 1; i < specs.size(); i++) {
+            assertTrue(specs.get(i).getSubmissionDelay() >= specs.get(i - 1).getSubmissionDelay());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.simulation.workload;
+
+import org.example.util.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RandomWorkloadSourceTest {
+
+    @Test
+    void generatesTheSameCloudletsInParallelAndOneByOne() {
+        // Above the parallel threshold
+        int count = 20_000;
+        List<CloudletSpec> parallel = new RandomWorkloadSource(new RandomGenerator(3), count).readAll();
+        List<CloudletSpec> sequential = new ArrayList<>(count);
+        RandomWorkloadSource source = new RandomWorkloadSource(new RandomGenerator(3), count);
+        while (source.hasNext()) {
+            sequential.add(source.next());
+        }
+
+        assertEquals(count, parallel.size());
+        for (int i = 0; i < count; i++) {
+            assertSameSpec(sequential.get(i), parallel.get(i));
+        }
+    }
+
+    @Test
+    void generatesAnyCloudletIndependently() {
+        RandomWorkloadSource source = new RandomWorkloadSource(new RandomGenerator(3), 100);
+        List<CloudletSpec> all = source.readAll();
+
+        assertSameSpec(all.get(57), new RandomWorkloadSource(new RandomGenerator(3), 100).spec(57));
+        // More cloudlets do not change the first ones
+        assertSameSpec(all.get(99), new RandomWorkloadSource(new RandomGenerator(3), 1_000).spec(99));
+    }
+
+    private static void assertSameSpec(CloudletSpec expected, CloudletSpec actual) {
+        assertEquals(expected.getLength(), actual.getLength());
+        assertEquals(expected.getPes(), actual.getPes());
+        assertEquals(expected.getFileSize(), actual.getFileSize());
+        assertEquals(expected.getOutputSize(), actual.getOutputSize());
+        assertEquals(expected.getMaxCpuUtilization(), actual.getMaxCpuUtilization());
+        assertEquals(expected.getMaxRamUtilization(), actual.getMaxRamUtilization());
+    }
+}
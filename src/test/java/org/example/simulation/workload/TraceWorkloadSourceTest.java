@@ -0,0 +1,133 @@
+package org.example.simulation.workload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TraceWorkloadSourceTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysCsvColumnsInAnyOrder() throws IOException {
+        Path trace = write("jobs.csv", """
+                # exported from the scheduler
+                Cores, Arrival_Time, length-MI, fileSize
+                2, 100.5, 60000, 300
+                # paused
+
+                64, 103, 90000,
+                """);
+
+        List<CloudletSpec> specs = readAll(new CsvTraceWorkloadSource(trace, 0, 16));
+
+        assertEquals(2, specs.size());
+        // Arrivals are shifted so the first job arrives at zero
+        assertEquals(0, specs.get(0).getSubmissionDelay());
+        assertEquals(60_000, specs.get(0).getLength());
+        assertEquals(2, specs.get(0).getPes());
+        assertEquals(300, specs.get(0).getFileSize());
+        assertEquals(2.5, specs.get(1).getSubmissionDelay());
+        // Capped to the largest VM
+        assertEquals(16, specs.get(1).getPes());
+        assertEquals(1, specs.get(1).getFileSize());
+    }
+
+    @Test
+    void convertsCsvRuntimesToLengths() throws IOException {
+        Path trace = write("runtimes.csv", "submit,runtime,pes\n0,2.5,1\n");
+
+        CloudletSpec spec = readAll(new CsvTraceWorkloadSource(trace, 0, 8)).get(0);
+
+        assertEquals(Math.round(2.5 * TraceWorkloadSource.REFERENCE_MIPS), spec.getLength());
+    }
+
+    @Test
+    void rejectsCsvWithoutTheRequiredColumns() throws IOException {
+        Path noHeader = write("empty.csv", "# nothing here\n\n");
+        Path noSize = write("nosize.csv", "arrival,pes\n0,1\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new CsvTraceWorkloadSource(noHeader, 0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new CsvTraceWorkloadSource(noSize, 0, 8));
+    }
+
+    @Test
+    void reportsTheLineOfAMalformedRecord() throws IOException {
+        Path trace = write("bad.csv", "arrival,length,pes\n0,1000,1\n1,lots,1\n");
+
+        try (CsvTraceWorkloadSource source = new CsvTraceWorkloadSource(trace, 0, 8)) {
+            source.next();
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, source::next);
+            assertTrue(e.getMessage().startsWith("bad.csv:3:"), e.getMessage());
+        }
+    }
+
+    @Test
+    void replaysSwfJobsThatRan() throws IOException {
+        Path trace = write("log.swf", """
+                ; Version: 2.2
+                ; MaxProcs: 128
+                1   10  5  100   4  -1 -1   4  200 -1 1 1 1 1 1 -1 -1 -1
+                2   12  0   -1  -1  -1 -1   8   50 -1 0 1 1 1 1 -1 -1 -1
+                3   15  1   30  -1  -1 -1  32   60 -1 1 1 1 1 1 -1 -1 -1
+                4   20  2    0   2  -1 -1   2   10 -1 1 1 1 1 1 -1 -1 -1
+                """);
+
+        List<CloudletSpec> specs = readAll(new SwfTraceWorkloadSource(trace, 0, 16));
+
+        // Job 2 was cancelled and job 4 has no run time
+        assertEquals(2, specs.size());
+        assertEquals(Math.round(100 * TraceWorkloadSource.REFERENCE_MIPS), specs.get(0).getLength());
+        assertEquals(4, specs.get(0).getPes());
+        // Requested processors stand in for missing allocated ones, capped to the largest VM
+        assertEquals(16, specs.get(1).getPes());
+        assertEquals(5, specs.get(1).getSubmissionDelay());
+    }
+
+    @Test
+    void stopsAtTheLimit() throws IOException {
+        Path trace = write("many.csv", "arrival,length,pes\n0,10,1\n1,10,1\n2,10,1\n");
+
+        assertEquals(2, readAll(new CsvTraceWorkloadSource(trace, 2, 8)).size());
+    }
+
+    @Test
+    void resolvesTracesOnlyInsideTheDirectory() throws IOException {
+        Path trace = write("inside.csv", "arrival,length,pes\n");
+        Path outside = Files.writeString(directory.getParent().resolve("outside-" + directory.getFileName() + ".csv"), "");
+        try {
+            assertEquals(trace.toAbsolutePath().normalize(), WorkloadSources.resolveTrace(directory, "inside.csv"));
+            assertThrows(IllegalArgumentException.class, () -> WorkloadSources.resolveTrace(directory, "missing.csv"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> WorkloadSources.resolveTrace(directory, "../" + outside.getFileName()));
+            assertThrows(IllegalArgumentException.class, () -> WorkloadSources.resolveTrace(directory, " "));
+        } finally {
+            Files.delete(outside);
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    private static List<CloudletSpec> readAll(WorkloadSource source) {
+        List<CloudletSpec> specs = new ArrayList<>();
+        try (source) {
+            while (source.hasNext()) {
+                specs.add(source.next());
+            }
+            assertFalse(source.hasNext());
+        }
+        return specs;
+    }
+}
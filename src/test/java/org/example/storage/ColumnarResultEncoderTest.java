@@ -0,0 +1,118 @@
+package org.example.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.DatacenterStats;
+import org.example.model.stats.VmStats;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnarResultEncoderTest {
+    private static final ObjectMapper MAPPER = ColumnarResultEncoder.withFastDoubles(new ObjectMapper());
+
+    private static final List<CloudletStats> CLOUDLETS = List.of(
+            new CloudletStats(0, 1, 2, 4, 100_000, 12.5, 0.1, 12.6, "SUCCESS"),
+            new CloudletStats(1, 1, 2, 2, 5_000_000_000L, 1.0 / 3, 0.2, 0.2 + 1.0 / 3, "FAILED"),
+            new CloudletStats(2, 0, 2, 1, 50_000, 1e-9, 3, 3.000000001, "SUCCESS"));
+    private static final List<VmStats> VMS = List.of(
+            new VmStats(0, 5, 2, 2, 2500.5, 2048, 20_480, 1000),
+            new VmStats(1, 6, 2, 8, 4500, 8192, 40_960, 2000));
+
+    @Test
+    void writesColumnarJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarResultEncoder.writeJson(out, MAPPER, result());
+
+        JsonNode document = MAPPER.readTree(out.toByteArray());
+        JsonNode cloudlets = document.get("cloudletStats");
+        assertEquals(3, cloudlets.get("rows").asInt());
+        for (int row = 0; row < CLOUDLETS.size(); row++) {
+            CloudletStats expected = CLOUDLETS.get(row);
+            JsonNode columns = cloudlets.get("columns");
+            assertEquals(expected.getLength(), columns.get("length").get(row).asLong());
+            assertEquals(expected.getExecutionTime(), columns.get("executionTime").get(row).asDouble());
+            assertEquals(expected.getFinishTime(), columns.get("finishTime").get(row).asDouble());
+            String status = cloudlets.get("dictionaries").get("status").get(columns.get("status").get(row).asInt()).asText();
+            assertEquals(expected.getStatus(), status);
+        }
+        assertEquals(2500.5, document.get("vmStats").get("columns").get("mips").get(0).asDouble());
+        assertEquals(1, document.get("datacenterStats").size());
+    }
+
+    @Test
+    void writesBinaryColumnsAfterTheHeader() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarResultEncoder.writeBinary(out, MAPPER, result());
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(ColumnarResultEncoder.MAGIC, buffer.getInt());
+        assertEquals(ColumnarResultEncoder.VERSION, buffer.getInt());
+        int headerLength = buffer.getInt();
+        buffer.getInt();
+        byte[] headerBytes = new byte[headerLength];
+        buffer.get(headerBytes);
+        JsonNode header = MAPPER.readTree(new String(headerBytes, StandardCharsets.UTF_8));
+
+        int position = buffer.position();
+        position = skipColumns(header.get("vmStats"), position);
+        JsonNode cloudletColumns = header.get("cloudletStats").get("columns");
+        for (JsonNode column : cloudletColumns) {
+            position = (position + 7) & ~7;
+            String name = column.get("name").asText();
+            String type = column.get("type").asText();
+            for (int row = 0; row < CLOUDLETS.size(); row++) {
+                CloudletStats expected = CLOUDLETS.get(row);
+                switch (name) {
+                    case "id" -> {
+                        assertEquals("int32", type);
+                        assertEquals(expected.getId(), buffer.getInt(position + 4 * row));
+                    }
+                    case "length" -> {
+                        // 5e9 does not fit an int32
+                        assertEquals("int64", type);
+                        assertEquals(expected.getLength(), buffer.getLong(position + 8 * row));
+                    }
+                    case "executionTime" -> assertEquals(expected.getExecutionTime(), buffer.getDouble(position + 8 * row));
+                    default -> {
+                    }
+                }
+            }
+            position += widthOf(type) * CLOUDLETS.size();
+        }
+        assertEquals(out.size(), position);
+    }
+
+    private static int skipColumns(JsonNode table, int position) {
+        int rows = table.get("rows").asInt();
+        for (JsonNode column : table.get("columns")) {
+            position = (position + 7) & ~7;
+            position += widthOf(column.get("type").asText()) * rows;
+        }
+        return position;
+    }
+
+    private static int widthOf(String type) {
+        return switch (type) {
+            case "int64", "float64" -> 8;
+            case "int32" -> 4;
+            case "uint8" -> 1;
+            default -> throw new IllegalArgumentException(type);
+        };
+    }
+
+    private static SimulationResult result() {
+        return new SimulationResult(List.of(new DatacenterStats(2, 5, 40, 65_536, 1_000_000, 10_000)), VMS, CLOUDLETS,
+                new SimulationSummary());
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.storage;
+
+import org.example.model.result.SimulationResult;
+import org.example.model.result.SimulationSummary;
+import org.example.model.stats.CloudletStats;
+import org.example.model.stats.UtilizationSeries;
+import org.example.model.stats.VmStats;
+import org.example.simulation.CloudSimPlusSimulator;
+import org.example.simulation.broker.BrokerPolicy;
+import org.example.simulation.config.SimulationConfig;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultArchiveTest {
+    private static SimulationConfig config;
+    private static SimulationResult result;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void runSimulation() {
+        config = new SimulationConfig.Builder(2, 2, 4, 40)
+                .randomSeed(7)
+                .brokerPolicy(BrokerPolicy.LEAST_LOADED)
+                .utilizationInterval(1)
+                .build();
+        CloudSimPlusSimulator simulator = new CloudSimPlusSimulator(config);
+        simulator.run();
+        result = simulator.getResults();
+    }
+
+    @Test
+    void roundTripsConfigSummaryAndStats() throws IOException {
+        Path file = directory.resolve("run.csra");
+        ResultArchive.write(file, config, result);
+
+        ResultArchive archive = ResultArchive.open(file);
+        SimulationResult read = archive.getResult();
+
+        assertEquals(config, archive.getConfig());
+        assertEquals(Files.size(file), archive.getSizeBytes());
+        assertSummaryEquals(result.getSummary(), read.getSummary());
+        assertEquals(result.getDatacenterStats().size(), read.getDatacenterStats().size());
+        assertRowsEqual(result.getCloudletStats(), read.getCloudletStats());
+        assertVmsEqual(result.getVmStats(), read.getVmStats());
+        assertUtilizationEquals(result.getUtilization(), read.getUtilization());
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException {
+        Path file = directory.resolve("text.csra");
+        Files.writeString(file, "not an archive at all");
+
+        assertThrows(IOException.class, () -> ResultArchive.open(file));
+    }
+
+    @Test
+    void rejectsOtherVersions() throws IOException {
+        Path file = writeArchive();
+        patchInt(file, 4, ResultArchive.VERSION + 1);
+
+        assertThrows(IOException.class, () -> ResultArchive.open(file));
+    }
+
+    @Test
+    void rejectsHeaderLengthsOutsideTheFile() throws IOException {
+        Path negative = writeArchive();
+        patchInt(negative, 8, -1);
+        Path huge = directory.resolve("huge.csra");
+        Files.copy(negative, huge);
+        patchInt(huge, 8, Integer.MAX_VALUE);
+
+        assertThrows(IOException.class, () -> ResultArchive.open(negative));
+        assertThrows(IOException.class, () -> ResultArchive.open(huge));
+    }
+
+    @Test
+    void rejectsTruncatedFiles() throws IOException {
+        Path file = writeArchive();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 8);
+        }
+
+        assertThrows(IOException.class, () -> ResultArchive.open(file));
+    }
+
+    private Path writeArchive() throws IOException {
+        Path file = directory.resolve("run.csra");
+        ResultArchive.write(file, config, result);
+        return file;
+    }
+
+    private static void patchInt(Path file, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(value).flip(), position);
+        }
+    }
+
+    private static void assertSummaryEquals(SimulationSummary expected, SimulationSummary actual) {
+        assertEquals(expected.getTotalCloudlets(), actual.getTotalCloudlets());
+        assertEquals(expected.getCompletedCloudlets(), actual.getCompletedCloudlets());
+        assertEquals(expected.getMakespan(), actual.getMakespan());
+        assertEquals(expected.getVmLoadImbalance(), actual.getVmLoadImbalance());
+        assertEquals(expected.getTerminationReason(), actual.getTerminationReason());
+        assertEquals(expected.getExecutionTime().getP90(), actual.getExecutionTime().getP90());
+    }
+
+    private static void assertRowsEqual(List<CloudletStats> expected, List<CloudletStats> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            CloudletStats a = expected.get(i);
+            CloudletStats b = actual.get(i);
+            assertEquals(a.getId(), b.getId());
+            assertEquals(a.getVmId(), b.getVmId());
+            assertEquals(a.getDatacenterId(), b.getDatacenterId());
+            assertEquals(a.getPes(), b.getPes());
+            assertEquals(a.getLength(), b.getLength());
+            assertEquals(a.getExecutionTime(), b.getExecutionTime());
+            assertEquals(a.getStartTime(), b.getStartTime());
+            assertEquals(a.getFinishTime(), b.getFinishTime());
+            assertEquals(a.getStatus(), b.getStatus());
+        }
+    }
+
+    private static void assertVmsEqual(List<VmStats> expected, List<VmStats> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            VmStats a = expected.get(i);
+            VmStats b = actual.get(i);
+            assertEquals(a.getId(), b.getId());
+            assertEquals(a.getHostId(), b.getHostId());
+            assertEquals(a.getPes(), b.getPes());
+            assertEquals(a.getMips(), b.getMips());
+            assertEquals(a.getRam(), b.getRam());
+            assertEquals(a.getBandwidth(), b.getBandwidth());
+        }
+    }
+
+    private static void assertUtilizationEquals(UtilizationSeries expected, UtilizationSeries actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getBuckets(), actual.getBuckets());
+        assertEquals(expected.getSamplesPerBucket(), actual.getSamplesPerBucket());
+        assertEquals(expected.getSamples(), actual.getSamples());
+        assertEquals(expected.getEntityCount(), actual.getEntityCount());
+        for (int entity = 0; entity < expected.getEntityCount(); entity++) {
+            for (int bucket = 0; bucket < expected.getBuckets(); bucket++) {
+                assertEquals(expected.getCpu(entity, bucket), actual.getCpu(entity, bucket));
+                assertEquals(expected.getCpuPeak(entity, bucket), actual.getCpuPeak(entity, bucket));
+                assertEquals(expected.getRam(entity, bucket), actual.getRam(entity, bucket));
+            }
+        }
+    }
+}
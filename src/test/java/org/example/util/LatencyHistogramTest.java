@@ -0,0 +1,77 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+    // Half the width of a sub-bucket, relative to the value
+    private static final double RELATIVE_ERROR = 1.0 / 64;
+
+    @Test
+    void reportsNothingWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.getStdDev());
+    }
+
+    @Test
+    void approximatesPercentilesWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(11);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // Spread over six orders of magnitude
+            values[i] = Math.exp(random.nextDouble() * 14 - 7);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            double exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertEquals(exact, histogram.percentile(percentile), exact * RELATIVE_ERROR, "p" + percentile);
+        }
+        double max = values[values.length - 1];
+        assertEquals(max, histogram.percentile(100), max * RELATIVE_ERROR);
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(max, histogram.getMax());
+    }
+
+    @Test
+    void keepsExactMomentsAndStaysWithinTheRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (double value : new double[] {2, 4, 4, 4, 5, 5, 7, 9}) {
+            histogram.record(value);
+        }
+
+        assertEquals(8, histogram.getCount());
+        assertEquals(5, histogram.getMean(), 1e-12);
+        assertEquals(2, histogram.getStdDev(), 1e-12);
+        assertEquals(2, histogram.getMin());
+        assertEquals(9, histogram.getMax());
+        // Bucket midpoints, never outside the recorded range
+        assertEquals(9, histogram.percentile(100), 9 * RELATIVE_ERROR);
+        assertEquals(2, histogram.percentile(0), 2 * RELATIVE_ERROR);
+        assertEquals(4, histogram.percentile(50), 4 * RELATIVE_ERROR);
+    }
+
+    @Test
+    void countsNegativeAndZeroValuesInTheLowestBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-3);
+        histogram.record(0);
+        histogram.record(10);
+
+        assertEquals(-3, histogram.getMin());
+        // Zero and below share a bucket, reported as zero
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(10, histogram.percentile(100), 10 * RELATIVE_ERROR);
+    }
+}
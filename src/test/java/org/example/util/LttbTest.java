@@ -0,0 +1,46 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LttbTest {
+
+    @Test
+    void keepsEveryPointUnderTheThreshold() {
+        assertArrayEquals(new int[] {0, 1, 2, 3}, Lttb.downsample(4, i -> i, i -> i * i, 10));
+        assertArrayEquals(new int[0], Lttb.downsample(0, i -> i, i -> i, 3));
+    }
+
+    @Test
+    void keepsThresholdPointsIncludingBothEnds() {
+        int[] kept = Lttb.downsample(10_000, i -> i, Math::sin, 500);
+
+        assertEquals(500, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(9_999, kept[kept.length - 1]);
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i] > kept[i - 1]);
+        }
+    }
+
+    @Test
+    void keepsSpikesThatSamplingWouldMiss() {
+        int spike = 5_431;
+        int dip = 7_777;
+        int[] kept = Lttb.downsample(10_000, i -> i, i -> i == spike ? 100 : i == dip ? -100 : 1, 50);
+
+        assertTrue(Arrays.stream(kept).anyMatch(i -> i == spike));
+        assertTrue(Arrays.stream(kept).anyMatch(i -> i == dip));
+    }
+
+    @Test
+    void rejectsThresholdsBelowThree() {
+        assertThrows(IllegalArgumentException.class, () -> Lttb.downsample(10, i -> i, i -> i, 2));
+    }
+}
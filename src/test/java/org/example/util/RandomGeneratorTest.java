@@ -0,0 +1,53 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomGeneratorTest {
+
+    @Test
+    void derivesTheSameStreamWhateverWasDrawnBefore() {
+        RandomGenerator fresh = new RandomGenerator(42);
+        RandomGenerator used = new RandomGenerator(42);
+        for (int i = 0; i < 1_000; i++) {
+            used.nextDouble();
+        }
+
+        RandomGenerator a = fresh.derive(RandomGenerator.Stream.CLOUDLET, 7);
+        RandomGenerator b = used.derive(RandomGenerator.Stream.CLOUDLET, 7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(0, Long.MAX_VALUE), b.nextLong(0, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void separatesStreamsIndexesAndSeeds() {
+        RandomGenerator random = new RandomGenerator(42);
+        long base = random.derive(RandomGenerator.Stream.VM, 0).nextLong(0, Long.MAX_VALUE);
+
+        assertNotEquals(base, random.derive(RandomGenerator.Stream.HOST, 0).nextLong(0, Long.MAX_VALUE));
+        assertNotEquals(base, random.derive(RandomGenerator.Stream.VM, 1).nextLong(0, Long.MAX_VALUE));
+        assertNotEquals(base, new RandomGenerator(43).derive(RandomGenerator.Stream.VM, 0).nextLong(0, Long.MAX_VALUE));
+        // Nested derivation, as for hosts within a datacenter
+        RandomGenerator datacenter = random.derive(RandomGenerator.Stream.DATACENTER, 0);
+        assertEquals(datacenter.derive(RandomGenerator.Stream.HOST, 3).nextDouble(),
+                random.derive(RandomGenerator.Stream.DATACENTER, 0).derive(RandomGenerator.Stream.HOST, 3).nextDouble());
+    }
+
+    @Test
+    void drawsSteppedValuesWithinTheRange() {
+        RandomGenerator random = new RandomGenerator(1);
+        for (int i = 0; i < 10_000; i++) {
+            long length = random.nextLong(50_000, 5_000_001, 50_000);
+            assertTrue(length >= 50_000 && length <= 5_000_000, "length " + length);
+            assertEquals(0, length % 50_000);
+
+            int ram = random.nextInt(1024, 128 * 1024 + 1, 1024);
+            assertTrue(ram >= 1024 && ram <= 128 * 1024, "ram " + ram);
+            assertEquals(0, ram % 1024);
+        }
+    }
+}